@@ -2,7 +2,11 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -11,6 +15,7 @@ import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventThread;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -25,13 +30,20 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.UserPrefs.AddressBookFormat;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookConverter;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
+import seedu.address.storage.SqlAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.StreamingXmlAddressBookStorage;
 import seedu.address.storage.UserPrefsStorage;
-import seedu.address.storage.XmlAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -51,10 +63,12 @@ public class MainApp extends Application {
     protected Config config;
     protected UserPrefs userPrefs;
 
+    private long initStartNanos;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
+        initStartNanos = System.nanoTime();
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
@@ -62,14 +76,14 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, config);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = initLogic(model);
 
         ui = new UiManager(logic, config, userPrefs);
 
@@ -77,11 +91,87 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns an {@code AddressBookStorage} for the address book file format in {@code userPrefs}. <br>
+     * If there is no data file in that format yet, the data file in another format, if any, is converted to it,
+     * preferring the xml file.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        Path xmlFilePath = userPrefs.getAddressBookFilePath();
+        // in order of preference as the source of a conversion
+        Map<AddressBookFormat, AddressBookStorage> storages = new EnumMap<>(AddressBookFormat.class);
+        storages.put(AddressBookFormat.XML,
+                initJournal(new StreamingXmlAddressBookStorage(xmlFilePath), userPrefs));
+        storages.put(AddressBookFormat.BINARY, initJournal(
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(xmlFilePath)), userPrefs));
+        storages.put(AddressBookFormat.SEGMENTED, initJournal(
+                new SegmentedAddressBookStorage(SegmentedAddressBookStorage.getManifestFilePath(xmlFilePath)),
+                userPrefs));
+        // the database already writes each change as it is saved, so it is never journaled
+        storages.put(AddressBookFormat.SQL,
+                new SqlAddressBookStorage(SqlAddressBookStorage.getDatabaseFilePath(xmlFilePath)));
+        storages.put(AddressBookFormat.JSON, initJournal(
+                new JsonAddressBookStorage(JsonAddressBookStorage.getJsonFilePath(xmlFilePath, false)), userPrefs));
+        storages.put(AddressBookFormat.JSON_GZIP, initJournal(
+                new JsonAddressBookStorage(JsonAddressBookStorage.getJsonFilePath(xmlFilePath, true), true),
+                userPrefs));
+
+        AddressBookStorage addressBookStorage = storages.get(userPrefs.getAddressBookFormat());
+        for (AddressBookStorage otherStorage : storages.values()) {
+            if (otherStorage == addressBookStorage) {
+                continue;
+            }
+            try {
+                if (AddressBookConverter.convertIfMissing(otherStorage, addressBookStorage)) {
+                    break;
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to convert " + otherStorage.getAddressBookFilePath() + " : "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        return addressBookStorage;
+    }
+
+    /**
+     * Returns {@code addressBookStorage}, journaled if journaling is turned on in {@code userPrefs}.
+     */
+    private AddressBookStorage initJournal(AddressBookStorage addressBookStorage, UserPrefs userPrefs) {
+        if (!userPrefs.isAddressBookJournaled()) {
+            return addressBookStorage;
+        }
+        return new JournaledAddressBookStorage(addressBookStorage, userPrefs.getAddressBookJournalMaxOperations(),
+                userPrefs.getAddressBookJournalMaxBytes());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with {@code userPrefs}, to which the data from {@code storage}'s address book is
+     * added section by section while it is read on a background thread, so that the UI can be shown at once.
+     */
+    protected Model initModelManager(Storage storage, UserPrefs userPrefs) {
+        CompletableFuture<ReadOnlyAddressBook> initialData =
+                CompletableFuture.supplyAsync(() -> readInitialData(storage), runnable -> {
+                    Thread thread = new Thread(runnable, "AddressBook loader");
+                    thread.setDaemon(true);
+                    thread.start();
+                });
+        return new ModelManager(initialData, userPrefs, Platform::runLater);
+    }
+
+    /**
+     * Returns a {@code LogicManager} for {@code model} that runs the commands entered one at a time on a background
+     * thread, changing the model only on the JavaFX application thread, so that parsing commands and the file work
+     * of commands such as imports and exports do not freeze the UI.
+     */
+    protected Logic initLogic(Model model) {
+        return new LogicManager(model, LogicManager.newCommandExecutor(), Platform::runLater);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    protected ReadOnlyAddressBook readInitialData(Storage storage) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -97,8 +187,7 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with empty data");
             initialData = new AddressBook();
         }
-
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -173,19 +262,27 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
-    private void initEventsCenter() {
+    /**
+     * Registers the app's event handlers, and runs the event handlers of the UI on the JavaFX application thread.
+     */
+    protected void initEventsCenter() {
         EventsCenter.getInstance().registerHandler(this);
+        EventsCenter.getInstance().setExecutor(EventThread.FX, Platform::runLater);
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        logger.info("Ready for commands in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStartNanos)
+                + " ms");
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        EventsCenter.getInstance().getHandlerStatistics().forEach(statistics -> logger.fine(statistics::toString));
+        storage.flushAddressBook();
         ui.stop();
         try {
             storage.saveUserPrefs(userPrefs);
@@ -16,6 +16,8 @@ public class Config {
     private String appTitle = "SocialCare";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveDebounceMillis = 300;
+    private long saveMaxDelayMillis = 2000;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +43,28 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long the data is left unsaved after a change, waiting for further changes to save with it.
+     */
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    /**
+     * Returns the longest the data is left unsaved after a change, however often it keeps changing.
+     */
+    public long getSaveMaxDelayMillis() {
+        return saveMaxDelayMillis;
+    }
+
+    public void setSaveMaxDelayMillis(long saveMaxDelayMillis) {
+        this.saveMaxDelayMillis = saveMaxDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +78,14 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && saveDebounceMillis == o.saveDebounceMillis
+                && saveMaxDelayMillis == o.saveMaxDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, saveDebounceMillis, saveMaxDelayMillis);
     }
 
     @Override
@@ -68,6 +94,7 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nSave debounce : " + saveDebounceMillis + " ms, at most " + saveMaxDelayMillis + " ms");
         return sb.toString();
     }
 
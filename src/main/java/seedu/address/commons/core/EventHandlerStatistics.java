@@ -0,0 +1,42 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The number of events that an event handler has handled, and how long it took to handle them.
+ */
+public class EventHandlerStatistics {
+
+    public final String handlerName;
+    public final long handledCount;
+    /** The number of events that were not handled because a later event of the same class superseded them. */
+    public final long coalescedCount;
+    public final long totalNanos;
+    public final long maxNanos;
+
+    public EventHandlerStatistics(String handlerName, long handledCount, long coalescedCount, long totalNanos,
+            long maxNanos) {
+        this.handlerName = handlerName;
+        this.handledCount = handledCount;
+        this.coalescedCount = coalescedCount;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Returns the mean time taken to handle an event, in milliseconds, or 0 if no event has been handled.
+     */
+    public double getMeanMillis() {
+        return handledCount == 0 ? 0 : (double) totalNanos / handledCount / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxMillis() {
+        return (double) maxNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d handled, %d coalesced, mean %.2f ms, max %.2f ms", handlerName, handledCount,
+                coalescedCount, getMeanMillis(), getMaxMillis());
+    }
+}
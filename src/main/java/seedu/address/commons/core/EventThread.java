@@ -0,0 +1,12 @@
+package seedu.address.commons.core;
+
+/**
+ * The threads that an event handler can be run on, declared with {@link HandleOn}.
+ */
+public enum EventThread {
+    /** The thread that posted the event, before {@code post} returns. */
+    POSTING,
+
+    /** The JavaFX application thread, some time after the event is posted. */
+    FX
+}
@@ -1,21 +1,63 @@
 package seedu.address.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
 
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Event handlers are the methods of the registered handlers that are annotated with {@code @Subscribe} and take a
+ * single event. An event is passed to every handler that takes its class, a superclass of it or an interface it
+ * implements, with the handlers of subtypes before those of their supertypes. Each handler is run on the thread
+ * declared with {@link HandleOn}, or on the thread that posted the event if it declares none or if no executor has
+ * been set for the declared thread with {@link #setExecutor(EventThread, Executor)}.
+ *
+ * Handlers run on the posting thread are run before {@code post} returns, except that events posted while a handler
+ * is running on the same thread are handled after it returns, in the order posted. Events to be handled on another
+ * thread that {@link BaseEvent#isCoalescable() can be coalesced} replace the event of the same class that is still
+ * waiting to be handled by the same handler, if any, instead of being handled separately.
  */
 public class EventsCenter {
+    /** Handlers that take longer than a frame to handle an event are logged. */
+    private static final long SLOW_HANDLER_NANOS = TimeUnit.MILLISECONDS.toNanos(16);
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    private final Map<Class<?>, List<Handler>> handlersByEventClass = new ConcurrentHashMap<>();
+    // the classes and interfaces of each event class posted, subtypes before supertypes
+    private final Map<Class<?>, Set<? extends Class<?>>> supertypesByEventClass = new ConcurrentHashMap<>();
+    private final List<Handler> handlers = new CopyOnWriteArrayList<>();
+    private final Map<EventThread, Executor> executors = new EnumMap<>(EventThread.class);
+
+    private final ThreadLocal<Queue<Runnable>> queuedDeliveries = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDispatching = ThreadLocal.withInitial(() -> false);
 
     private EventsCenter() {
-        eventBus = new EventBus();
     }
 
     public static EventsCenter getInstance() {
@@ -29,17 +71,179 @@ public class EventsCenter {
         instance = null;
     }
 
+    /**
+     * Registers the event handlers of {@code handler}.
+     */
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        requireNonNull(handler);
+        Set<List<Object>> registeredSignatures = new HashSet<>();
+        for (Class<?> clazz = handler.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class) || method.isSynthetic()) {
+                    continue;
+                }
+                if (method.getParameterCount() != 1) {
+                    throw new IllegalArgumentException("Event handler " + method + " must take a single event");
+                }
+                if (!registeredSignatures.add(Arrays.asList(method.getName(), method.getParameterTypes()[0]))) {
+                    continue; // overridden by a method already registered
+                }
+                method.setAccessible(true);
+                HandleOn handleOn = method.getAnnotation(HandleOn.class);
+                Handler eventHandler = new Handler(handler, method,
+                        handleOn == null ? EventThread.POSTING : handleOn.value());
+                handlers.add(eventHandler);
+                handlersByEventClass.computeIfAbsent(method.getParameterTypes()[0],
+                        unused -> new CopyOnWriteArrayList<>()).add(eventHandler);
+            }
+        }
+    }
+
+    /**
+     * Runs the handlers declared to be run on {@code thread} with {@code executor}.
+     * Handlers declared to be run on the posting thread are always run on it.
+     */
+    public synchronized void setExecutor(EventThread thread, Executor executor) {
+        requireNonNull(executor);
+        if (thread == EventThread.POSTING) {
+            throw new IllegalArgumentException("Handlers run on the posting thread cannot be given an executor");
+        }
+        executors.put(thread, executor);
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        requireNonNull(event);
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+
+        Set<? extends Class<?>> supertypes = supertypesByEventClass.computeIfAbsent(event.getClass(),
+                eventClass -> TypeToken.of(eventClass).getTypes().rawTypes());
+        for (Class<?> clazz : supertypes) {
+            List<Handler> eventHandlers = handlersByEventClass.get(clazz);
+            if (eventHandlers == null) {
+                continue;
+            }
+            for (Handler handler : eventHandlers) {
+                Executor executor = getExecutor(handler.thread);
+                if (executor == null) {
+                    queuedDeliveries.get().add(() -> handler.handle(event));
+                } else {
+                    handler.handleLater(event, executor);
+                }
+            }
+        }
+        dispatchQueuedDeliveries();
         return this;
     }
 
+    /**
+     * Returns how many events each handler has handled and how long it took, in the order the handlers were
+     * registered.
+     */
+    public List<EventHandlerStatistics> getHandlerStatistics() {
+        List<EventHandlerStatistics> statistics = new ArrayList<>();
+        for (Handler handler : handlers) {
+            statistics.add(handler.getStatistics());
+        }
+        return statistics;
+    }
+
+    private synchronized Executor getExecutor(EventThread thread) {
+        return executors.get(thread);
+    }
+
+    /**
+     * Handles the events queued on this thread, unless this thread is already handling an event, in which case
+     * they are handled once it has finished.
+     */
+    private void dispatchQueuedDeliveries() {
+        if (isDispatching.get()) {
+            return;
+        }
+
+        isDispatching.set(true);
+        try {
+            Queue<Runnable> deliveries = queuedDeliveries.get();
+            Runnable delivery;
+            while ((delivery = deliveries.poll()) != null) {
+                delivery.run();
+            }
+        } finally {
+            isDispatching.set(false);
+        }
+    }
+
+    /**
+     * An event handler, with the statistics of the events it has handled.
+     */
+    private static class Handler {
+        private final Object target;
+        private final Method method;
+        private final EventThread thread;
+        private final String name;
+
+        /** The coalescable events waiting to be handled on another thread, by event class. */
+        private final Map<Class<?>, BaseEvent> pendingEvents = new ConcurrentHashMap<>();
+
+        private final LongAdder handledCount = new LongAdder();
+        private final LongAdder coalescedCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        Handler(Object target, Method method, EventThread thread) {
+            this.target = target;
+            this.method = method;
+            this.thread = thread;
+            name = method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+        }
+
+        /**
+         * Handles {@code event} with {@code executor}, or replaces the event of the same class waiting to be handled
+         * if {@code event} can be coalesced.
+         */
+        void handleLater(BaseEvent event, Executor executor) {
+            if (!event.isCoalescable()) {
+                executor.execute(() -> handle(event));
+                return;
+            }
+
+            Class<?> eventClass = event.getClass();
+            if (pendingEvents.put(eventClass, event) != null) {
+                coalescedCount.increment();
+                return;
+            }
+            executor.execute(() -> handle(pendingEvents.remove(eventClass)));
+        }
+
+        /**
+         * Handles {@code event}, one event at a time, logging any exception thrown by the handler.
+         */
+        synchronized void handle(BaseEvent event) {
+            long startNanos = System.nanoTime();
+            try {
+                method.invoke(target, event);
+            } catch (InvocationTargetException e) {
+                logger.log(Level.SEVERE, e.getCause(), () -> "Exception thrown by event handler " + name
+                        + " for event " + event);
+            } catch (IllegalAccessException e) {
+                throw new AssertionError("Event handlers are made accessible when registered", e);
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            handledCount.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            if (elapsedNanos > SLOW_HANDLER_NANOS) {
+                logger.info(() -> "Event handler " + name + " took " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+                        + " ms to handle " + event.getClass().getSimpleName());
+            }
+        }
+
+        EventHandlerStatistics getStatistics() {
+            return new EventHandlerStatistics(name, handledCount.sum(), coalescedCount.sum(), totalNanos.sum(),
+                    maxNanos.get());
+        }
+    }
 }
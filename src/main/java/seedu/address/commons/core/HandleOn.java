@@ -0,0 +1,18 @@
+package seedu.address.commons.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the thread that an event handler, a method annotated with {@code @Subscribe}, is run on.
+ * Handlers without this annotation are run on the thread that posted the event.
+ *
+ * @see EventsCenter
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface HandleOn {
+    EventThread value();
+}
@@ -13,4 +13,13 @@ public abstract class BaseEvent {
      */
     public abstract String toString();
 
+    /**
+     * Returns true if handling this event makes handling an earlier event of the same class unnecessary, such as an
+     * event asking for the UI to be refreshed. Such an earlier event that is still waiting to be handled on another
+     * thread is then replaced by this event instead.
+     */
+    public boolean isCoalescable() {
+        return false;
+    }
+
 }
@@ -12,6 +12,11 @@ public class AddressBookChangedEvent extends BaseEvent {
         this.data = data;
     }
 
+    @Override
+    public boolean isCoalescable() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return "number of volunteers " + data.getVolunteerList().size();
@@ -0,0 +1,32 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/** Indicates that more of the AddressBook being loaded at startup has been added to the model */
+public class AddressBookLoadProgressEvent extends BaseEvent {
+
+    public final ReadOnlyAddressBook data;
+    public final int loadedCount;
+    public final int totalCount;
+
+    public AddressBookLoadProgressEvent(ReadOnlyAddressBook data, int loadedCount, int totalCount) {
+        this.data = data;
+        this.loadedCount = loadedCount;
+        this.totalCount = totalCount;
+    }
+
+    public boolean isFinished() {
+        return loadedCount == totalCount;
+    }
+
+    @Override
+    public boolean isCoalescable() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "loaded " + loadedCount + " of " + totalCount + " items";
+    }
+}
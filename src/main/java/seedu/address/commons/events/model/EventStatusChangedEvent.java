@@ -0,0 +1,22 @@
+package seedu.address.commons.events.model;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.event.Event;
+
+/** Indicates that the status of some events has changed with the passing of time */
+public class EventStatusChangedEvent extends BaseEvent {
+
+    public final List<Event> changedEvents;
+
+    public EventStatusChangedEvent(List<Event> changedEvents) {
+        this.changedEvents = Collections.unmodifiableList(changedEvents);
+    }
+
+    @Override
+    public String toString() {
+        return "number of events with changed status " + changedEvents.size();
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.commons.events.storage;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that the data has been saved to a file
+ */
+public class DataSavedEvent extends BaseEvent {
+
+    public final Path filePath;
+    public final long latencyMillis;
+
+    /**
+     * @param latencyMillis the time from the earliest change included in the save to the end of the save.
+     */
+    public DataSavedEvent(Path filePath, long latencyMillis) {
+        this.filePath = filePath;
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public boolean isCoalescable() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "saved to " + filePath + " " + latencyMillis + " ms after the change";
+    }
+
+}
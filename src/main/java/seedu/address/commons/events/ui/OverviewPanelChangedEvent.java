@@ -7,6 +7,11 @@ import seedu.address.commons.events.BaseEvent;
  */
 public class OverviewPanelChangedEvent extends BaseEvent {
 
+    @Override
+    public boolean isCoalescable() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
@@ -18,6 +18,11 @@ public class RecordChangeEvent extends BaseEvent {
         return currentEvent;
     }
 
+    @Override
+    public boolean isCoalescable() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
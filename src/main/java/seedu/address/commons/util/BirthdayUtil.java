@@ -1,7 +1,7 @@
 package seedu.address.commons.util;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 
 import seedu.address.model.volunteer.Birthday;
 
@@ -10,17 +10,12 @@ import seedu.address.model.volunteer.Birthday;
  */
 public class BirthdayUtil {
 
+    private static final DateTimeFormatter FRIENDLY_DATE_FORMATTER = DateTimeFormatter.ofPattern("d MMMM yyyy");
+
     /**
      * Returns a friendly date string of a Volunteer Birthday object.
      */
     public static String getFriendlyDateFromVolunteerBirthday(Birthday birthday) {
-        SimpleDateFormat inf = new SimpleDateFormat("dd-MM-yyyy");
-        SimpleDateFormat outf = new SimpleDateFormat("d MMMMM yyyy");
-
-        try {
-            return outf.format(inf.parse(birthday.value));
-        } catch (ParseException e) {
-            return birthday.value;
-        }
+        return LocalDate.ofEpochDay(birthday.toEpochDay()).format(FRIENDLY_DATE_FORMATTER);
     }
 }
@@ -1,7 +1,13 @@
 package seedu.address.commons.util;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
 
 import seedu.address.model.event.Date;
 import seedu.address.model.event.Time;
@@ -18,52 +24,70 @@ public class DateTimeUtil {
 
     public static final String[] STATUS = { "Upcoming", "Ongoing", "Completed" };
 
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * Strictly parses dates in DD-MM-YYYY form. Rejects dates that do not exist, such as 31-04-2018.
+     */
+    public static final DateTimeFormatter DATE_FORMATTER = new DateTimeFormatterBuilder()
+            .appendPattern("dd-MM-yyyy")
+            .parseDefaulting(ChronoField.ERA, 1)
+            .toFormatter()
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    /**
+     * Parses times in HH:mm form, where the hour may be a single digit.
+     */
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("H:mm");
+
+    private static final DateTimeFormatter FRIENDLY_DATE_FORMATTER = DateTimeFormatter.ofPattern("EEE, d MMM yy");
+    private static final DateTimeFormatter FRIENDLY_TIME_FORMATTER = DateTimeFormatter.ofPattern("K:mma");
+
     /**
      * Returns a friendly date string of an Event Date object.
      */
     public static String getFriendlyDateFromEventDate(Date date) {
-        SimpleDateFormat inf = new SimpleDateFormat("dd-MM-yyyy");
-        SimpleDateFormat outf = new SimpleDateFormat("EEE, d MMM yy");
-
-        try {
-            return outf.format(inf.parse(date.value));
-        } catch (ParseException e) {
-            return date.value;
-        }
+        return LocalDate.ofEpochDay(date.toEpochDay()).format(FRIENDLY_DATE_FORMATTER);
     }
 
     /**
      * Returns a friendly time string of an Event Time object.
      */
     public static String getFriendlyTimeFromEventTime(Time time) {
-        SimpleDateFormat inf = new SimpleDateFormat("HH:mm");
-        SimpleDateFormat outf = new SimpleDateFormat("K:mma");
-
-        try {
-            return outf.format(inf.parse(time.value));
-        } catch (ParseException e) {
-            return time.value;
-        }
+        return LocalTime.ofSecondOfDay(time.getMinuteOfDay() * 60L).format(FRIENDLY_TIME_FORMATTER);
     }
 
-    public static int getEventStatus(Date startDate, Time startTime, Date endDate, Time endTime) {
-        SimpleDateFormat inf = new SimpleDateFormat("dd-MM-yyyy HH:mm");
+    /**
+     * Returns the number of minutes from the epoch to {@code time} on {@code date}.
+     */
+    public static long toEpochMinute(Date date, Time time) {
+        return date.toEpochDay() * MINUTES_PER_DAY + time.getMinuteOfDay();
+    }
 
-        try {
-            java.util.Date start = inf.parse(startDate + " " + startTime);
-            java.util.Date end = inf.parse(endDate + " " + endTime);
-            java.util.Date now = new java.util.Date();
+    /**
+     * Returns the number of minutes from the epoch to the current minute of {@code clock}, in its time-zone.
+     */
+    public static long getCurrentEpochMinute(Clock clock) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return now.toLocalDate().toEpochDay() * MINUTES_PER_DAY + now.getHour() * 60 + now.getMinute();
+    }
 
-            if (now.compareTo(start) < 0) {
-                return UPCOMING_EVENT;
-            } else if (now.compareTo(start) >= 0 && now.compareTo(end) <= 0) {
-                return ONGOING_EVENT;
-            } else {
-                return COMPLETED_EVENT;
-            }
+    public static int getEventStatus(Date startDate, Time startTime, Date endDate, Time endTime) {
+        return getEventStatus(toEpochMinute(startDate, startTime), toEpochMinute(endDate, endTime),
+                getCurrentEpochMinute(Clock.systemDefaultZone()));
+    }
 
-        } catch (ParseException e) {
-            return INVALID_STATUS;
+    /**
+     * Returns the status of an event that runs from {@code startMinute} to {@code endMinute} inclusive, at
+     * {@code nowMinute}. All arguments are minutes from the epoch.
+     */
+    public static int getEventStatus(long startMinute, long endMinute, long nowMinute) {
+        if (nowMinute < startMinute) {
+            return UPCOMING_EVENT;
+        } else if (nowMinute <= endMinute) {
+            return ONGOING_EVENT;
+        } else {
+            return COMPLETED_EVENT;
         }
     }
 }
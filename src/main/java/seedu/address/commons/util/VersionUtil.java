@@ -0,0 +1,22 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out versions for tracking changes to data.
+ * Each version is handed out only once in the application, so two equal versions always stand for the same data.
+ */
+public class VersionUtil {
+
+    /** Stands for data whose version is not tracked, which may differ from any other data. */
+    public static final long UNKNOWN_VERSION = 0;
+
+    private static final AtomicLong lastVersion = new AtomicLong(UNKNOWN_VERSION);
+
+    /**
+     * Returns a version that has not been handed out before.
+     */
+    public static long nextVersion() {
+        return lastVersion.incrementAndGet();
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+
+/**
+ * Caches the objects that are costly to create for xml processing, so that they are created once instead of on
+ * every read, save or export.
+ *
+ * {@code JAXBContext}s are thread-safe and are shared by all threads, one per class. Marshallers, unmarshallers,
+ * document builders and transformers are not thread-safe, so each thread keeps its own, which it must not use
+ * again until it has finished with the one it was last given.
+ */
+public class XmlCache {
+
+    private static final ConcurrentMap<Class<?>, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> MARSHALLERS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> UNMARSHALLERS =
+            ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDERS = new ThreadLocal<>();
+    private static final ThreadLocal<Transformer> TRANSFORMERS = new ThreadLocal<>();
+
+    /**
+     * Returns the {@code JAXBContext} for {@code type}, creating it the first time it is asked for.
+     *
+     * @throws JAXBException if the context cannot be created.
+     */
+    public static JAXBContext getContext(Class<?> type) throws JAXBException {
+        requireNonNull(type);
+        JAXBContext context = CONTEXTS.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            JAXBContext existingContext = CONTEXTS.putIfAbsent(type, context);
+            if (existingContext != null) {
+                context = existingContext;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Returns this thread's {@code Marshaller} for {@code type}, which writes formatted output.
+     *
+     * @throws JAXBException if the marshaller cannot be created.
+     */
+    public static Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        requireNonNull(type);
+        Map<Class<?>, Marshaller> threadMarshallers = MARSHALLERS.get();
+        Marshaller marshaller = threadMarshallers.get(type);
+        if (marshaller == null) {
+            marshaller = getContext(type).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            threadMarshallers.put(type, marshaller);
+        }
+        return marshaller;
+    }
+
+    /**
+     * Returns this thread's {@code Unmarshaller} for {@code type}.
+     *
+     * @throws JAXBException if the unmarshaller cannot be created.
+     */
+    public static Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        requireNonNull(type);
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = UNMARSHALLERS.get();
+        Unmarshaller unmarshaller = threadUnmarshallers.get(type);
+        if (unmarshaller == null) {
+            unmarshaller = getContext(type).createUnmarshaller();
+            threadUnmarshallers.put(type, unmarshaller);
+        }
+        return unmarshaller;
+    }
+
+    /**
+     * Returns this thread's {@code DocumentBuilder}, reset to its initial configuration.
+     *
+     * @throws ParserConfigurationException if the document builder cannot be created.
+     */
+    public static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder documentBuilder = DOCUMENT_BUILDERS.get();
+        if (documentBuilder == null) {
+            documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+            DOCUMENT_BUILDERS.set(documentBuilder);
+        } else {
+            documentBuilder.reset();
+        }
+        return documentBuilder;
+    }
+
+    /**
+     * Returns this thread's identity {@code Transformer}, reset to its initial configuration.
+     *
+     * @throws TransformerConfigurationException if the transformer cannot be created.
+     */
+    public static Transformer getTransformer() throws TransformerConfigurationException {
+        Transformer transformer = TRANSFORMERS.get();
+        if (transformer == null) {
+            transformer = TransformerFactory.newInstance().newTransformer();
+            TRANSFORMERS.set(transformer);
+        } else {
+            transformer.reset();
+        }
+        return transformer;
+    }
+}
@@ -1,11 +1,16 @@
 package seedu.address.logic;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.EventStatusScheduler;
 import seedu.address.model.event.Event;
 import seedu.address.model.record.Record;
+import seedu.address.model.record.RosterRow;
 import seedu.address.model.volunteer.Volunteer;
 
 /**
@@ -20,18 +25,55 @@ public interface Logic {
      * @throws ParseException If an error occurs during parsing.
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Executes the command once the commands entered before it have finished, and returns the future of the result.
+     * The command is parsed, and the work of the command that needs neither the model nor the UI is done, on another
+     * thread; the changes to the model are still made on the thread that the UI is updated on.
+     * The future is completed on the thread that the UI is updated on, exceptionally with a
+     * {@code CommandException} or a {@code ParseException} if the command fails.
+     *
+     * @param commandText The command as entered by the user.
+     * @see #cancelPendingCommands()
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Stops the commands given to {@link #executeAsync(String)} that have not started changing the model yet.
+     * The future of each of them is completed exceptionally with a {@code CancellationException} once it has stopped.
+     * Commands that have started changing the model run to the end.
+     *
+     * @return true if any command is being cancelled.
+     */
+    boolean cancelPendingCommands();
+
     /** Returns an unmodifiable view of the filtered list of volunteers */
     ObservableList<Volunteer> getFilteredVolunteerList();
 
     /** Returns an unmodifiable view of the filtered list of events */
     ObservableList<Event> getFilteredEventList();
 
+    /** Returns the scheduler that tracks the status of every event */
+    EventStatusScheduler getEventStatusScheduler();
+
     /** Returns an unmodifiable view of the filtered list of events */
     ObservableList<Record> getFilteredRecordList();
 
+    /** Returns an unmodifiable view of the roster of the filtered list of records */
+    ObservableList<RosterRow> getFilteredRecordRoster();
+
+    /** Returns an unmodifiable view, cached and kept up to date, of the records that match {@code predicate} */
+    ObservableList<Record> getRecordView(Predicate<Record> predicate);
+
+    /** Drops the cached view of the records that match {@code predicate}, once it is no longer needed */
+    void releaseRecordView(Predicate<Record> predicate);
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 
     /** Returns the context id */
     String getContextId();
+
+    /** Returns true if the whole address book being loaded at startup is in the model */
+    boolean isAddressBookLoaded();
 }
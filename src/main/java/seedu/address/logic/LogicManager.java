@@ -1,5 +1,18 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,9 +23,11 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.EventStatusScheduler;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.record.Record;
+import seedu.address.model.record.RosterRow;
 import seedu.address.model.volunteer.Volunteer;
 
 /**
@@ -24,24 +39,89 @@ public class LogicManager extends ComponentManager implements Logic {
     private final Model model;
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
+    private final Executor commandExecutor;
+    private final Executor uiExecutor;
+    private final Set<AsyncCommand> pendingCommands = ConcurrentHashMap.newKeySet();
 
+    /**
+     * Creates a {@code LogicManager} that runs the commands given to {@link #executeAsync(String)} on the calling
+     * thread, and so returns their results already completed.
+     */
     public LogicManager(Model model) {
+        this(model, Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code LogicManager} that runs the commands given to {@link #executeAsync(String)} one at a time,
+     * in the order given, by tasks run on {@code commandExecutor}, which must run its tasks one at a time in the
+     * order given too. The parts of the commands that use the model are run by tasks run on {@code uiExecutor},
+     * which must be the only thread that the model is used on.
+     */
+    public LogicManager(Model model, Executor commandExecutor, Executor uiExecutor) {
+        this(model, new AddressBookParser(), commandExecutor, uiExecutor);
+    }
+
+    LogicManager(Model model, AddressBookParser addressBookParser, Executor commandExecutor, Executor uiExecutor) {
+        requireAllNonNull(model, addressBookParser, commandExecutor, uiExecutor);
         this.model = model;
+        this.addressBookParser = addressBookParser;
+        this.commandExecutor = commandExecutor;
+        this.uiExecutor = uiExecutor;
         history = new CommandHistory();
-        addressBookParser = new AddressBookParser();
+    }
+
+    /**
+     * Returns an executor for {@link #LogicManager(Model, Executor, Executor)} that runs its tasks one at a time on
+     * a single daemon thread.
+     */
+    public static ExecutorService newCommandExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Command executor");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
-            Command command = addressBookParser.parseCommand(commandText, model.getContextId());
-            return command.execute(model, history);
+            Command command = parseCommand(commandText);
+            command.prepare();
+            return command.complete(command.execute(model, history));
         } finally {
             history.add(commandText);
         }
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        AsyncCommand asyncCommand = new AsyncCommand(commandText);
+        pendingCommands.add(asyncCommand);
+        commandExecutor.execute(asyncCommand);
+        return asyncCommand.result;
+    }
+
+    @Override
+    public boolean cancelPendingCommands() {
+        boolean isCancelling = false;
+        for (AsyncCommand asyncCommand : pendingCommands) {
+            isCancelling |= asyncCommand.requestCancel();
+        }
+        return isCancelling;
+    }
+
+    /**
+     * Returns the command of {@code commandText}, once the sections of the address book that it needs have been
+     * loaded.
+     */
+    private Command parseCommand(String commandText) throws ParseException {
+        Command command = addressBookParser.parseCommand(commandText, model.getContextId());
+        model.awaitLoaded(command.getRequiredSections());
+        return command;
+    }
+
     @Override
     public ObservableList<Volunteer> getFilteredVolunteerList() {
         return model.getFilteredVolunteerList();
@@ -52,11 +132,31 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getFilteredEventList();
     }
 
+    @Override
+    public EventStatusScheduler getEventStatusScheduler() {
+        return model.getEventStatusScheduler();
+    }
+
     @Override
     public ObservableList<Record> getFilteredRecordList() {
         return model.getFilteredRecordList();
     }
 
+    @Override
+    public ObservableList<RosterRow> getFilteredRecordRoster() {
+        return model.getFilteredRecordRoster();
+    }
+
+    @Override
+    public ObservableList<Record> getRecordView(Predicate<Record> predicate) {
+        return model.getRecordView(predicate);
+    }
+
+    @Override
+    public void releaseRecordView(Predicate<Record> predicate) {
+        model.releaseRecordView(predicate);
+    }
+
     @Override
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
@@ -66,4 +166,149 @@ public class LogicManager extends ComponentManager implements Logic {
     public String getContextId() {
         return model.getContextId();
     }
+
+    @Override
+    public boolean isAddressBookLoaded() {
+        return model.isLoaded();
+    }
+
+    /**
+     * A command given to {@link #executeAsync(String)}, run by a task on the command executor. The command is parsed
+     * and prepared on the command executor's thread, then executed by a task on the UI executor, as it changes the
+     * model, and completed on the command executor's thread again.
+     *
+     * The command can be cancelled until it starts being executed. Its future is then completed once the step that
+     * was running has stopped, so that nothing is still being done for the command when it is reported cancelled.
+     */
+    private class AsyncCommand implements Runnable {
+        private final String commandText;
+        private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+
+        // guarded by this
+        private boolean isCancelRequested;
+        private boolean hasStartedExecuting;
+        private boolean isFinished;
+        private Thread offUiThread; // the thread running a step that is not on the UI executor
+
+        AsyncCommand(String commandText) {
+            this.commandText = commandText;
+            // cancelling the future itself stops the command too, but the future is then done at once
+            result.whenComplete((unused, error) -> {
+                if (result.isCancelled()) {
+                    requestCancel();
+                }
+            });
+        }
+
+        @Override
+        public void run() {
+            CommandResult commandResult = null;
+            Throwable error = null;
+            try {
+                String contextId = callOnUiThread(model::getContextId);
+                Command command = callOffUiThread(() -> addressBookParser.parseCommand(commandText, contextId));
+                callOffUiThread(() -> {
+                    command.prepare();
+                    return null;
+                });
+                CommandResult executedResult = callOnUiThread(() -> {
+                    startExecuting();
+                    model.awaitLoaded(command.getRequiredSections());
+                    return command.execute(model, history);
+                });
+                // the model has been changed, so the command is no longer cancelled, and is completed in full
+                commandResult = command.complete(executedResult);
+            } catch (Exception | Error e) {
+                error = isCancelRequested() ? new CancellationException() : e;
+            } finally {
+                Thread.interrupted(); // clears an interrupt meant for a step that had already finished
+                finish();
+            }
+
+            CommandResult finalResult = commandResult;
+            Throwable finalError = error;
+            uiExecutor.execute(() -> {
+                pendingCommands.remove(this);
+                history.add(commandText);
+                if (finalError == null) {
+                    result.complete(finalResult);
+                } else {
+                    result.completeExceptionally(finalError);
+                }
+            });
+        }
+
+        /**
+         * Stops the command if it has not started being executed yet, interrupting the step that is running on the
+         * command executor's thread, if any. Returns true if the command is being cancelled.
+         */
+        synchronized boolean requestCancel() {
+            if (hasStartedExecuting || isFinished) {
+                return false;
+            }
+            isCancelRequested = true;
+            if (offUiThread != null) {
+                offUiThread.interrupt();
+            }
+            return true;
+        }
+
+        private synchronized boolean isCancelRequested() {
+            return isCancelRequested;
+        }
+
+        private synchronized void startExecuting() {
+            throwIfCancelRequested();
+            hasStartedExecuting = true;
+        }
+
+        private synchronized void finish() {
+            isFinished = true;
+        }
+
+        private synchronized void throwIfCancelRequested() {
+            if (isCancelRequested) {
+                throw new CancellationException();
+            }
+        }
+
+        /**
+         * Runs {@code step} on the UI executor unless the command has been cancelled, and returns its result.
+         */
+        private <T> T callOnUiThread(Callable<T> step) throws Exception {
+            throwIfCancelRequested();
+            FutureTask<T> uiTask = new FutureTask<>(step);
+            uiExecutor.execute(uiTask);
+            try {
+                return uiTask.get();
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+
+        /**
+         * Runs {@code step} on this thread unless the command has been cancelled, and returns its result.
+         * The thread is interrupted if the command is cancelled while the step runs.
+         */
+        private <T> T callOffUiThread(Callable<T> step) throws Exception {
+            synchronized (this) {
+                throwIfCancelRequested();
+                offUiThread = Thread.currentThread();
+            }
+            try {
+                return step.call();
+            } finally {
+                synchronized (this) {
+                    offUiThread = null;
+                }
+            }
+        }
+
+        private Exception rethrow(Throwable cause) {
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            return (Exception) cause;
+        }
+    }
 }
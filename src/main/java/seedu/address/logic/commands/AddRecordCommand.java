@@ -16,6 +16,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.record.Record;
 import seedu.address.model.record.RecordContainsEventIdPredicate;
+import seedu.address.model.record.RosterRow;
 import seedu.address.model.volunteer.Volunteer;
 
 /**
@@ -64,7 +65,6 @@ public class AddRecordCommand extends Command {
         Volunteer volunteerSelected = lastShownList.get(index.getZeroBased());
         Record record = new Record(model.getSelectedEvent().getEventId(), volunteerSelected.getVolunteerId(),
                 toAdd.getHour(), toAdd.getRemark());
-        record.setVolunteerName(volunteerSelected.getName().fullName);
 
         if (model.hasRecord(record)) {
             throw new CommandException(MESSAGE_DUPLICATE_RECORD);
@@ -77,7 +77,7 @@ public class AddRecordCommand extends Command {
         // Posting event
         EventsCenter.getInstance().post(new RecordChangeEvent(model.getSelectedEvent()));
         EventsCenter.getInstance().post(new ContextChangeEvent(model.getContextId()));
-        return new CommandResult(String.format(MESSAGE_SUCCESS, record));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, new RosterRow(record, volunteerSelected)));
     }
 
     @Override
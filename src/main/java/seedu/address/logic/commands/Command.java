@@ -1,14 +1,32 @@
 package seedu.address.logic.commands;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSection;
 import seedu.address.model.Model;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
+ *
+ * A command is run in three steps: {@link #prepare()}, then {@link #execute(Model, CommandHistory)}, then
+ * {@link #complete(CommandResult)}. Only {@code execute} may use the model or raise events, as the other two steps
+ * may be run on another thread, so that slow work that needs neither, such as reading or writing a file, does not
+ * hold up the UI.
  */
 public abstract class Command {
 
+    /**
+     * Does the work that the command needs done before it is executed, and that needs neither the model nor the
+     * UI. Does nothing by default.
+     *
+     * @throws CommandException If an error occurs, in which case the command is not executed.
+     */
+    public void prepare() throws CommandException {
+    }
+
     /**
      * Executes the command and returns the result message.
      *
@@ -19,4 +37,23 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException;
 
+    /**
+     * Does the work left after the command has been executed, and that needs neither the model nor the UI, and
+     * returns the result message. Returns {@code result}, the result of {@code execute}, by default.
+     *
+     * @throws CommandException If an error occurs during the work.
+     */
+    public CommandResult complete(CommandResult result) throws CommandException {
+        return result;
+    }
+
+    /**
+     * Returns the sections of the address book that must have been loaded before the command executes.
+     * By default, the whole address book must have been loaded, as changes must not be made to a partly loaded
+     * address book.
+     */
+    public Set<AddressBookSection> getRequiredSections() {
+        return EnumSet.allOf(AddressBookSection.class);
+    }
+
 }
@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.EventsCenter;
@@ -12,7 +11,6 @@ import seedu.address.commons.events.ui.OverviewPanelVolunteerUpdateEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.record.Record;
 import seedu.address.model.record.RecordContainsVolunteerIdPredicate;
 import seedu.address.model.volunteer.Volunteer;
 
@@ -46,17 +44,14 @@ public class DeleteCommand extends Command {
         }
 
         Volunteer volunteerToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteVolunteer(volunteerToDelete);
-
-        model.updateFilteredRecordList(new RecordContainsVolunteerIdPredicate(volunteerToDelete.getVolunteerId()));
-        List<Record> recordList = new ArrayList<>();
-        recordList.addAll(model.getFilteredRecordList());
-
-        for (Record r : recordList) {
-            model.deleteRecord(r);
+        model.beginTransaction();
+        try {
+            model.deleteVolunteer(volunteerToDelete);
+            model.deleteRecordsWhere(new RecordContainsVolunteerIdPredicate(volunteerToDelete.getVolunteerId()));
+            model.commitAddressBook();
+        } finally {
+            model.commitTransaction();
         }
-
-        model.commitAddressBook();
         EventsCenter.getInstance().post(new OverviewPanelVolunteerUpdateEvent());
         return new CommandResult(String.format(MESSAGE_DELETE_VOLUNTEER_SUCCESS, volunteerToDelete));
     }
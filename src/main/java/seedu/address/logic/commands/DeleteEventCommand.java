@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.EventsCenter;
@@ -13,7 +12,6 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
-import seedu.address.model.record.Record;
 import seedu.address.model.record.RecordContainsEventIdPredicate;
 
 /**
@@ -45,17 +43,14 @@ public class DeleteEventCommand extends Command {
         }
 
         Event eventToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deleteEvent(eventToDelete);
-
-        model.updateFilteredRecordList(new RecordContainsEventIdPredicate(eventToDelete.getEventId()));
-        List<Record> recordList = new ArrayList<>();
-        recordList.addAll(model.getFilteredRecordList());
-
-        for (Record r : recordList) {
-            model.deleteRecord(r);
+        model.beginTransaction();
+        try {
+            model.deleteEvent(eventToDelete);
+            model.deleteRecordsWhere(new RecordContainsEventIdPredicate(eventToDelete.getEventId()));
+            model.commitAddressBook();
+        } finally {
+            model.commitTransaction();
         }
-
-        model.commitAddressBook();
         EventsCenter.getInstance().post(new OverviewPanelEventUpdateEvent());
         return new CommandResult(String.format(MESSAGE_DELETE_EVENT_SUCCESS, eventToDelete));
     }
@@ -125,10 +125,6 @@ public class EditRecordCommand extends Command {
         private Hour hour;
         private Remark remark;
 
-        private int localIndex;
-        private String volunteerName;
-        private String phoneNo;
-
         public EditRecordDescriptor() {
         }
 
@@ -141,9 +137,6 @@ public class EditRecordCommand extends Command {
             setVolunteerId(toCopy.volunteerId);
             setHour(toCopy.hour);
             setRemark(toCopy.remark);
-            setLocalIndex(toCopy.localIndex);
-            setVolunteerName(toCopy.volunteerName);
-            setPhoneNo(toCopy.phoneNo);
         }
 
         /**
@@ -177,18 +170,6 @@ public class EditRecordCommand extends Command {
             return Optional.ofNullable(remark);
         }
 
-        public void setLocalIndex(int localIndex) {
-            this.localIndex = localIndex;
-        }
-
-        public void setVolunteerName(String volunteerName) {
-            this.volunteerName = volunteerName;
-        }
-
-        public void setPhoneNo(String phoneNo) {
-            this.phoneNo = phoneNo;
-        }
-
         @Override
         public boolean equals(Object other) {
             // short circuit if same object
@@ -1,8 +1,12 @@
 package seedu.address.logic.commands;
 
+import java.util.Collections;
+import java.util.Set;
+
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBookSection;
 import seedu.address.model.Model;
 
 /**
@@ -20,4 +24,9 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT);
     }
 
+    @Override
+    public Set<AddressBookSection> getRequiredSections() {
+        return Collections.emptySet();
+    }
+
 }
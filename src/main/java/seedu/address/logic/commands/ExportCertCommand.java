@@ -6,7 +6,9 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javafx.util.Pair;
 import seedu.address.commons.core.LogsCenter;
@@ -17,11 +19,9 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.util.CertGenerator;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
-import seedu.address.model.event.EventContainsEventIdPredicate;
 import seedu.address.model.event.EventId;
 import seedu.address.model.record.Record;
 import seedu.address.model.record.RecordContainsNonZeroHourPredicate;
-import seedu.address.model.record.RecordContainsVolunteerIdPredicate;
 import seedu.address.model.volunteer.Volunteer;
 import seedu.address.model.volunteer.VolunteerId;
 
@@ -50,6 +50,7 @@ public class ExportCertCommand extends Command {
     private final Index index;
 
     private String currentSavePath = PDF_SAVE_PATH;
+    private CertGenerator certGenerator;
 
     /**
      * @param index of the volunteer in the filtered volunteer list whose certificate is to be generated and exported
@@ -94,19 +95,31 @@ public class ExportCertCommand extends Command {
         // Retrieve records and events pertaining to this volunteer
         List<Pair<Record, Event>> recordEventPairs = getRecordEventPairs(model, selectedVolunteer);
 
-        // Instantiate a new CertGenerator and supply required data
-        CertGenerator certGenerator = new CertGenerator(currentSavePath, selectedVolunteer, recordEventPairs);
+        // Instantiate a new CertGenerator and supply required data, the PDF is generated in complete()
+        certGenerator = new CertGenerator(currentSavePath, selectedVolunteer, recordEventPairs);
+
+        // Return a success result
+        return new CommandResult(String.format(MESSAGE_EXPORT_CERT_SUCCESS + currentSavePath,
+                index.getOneBased()));
+    }
+
+    /**
+     * Generates and exports the PDF for the selected volunteer, which needs only the data gathered in
+     * {@code execute}.
+     */
+    @Override
+    public CommandResult complete(CommandResult result) throws CommandException {
+        assert certGenerator != null : "complete() must be called after execute()";
 
         // Try generating and exporting the PDF for the selected volunteer
         try {
             certGenerator.generatePdf();
         } catch (IOException ioe) {
             throw new CommandException(MESSAGE_EXPORT_FAILED);
+        } finally {
+            certGenerator = null;
         }
-
-        // Return a success result
-        return new CommandResult(String.format(MESSAGE_EXPORT_CERT_SUCCESS + currentSavePath,
-                index.getOneBased()));
+        return result;
     }
 
     public String getCurrentSavePath() {
@@ -122,18 +135,18 @@ public class ExportCertCommand extends Command {
     private List<Pair<Record, Event>> getRecordEventPairs(Model model, Volunteer selectedVolunteer) {
         List<Pair<Record, Event>> recordEventPairs = new ArrayList<Pair<Record, Event>>();
 
-        List<Record> records = model.getFilteredRecordList()
-                .filtered(new RecordContainsVolunteerIdPredicate(selectedVolunteer.getVolunteerId()));
+        List<Record> records = model.getRecordsForVolunteer(selectedVolunteer.getVolunteerId());
 
-        for (Record r: records) {
-            EventId eventId = r.getEventId();
-
-            List<Event> filteredEventList = model.getFilteredEventList()
-                    .filtered(new EventContainsEventIdPredicate(eventId));
+        // Look up each record's event by id in a single pass over the event list
+        Map<EventId, Event> eventsById = new HashMap<>();
+        for (Event e : model.getAddressBook().getEventList()) {
+            eventsById.put(e.getEventId(), e);
+        }
 
-            assert(filteredEventList.size() == 1); // Make sure no duplicate events
+        for (Record r: records) {
+            Event event = eventsById.get(r.getEventId());
 
-            Event event = filteredEventList.get(0);
+            assert(event != null); // Make sure every record refers to an existing event
 
             recordEventPairs.add(new Pair<Record, Event>(r, event));
         }
@@ -151,12 +164,9 @@ public class ExportCertCommand extends Command {
     private boolean hasNonZeroEventRecords(Model model, Volunteer volunteer) {
         VolunteerId volunteerId = volunteer.getVolunteerId();
 
-        // Attempt to retrieve a list of the volunteer's records with non-zero hour value
-        List<Record> eventRecords = model.getFilteredRecordList()
-                .filtered(new RecordContainsVolunteerIdPredicate(volunteerId))
-                .filtered(new RecordContainsNonZeroHourPredicate());
-
-        return !eventRecords.isEmpty();
+        // Check the volunteer's records for one with non-zero hour value
+        return model.getRecordsForVolunteer(volunteerId).stream()
+                .anyMatch(new RecordContainsNonZeroHourPredicate());
     }
 
     @Override
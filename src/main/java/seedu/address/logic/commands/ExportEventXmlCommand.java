@@ -6,11 +6,9 @@ import java.io.File;
 import java.util.List;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
@@ -21,6 +19,7 @@ import org.w3c.dom.Element;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.XmlCache;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -107,8 +106,7 @@ public class ExportEventXmlCommand extends Command {
     private void createEventXml(Model model, Event event) throws TransformerException,
             ParserConfigurationException {
         //setting up the document builders
-        DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder docuBuilder = dbFactory.newDocumentBuilder();
+        DocumentBuilder docuBuilder = XmlCache.getDocumentBuilder();
         Document doc = docuBuilder.newDocument();
 
         //root element - currently tag as event
@@ -151,8 +149,7 @@ public class ExportEventXmlCommand extends Command {
         //elements 1 level below root - this is used to store volunteers for the event
 
         // Setting up transformer
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        Transformer transformer = transformerFactory.newTransformer();
+        Transformer transformer = XmlCache.getTransformer();
         DOMSource source = new DOMSource(doc);
 
         // Setting up file path
@@ -3,14 +3,14 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.io.File;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
@@ -21,6 +21,7 @@ import org.w3c.dom.Element;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.XmlCache;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -110,8 +111,7 @@ public class ExportVolunteerXmlCommand extends Command {
     private void createVolunteerXml(Model model, Volunteer volunteer) throws TransformerException,
             ParserConfigurationException {
         //setting up the document builders
-        DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder docuBuilder = dbFactory.newDocumentBuilder();
+        DocumentBuilder docuBuilder = XmlCache.getDocumentBuilder();
         Document doc = docuBuilder.newDocument();
 
         //root element - currently tag as volunteer
@@ -155,15 +155,20 @@ public class ExportVolunteerXmlCommand extends Command {
 
         //elements 1 level below root - this is used to store events
         // Retrieve the volunteer's events
-        List<Record> eventRecords = model.getFilteredRecordList().filtered((x) -> x.getVolunteerId()
-                .equals(volunteer.getVolunteerId()));
+        List<Record> eventRecords = model.getRecordsForVolunteer(volunteer.getVolunteerId());
+
+        // Look up each record's event by id in a single pass over the event list
+        Map<EventId, Event> eventsById = new HashMap<>();
+        for (Event e : model.getAddressBook().getEventList()) {
+            eventsById.put(e.getEventId(), e);
+        }
 
         for (int i = 1; i <= eventRecords.size(); i++) {
             //take note of 0 & 1 indexing difference
             Element element = doc.createElement("EVENT" + Integer.toString(i));
             Record r = eventRecords.get(i - 1);
             EventId eventId = r.getEventId();
-            Event event = model.getFilteredEventList().filtered(e -> e.getEventId().equals(eventId)).get(0);
+            Event event = eventsById.get(eventId);
 
             //set attr
             //this is used to store event details
@@ -204,8 +209,7 @@ public class ExportVolunteerXmlCommand extends Command {
         }
 
         // Setting up transformer
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        Transformer transformer = transformerFactory.newTransformer();
+        Transformer transformer = XmlCache.getTransformer();
         DOMSource source = new DOMSource(doc);
 
         // Setting up file path
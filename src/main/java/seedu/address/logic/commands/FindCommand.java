@@ -2,8 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBookSection;
 import seedu.address.model.Model;
 import seedu.address.model.volunteer.NameContainsKeywordsPredicate;
 
@@ -29,11 +33,16 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredVolunteerList(predicate);
+        model.updateFilteredVolunteerList(model.getIndexedVolunteerNamePredicate(predicate.getKeywords()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_VOLUNTEERS_LISTED_OVERVIEW, model.getFilteredVolunteerList().size()));
     }
 
+    @Override
+    public Set<AddressBookSection> getRequiredSections() {
+        return EnumSet.of(AddressBookSection.VOLUNTEERS);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -2,8 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBookSection;
 import seedu.address.model.Model;
 import seedu.address.model.event.NameContainsKeywordsPredicate;
 
@@ -28,11 +32,16 @@ public class FindEventCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredEventList(predicate);
+        model.updateFilteredEventList(model.getIndexedEventNamePredicate(predicate.getKeywords()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()));
     }
 
+    @Override
+    public Set<AddressBookSection> getRequiredSections() {
+        return EnumSet.of(AddressBookSection.EVENTS);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
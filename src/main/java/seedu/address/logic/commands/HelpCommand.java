@@ -1,8 +1,12 @@
 package seedu.address.logic.commands;
 
+import java.util.Collections;
+import java.util.Set;
+
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBookSection;
 import seedu.address.model.Model;
 
 /**
@@ -22,4 +26,9 @@ public class HelpCommand extends Command {
         EventsCenter.getInstance().post(new ShowHelpRequestEvent());
         return new CommandResult(SHOWING_HELP_MESSAGE);
     }
+
+    @Override
+    public Set<AddressBookSection> getRequiredSections() {
+        return Collections.emptySet();
+    }
 }
@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBookSection;
 import seedu.address.model.Model;
 
 /**
@@ -30,4 +32,9 @@ public class HistoryCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
     }
 
+    @Override
+    public Set<AddressBookSection> getRequiredSections() {
+        return Collections.emptySet();
+    }
+
 }
@@ -12,6 +12,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -51,14 +53,16 @@ public class ImportVolunteerCsvCommand extends Command {
     private static final String MESSAGE_FORMAT_ERROR = FORMAT_ERROR + "\n"
             + "Please check the validity of your csv inputs and try again.";
 
-    private static final String MESSAGE_IMPORT_COMPLETED = "Volunteer(s) imported from CSV file "
+    public static final String MESSAGE_IMPORT_COMPLETED = "Volunteer(s) imported from CSV file "
             + "to your Desktop.";
     private static final String MESSAGE_IMPORT_VOLUNTEER_FAILED = "Volunteer(s) import failed, please try again.";
-    private static final String MESSAGE_IMPORT_VOLUNTEER_LACK_INFO = "Volunteer information incomplete.\n"
+    public static final String MESSAGE_IMPORT_VOLUNTEER_LACK_INFO = "Volunteer information incomplete.\n"
             + "Please check format and try again";
 
 
     private final FileReader csvFile;
+    private List<Volunteer> volunteersToImport;
+    private String importFailureMessage;
 
     /**
      * @param file to be read as a csv data
@@ -67,9 +71,21 @@ public class ImportVolunteerCsvCommand extends Command {
         csvFile = file;
     }
 
+    /**
+     * Reads and parses the volunteers in the csv file, up to the first row that cannot be read or parsed.
+     * The volunteers before that row are still imported when the command is executed, and the failure is reported
+     * after they have been added.
+     *
+     * @throws CommandException If the thread is interrupted, in which case no volunteer is imported.
+     */
     @Override
-    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+    public void prepare() throws CommandException {
+        if (volunteersToImport != null) {
+            return;
+        }
+
         BufferedReader br = new BufferedReader(csvFile);
+        List<Volunteer> volunteers = new ArrayList<>();
         try {
             // this is the first line and it should be the title row
             br.readLine();
@@ -80,6 +96,9 @@ public class ImportVolunteerCsvCommand extends Command {
         try {
             String currLine;
             while ((currLine = br.readLine()) != null) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CommandException(MESSAGE_IMPORT_VOLUNTEER_FAILED);
+                }
                 String[] arrayLine = currLine.split(",(?=([^\"]*\"[^\"]*\")*[^\"]*$)");
                 String args = "";
                 for (String i : arrayLine) {
@@ -87,7 +106,8 @@ public class ImportVolunteerCsvCommand extends Command {
                         args += i + " ";
                     }
                 }
-                args = args.trim();
+                // prefixes are only recognised after a space, as in the arguments of a command
+                args = " " + args.trim();
                 ArgumentMultimap argMultimap =
                         ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ID, PREFIX_GENDER,
                                 PREFIX_BIRTHDAY, PREFIX_PHONE, PREFIX_EMAIL,
@@ -96,7 +116,8 @@ public class ImportVolunteerCsvCommand extends Command {
                 if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_ID, PREFIX_GENDER, PREFIX_BIRTHDAY,
                         PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_EMAIL)
                         || !argMultimap.getPreamble().isEmpty()) {
-                    throw new CommandException(MESSAGE_FORMAT_ERROR);
+                    importFailureMessage = MESSAGE_FORMAT_ERROR;
+                    break;
                 }
 
                 Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
@@ -109,22 +130,37 @@ public class ImportVolunteerCsvCommand extends Command {
                         argMultimap.getValue(PREFIX_ADDRESS).get());
                 Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
-                Volunteer volunteer = new Volunteer(name, volunteerId, gender, birthday, phone, email,
-                        address, tagList);
+                volunteers.add(new Volunteer(name, volunteerId, gender, birthday, phone, email,
+                        address, tagList));
+            }
+        } catch (IOException e) {
+            importFailureMessage = MESSAGE_IMPORT_VOLUNTEER_FAILED;
+        } catch (ParseException e) {
+            importFailureMessage = MESSAGE_IMPORT_VOLUNTEER_LACK_INFO;
+        }
+        volunteersToImport = volunteers;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        prepare();
 
+        model.beginTransaction();
+        try {
+            for (Volunteer volunteer : volunteersToImport) {
                 if (!model.hasVolunteer(volunteer)) {
                     model.addVolunteer(volunteer);
                 }
             }
 
+            if (importFailureMessage != null) {
+                throw new CommandException(importFailureMessage);
+            }
             model.commitAddressBook();
-        } catch (IOException e) {
-            throw new CommandException(MESSAGE_IMPORT_VOLUNTEER_FAILED);
-        } catch (ParseException e) {
-            throw new CommandException(MESSAGE_IMPORT_VOLUNTEER_LACK_INFO);
+        } finally {
+            model.commitTransaction();
         }
 
-
         return new CommandResult(MESSAGE_IMPORT_COMPLETED);
     }
 
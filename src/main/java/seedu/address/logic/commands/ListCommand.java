@@ -3,7 +3,11 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_VOLUNTEERS;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBookSection;
 import seedu.address.model.Model;
 
 /**
@@ -22,4 +26,9 @@ public class ListCommand extends Command {
         model.updateFilteredVolunteerList(PREDICATE_SHOW_ALL_VOLUNTEERS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public Set<AddressBookSection> getRequiredSections() {
+        return EnumSet.of(AddressBookSection.VOLUNTEERS);
+    }
 }
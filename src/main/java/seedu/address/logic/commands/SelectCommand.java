@@ -2,7 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.Messages;
@@ -10,6 +12,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSection;
 import seedu.address.model.Model;
 import seedu.address.model.volunteer.Volunteer;
 
@@ -48,6 +51,11 @@ public class SelectCommand extends Command {
 
     }
 
+    @Override
+    public Set<AddressBookSection> getRequiredSections() {
+        return EnumSet.of(AddressBookSection.VOLUNTEERS);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -2,7 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.Messages;
@@ -11,6 +13,7 @@ import seedu.address.commons.events.ui.JumpToEventListRequestEvent;
 import seedu.address.commons.events.ui.ReplaceWithContextPanelEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSection;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 
@@ -51,6 +54,11 @@ public class SelectEventCommand extends Command {
 
     }
 
+    @Override
+    public Set<AddressBookSection> getRequiredSections() {
+        return EnumSet.of(AddressBookSection.EVENTS);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
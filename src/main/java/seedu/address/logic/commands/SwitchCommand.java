@@ -3,9 +3,13 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SWITCH;
 
+import java.util.Collections;
+import java.util.Set;
+
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.ui.ContextChangeEvent;
 import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBookSection;
 import seedu.address.model.Context;
 import seedu.address.model.Model;
 
@@ -44,4 +48,9 @@ public class SwitchCommand extends Command {
         EventsCenter.getInstance().post(new ContextChangeEvent(contextId));
         return new CommandResult(String.format(MESSAGE_SUCCESS, model.getContextName()));
     }
+
+    @Override
+    public Set<AddressBookSection> getRequiredSections() {
+        return Collections.emptySet();
+    }
 }
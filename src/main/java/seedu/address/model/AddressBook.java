@@ -2,16 +2,25 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Predicate;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.record.Record;
 import seedu.address.model.record.UniqueRecordList;
 import seedu.address.model.volunteer.UniqueVolunteerList;
 import seedu.address.model.volunteer.Volunteer;
+import seedu.address.model.volunteer.VolunteerId;
 
 /**
  * Wraps all data at the application level
@@ -83,6 +92,88 @@ public class AddressBook implements ReadOnlyAddressBook {
         setEvents(newData.getEventList());
         setRecords(newData.getRecordList());
     }
+
+    //// snapshot operations
+
+    /**
+     * Returns an immutable snapshot of the current data of this {@code AddressBook}.
+     * Snapshots share structure with each other, so this takes constant time.
+     */
+    Snapshot snapshot() {
+        return new Snapshot(volunteers.snapshot(), events.snapshot(), records.snapshot(), volunteers.getVersion(),
+                events.getVersion(), records.getVersion());
+    }
+
+    /**
+     * Returns a read-only copy of the current data of this {@code AddressBook}, which is not affected by later
+     * changes. Like {@code snapshot()}, this takes constant time, so the copy can be handed to other threads.
+     */
+    public ReadOnlyAddressBook getReadOnlySnapshot() {
+        return snapshot();
+    }
+
+    /**
+     * Restores the data of this {@code AddressBook} to {@code snapshot}.
+     * Lists that have not been modified since {@code snapshot} was taken are left untouched.
+     */
+    void restore(Snapshot snapshot) {
+        requireNonNull(snapshot);
+
+        volunteers.restore(snapshot.volunteers);
+        events.restore(snapshot.events);
+        records.restore(snapshot.records);
+    }
+
+    //// batch operations
+
+    /**
+     * Starts holding back additions to the lists, so that they are published in one change per list by
+     * {@code endBatch()}.
+     */
+    void beginBatch() {
+        volunteers.beginBatch();
+        events.beginBatch();
+        records.beginBatch();
+    }
+
+    /**
+     * Publishes the additions held back since {@code beginBatch()}.
+     */
+    void endBatch() {
+        volunteers.endBatch();
+        events.endBatch();
+        records.endBatch();
+    }
+
+    //// replay operations
+
+    /**
+     * Replaces the volunteers from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}, without checking for duplicates. Only used to replay recorded changes and to append
+     * loaded data.
+     */
+    void replaceVolunteerRange(int fromIndex, int toIndex, List<Volunteer> replacement) {
+        volunteers.replaceRange(fromIndex, toIndex, replacement);
+    }
+
+    /**
+     * Replaces the events from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}, without checking for duplicates. Only used to replay recorded changes and to append
+     * loaded data.
+     */
+    void replaceEventRange(int fromIndex, int toIndex, List<Event> replacement) {
+        events.replaceRange(fromIndex, toIndex, replacement);
+    }
+
+    /**
+     * Replaces the records from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}, without checking for duplicates. Only used to replay recorded changes and to append
+     * loaded data.
+     */
+    void replaceRecordRange(int fromIndex, int toIndex, List<Record> replacement) {
+        records.replaceRange(fromIndex, toIndex, replacement);
+    }
+
     //// volunteer-level operations
 
     /**
@@ -196,6 +287,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         records.remove(key);
     }
 
+    /**
+     * Removes all records that match {@code predicate} from this {@code AddressBook}.
+     * Returns true if any record was removed.
+     */
+    public boolean removeRecordsWhere(Predicate<Record> predicate) {
+        return records.removeIf(predicate);
+    }
+
 
     //// util methods
     @Override
@@ -219,6 +318,31 @@ public class AddressBook implements ReadOnlyAddressBook {
         return records.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Record> getRecordsForEvent(EventId eventId) {
+        return records.getRecordsForEvent(eventId);
+    }
+
+    @Override
+    public List<Record> getRecordsForVolunteer(VolunteerId volunteerId) {
+        return records.getRecordsForVolunteer(volunteerId);
+    }
+
+    @Override
+    public long getVolunteerListVersion() {
+        return volunteers.getVersion();
+    }
+
+    @Override
+    public long getEventListVersion() {
+        return events.getVersion();
+    }
+
+    @Override
+    public long getRecordListVersion() {
+        return records.getVersion();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -232,4 +356,128 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return Objects.hash(volunteers, events, records);
     }
+
+    /**
+     * An immutable state of an {@code AddressBook}, as returned by {@code AddressBook#snapshot()}.
+     * The records of each event and volunteer are indexed the first time they are looked up, so each lookup after
+     * the first takes time proportional to the number of records found.
+     */
+    static final class Snapshot implements ReadOnlyAddressBook {
+        private final PersistentList<Volunteer> volunteers;
+        private final PersistentList<Event> events;
+        private final PersistentList<Record> records;
+        private final ObservableList<Volunteer> volunteerList;
+        private final ObservableList<Event> eventList;
+        private final ObservableList<Record> recordList;
+        private final long volunteersVersion;
+        private final long eventsVersion;
+        private final long recordsVersion;
+
+        /** The index of the records, or null if it has not been built yet. */
+        private volatile RecordIndex recordIndex;
+
+        private Snapshot(PersistentList<Volunteer> volunteers, PersistentList<Event> events,
+                         PersistentList<Record> records, long volunteersVersion, long eventsVersion,
+                         long recordsVersion) {
+            this.volunteers = volunteers;
+            this.events = events;
+            this.records = records;
+            volunteerList = FXCollections.unmodifiableObservableList(FXCollections.observableList(volunteers));
+            eventList = FXCollections.unmodifiableObservableList(FXCollections.observableList(events));
+            recordList = FXCollections.unmodifiableObservableList(FXCollections.observableList(records));
+            this.volunteersVersion = volunteersVersion;
+            this.eventsVersion = eventsVersion;
+            this.recordsVersion = recordsVersion;
+        }
+
+        @Override
+        public ObservableList<Volunteer> getVolunteerList() {
+            return volunteerList;
+        }
+
+        @Override
+        public ObservableList<Event> getEventList() {
+            return eventList;
+        }
+
+        @Override
+        public ObservableList<Record> getRecordList() {
+            return recordList;
+        }
+
+        @Override
+        public List<Record> getRecordsForEvent(EventId eventId) {
+            requireNonNull(eventId);
+            return getRecordIndex().recordsByEvent.getOrDefault(eventId, Collections.emptyList());
+        }
+
+        @Override
+        public List<Record> getRecordsForVolunteer(VolunteerId volunteerId) {
+            requireNonNull(volunteerId);
+            return getRecordIndex().recordsByVolunteer.getOrDefault(volunteerId, Collections.emptyList());
+        }
+
+        @Override
+        public long getVolunteerListVersion() {
+            return volunteersVersion;
+        }
+
+        @Override
+        public long getEventListVersion() {
+            return eventsVersion;
+        }
+
+        @Override
+        public long getRecordListVersion() {
+            return recordsVersion;
+        }
+
+        /**
+         * Returns the index of the records, building it if this is the first lookup.
+         * Snapshots are shared between threads; if two threads build the index at once, either result is kept.
+         */
+        private RecordIndex getRecordIndex() {
+            RecordIndex index = recordIndex;
+            if (index == null) {
+                index = new RecordIndex(records);
+                recordIndex = index;
+            }
+            return index;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Snapshot // instanceof handles nulls
+                    && volunteers.equals(((Snapshot) other).volunteers)
+                    && events.equals(((Snapshot) other).events)
+                    && records.equals(((Snapshot) other).records));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(volunteers, events, records);
+        }
+    }
+
+    /**
+     * An immutable index of records by event and by volunteer, with the records of each in list order.
+     */
+    private static final class RecordIndex {
+        private final Map<EventId, List<Record>> recordsByEvent;
+        private final Map<VolunteerId, List<Record>> recordsByVolunteer;
+
+        RecordIndex(List<Record> records) {
+            Map<EventId, List<Record>> byEvent = new HashMap<>();
+            Map<VolunteerId, List<Record>> byVolunteer = new HashMap<>();
+            for (Record record : records) {
+                byEvent.computeIfAbsent(record.getEventId(), unused -> new ArrayList<>()).add(record);
+                byVolunteer.computeIfAbsent(record.getVolunteerId(), unused -> new ArrayList<>()).add(record);
+            }
+            byEvent.replaceAll((eventId, eventRecords) -> Collections.unmodifiableList(eventRecords));
+            byVolunteer.replaceAll((volunteerId, volunteerRecords) -> Collections.unmodifiableList(volunteerRecords));
+            recordsByEvent = byEvent;
+            recordsByVolunteer = byVolunteer;
+        }
+    }
 }
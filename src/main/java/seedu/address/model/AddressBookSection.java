@@ -0,0 +1,8 @@
+package seedu.address.model;
+
+/**
+ * The lists of an address book, in the order they are loaded in.
+ */
+public enum AddressBookSection {
+    VOLUNTEERS, EVENTS, RECORDS
+}
@@ -0,0 +1,167 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+/**
+ * Creates and caches the filtered and sorted views of a list, so that asking for the view of the same predicate or
+ * comparator again returns the view already created instead of a new one.
+ *
+ * Every view is updated on every change to the list for as long as it is reachable. To keep the number of views
+ * small, at most {@code MAX_CACHED_VIEWS} views are cached, the least recently asked for being dropped first, and a
+ * view can be dropped at once with {@link #release(Predicate)} or {@link #release(Comparator)}. A dropped view
+ * keeps working for the callers still holding it, and stops being updated once they no longer do.
+ *
+ * Predicates and comparators are matched by {@code equals}, so only those that implement it, or the same instance,
+ * find a cached view.
+ */
+public class DerivedViewRegistry<T> {
+
+    /** The maximum number of views cached. */
+    static final int MAX_CACHED_VIEWS = 16;
+
+    private final ObservableList<T> source;
+    private final Map<ViewKey, ObservableList<T>> cachedViews =
+            new LinkedHashMap<ViewKey, ObservableList<T>>(MAX_CACHED_VIEWS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ViewKey, ObservableList<T>> eldest) {
+                    return size() > MAX_CACHED_VIEWS;
+                }
+            };
+    private final Set<Reference<ObservableList<T>>> liveViews = new HashSet<>();
+    private final ReferenceQueue<ObservableList<T>> collectedViews = new ReferenceQueue<>();
+
+    /**
+     * Creates a registry of the views of {@code source}.
+     */
+    public DerivedViewRegistry(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+    }
+
+    /**
+     * Returns an unmodifiable view of the elements of the list that match {@code predicate}.
+     */
+    public ObservableList<T> getFilteredView(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        return getView(new ViewKey(ViewKind.FILTERED, predicate));
+    }
+
+    /**
+     * Returns an unmodifiable view of the elements of the list, sorted by {@code comparator}.
+     */
+    public ObservableList<T> getSortedView(Comparator<? super T> comparator) {
+        requireNonNull(comparator);
+        return getView(new ViewKey(ViewKind.SORTED, comparator));
+    }
+
+    /**
+     * Drops the filtered view of {@code predicate} from the cache, if it is cached.
+     */
+    public void release(Predicate<? super T> predicate) {
+        cachedViews.remove(new ViewKey(ViewKind.FILTERED, predicate));
+    }
+
+    /**
+     * Drops the sorted view of {@code comparator} from the cache, if it is cached.
+     */
+    public void release(Comparator<? super T> comparator) {
+        cachedViews.remove(new ViewKey(ViewKind.SORTED, comparator));
+    }
+
+    /**
+     * Returns the number of views cached.
+     */
+    public int getCachedViewCount() {
+        return cachedViews.size();
+    }
+
+    /**
+     * Returns the number of views created that have not been garbage collected yet, whether cached or not.
+     * Each of them is still updated on every change to the list.
+     */
+    public int getLiveViewCount() {
+        expungeCollectedViews();
+        return liveViews.size();
+    }
+
+    private ObservableList<T> getView(ViewKey key) {
+        ObservableList<T> view = cachedViews.get(key);
+        if (view == null) {
+            view = createView(key);
+            cachedViews.put(key, view);
+            expungeCollectedViews();
+            liveViews.add(new WeakReference<>(view, collectedViews));
+        }
+        return view;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObservableList<T> createView(ViewKey key) {
+        switch (key.kind) {
+        case FILTERED:
+            return FXCollections.unmodifiableObservableList(
+                    new FilteredList<>(source, (Predicate<? super T>) key.criterion));
+        case SORTED:
+            return FXCollections.unmodifiableObservableList(
+                    new SortedList<>(source, (Comparator<? super T>) key.criterion));
+        default:
+            throw new AssertionError("Unknown view kind " + key.kind);
+        }
+    }
+
+    private void expungeCollectedViews() {
+        Reference<? extends ObservableList<T>> collected;
+        while ((collected = collectedViews.poll()) != null) {
+            liveViews.remove(collected);
+        }
+    }
+
+    /**
+     * The kinds of views.
+     */
+    private enum ViewKind {
+        FILTERED, SORTED
+    }
+
+    /**
+     * Identifies a view by its kind and its predicate or comparator.
+     */
+    private static class ViewKey {
+        private final ViewKind kind;
+        private final Object criterion;
+
+        ViewKey(ViewKind kind, Object criterion) {
+            this.kind = kind;
+            this.criterion = criterion;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof ViewKey
+                    && kind == ((ViewKey) other).kind
+                    && Objects.equals(criterion, ((ViewKey) other).criterion));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, criterion);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.EventStatusChangedEvent;
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.event.Event;
+
+/**
+ * Keeps track of the status (upcoming, ongoing or completed) of every event in a list.
+ *
+ * The status of each event is computed when the event is added to the list. Events are then kept in a priority queue
+ * ordered by the minute of their next status change, so that {@code refresh()} only has to look at the events whose
+ * status has changed since the last refresh. The number of events with each status is kept up to date, and can be
+ * read in constant time.
+ *
+ * The status of events is computed against the given {@code Clock}.
+ */
+public class EventStatusScheduler {
+    private static final Logger logger = LogsCenter.getLogger(EventStatusScheduler.class);
+
+    private static final long NO_TRANSITION = Long.MAX_VALUE;
+
+    private final ObservableList<Event> events; // unmodifiable views only listen weakly to their source
+    private final Clock clock;
+
+    private final Map<Event, Entry> entries = new IdentityHashMap<>();
+    private final PriorityQueue<Entry> transitions =
+            new PriorityQueue<>(Comparator.comparingLong(entry -> entry.nextTransitionMinute));
+    private final List<Set<Event>> eventsByStatus = new ArrayList<>();
+
+    /**
+     * Creates a scheduler that tracks the status of the events in {@code events}, including events added later.
+     */
+    public EventStatusScheduler(ObservableList<Event> events, Clock clock) {
+        requireNonNull(events);
+        requireNonNull(clock);
+        this.events = events;
+        this.clock = clock;
+
+        for (int i = 0; i < DateTimeUtil.STATUS.length; i++) {
+            eventsByStatus.add(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        long nowMinute = DateTimeUtil.getCurrentEpochMinute(clock);
+        events.forEach(event -> track(event, nowMinute));
+        events.addListener(this::onEventsChanged);
+    }
+
+    /**
+     * Updates the status of the events whose status has changed since the last refresh, and posts an
+     * {@code EventStatusChangedEvent} if there are any.
+     *
+     * @return true if the status of any event has changed.
+     */
+    public boolean refresh() {
+        long nowMinute = DateTimeUtil.getCurrentEpochMinute(clock);
+        List<Event> changedEvents = new ArrayList<>();
+        while (!transitions.isEmpty() && transitions.peek().nextTransitionMinute <= nowMinute) {
+            Entry entry = transitions.poll();
+            if (entry.isRemoved) {
+                continue;
+            }
+            setStatus(entry, DateTimeUtil.getEventStatus(entry.startMinute, entry.endMinute, nowMinute));
+            scheduleNextTransition(entry);
+            changedEvents.add(entry.event);
+        }
+
+        if (changedEvents.isEmpty()) {
+            return false;
+        }
+        logger.fine("Status of " + changedEvents.size() + " events changed");
+        EventsCenter.getInstance().post(new EventStatusChangedEvent(changedEvents));
+        return true;
+    }
+
+    /**
+     * Returns the status of {@code event} as of the last refresh, as one of the status constants of
+     * {@code DateTimeUtil}. The status of an event that is not in the list is computed against the clock.
+     */
+    public int getStatus(Event event) {
+        requireNonNull(event);
+        Entry entry = entries.get(event);
+        if (entry == null) {
+            return DateTimeUtil.getEventStatus(event.getStartDate(), event.getStartTime(), event.getEndDate(),
+                    event.getEndTime());
+        }
+        return entry.status;
+    }
+
+    /**
+     * Returns the number of events with {@code status} as of the last refresh.
+     */
+    public int getNumOfEvents(int status) {
+        return eventsByStatus.get(status).size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the events with {@code status} as of the last refresh.
+     */
+    public Set<Event> getEvents(int status) {
+        return Collections.unmodifiableSet(eventsByStatus.get(status));
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to the next status change of any event, or
+     * {@code Long.MAX_VALUE} if no event will change status.
+     */
+    public long getNextTransitionMinute() {
+        discardRemovedTransitions();
+        return transitions.isEmpty() ? NO_TRANSITION : transitions.peek().nextTransitionMinute;
+    }
+
+    /**
+     * Starts tracking the events added to the list, and stops tracking the events removed from it.
+     */
+    private void onEventsChanged(ListChangeListener.Change<? extends Event> change) {
+        long nowMinute = DateTimeUtil.getCurrentEpochMinute(clock);
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::untrack);
+            change.getAddedSubList().forEach(event -> track(event, nowMinute));
+        }
+        if (transitions.size() > 2 * entries.size() + 16) {
+            rebuildTransitions();
+        }
+    }
+
+    /**
+     * Starts tracking {@code event}, computing its status at {@code nowMinute}.
+     */
+    private void track(Event event, long nowMinute) {
+        Entry entry = new Entry(event);
+        entries.put(event, entry);
+        setStatus(entry, DateTimeUtil.getEventStatus(entry.startMinute, entry.endMinute, nowMinute));
+        scheduleNextTransition(entry);
+    }
+
+    /**
+     * Stops tracking {@code event}. Its pending transition is left in the queue, and is skipped when it is reached.
+     */
+    private void untrack(Event event) {
+        Entry entry = entries.remove(event);
+        if (entry == null) {
+            return;
+        }
+        entry.isRemoved = true;
+        eventsByStatus.get(entry.status).remove(event);
+    }
+
+    /**
+     * Moves the event of {@code entry} from the set of its previous status to the set of {@code status}.
+     */
+    private void setStatus(Entry entry, int status) {
+        if (entry.status != Entry.NO_STATUS) {
+            eventsByStatus.get(entry.status).remove(entry.event);
+        }
+        entry.status = status;
+        eventsByStatus.get(status).add(entry.event);
+    }
+
+    /**
+     * Queues the next status change of {@code entry}, if its event has not completed.
+     */
+    private void scheduleNextTransition(Entry entry) {
+        switch (entry.status) {
+        case DateTimeUtil.UPCOMING_EVENT:
+            entry.nextTransitionMinute = entry.startMinute;
+            break;
+        case DateTimeUtil.ONGOING_EVENT:
+            entry.nextTransitionMinute = entry.endMinute + 1;
+            break;
+        default:
+            entry.nextTransitionMinute = NO_TRANSITION;
+            return;
+        }
+        transitions.add(entry);
+    }
+
+    private void discardRemovedTransitions() {
+        while (!transitions.isEmpty() && transitions.peek().isRemoved) {
+            transitions.poll();
+        }
+    }
+
+    /**
+     * Rebuilds the queue of transitions without the transitions of events that are no longer tracked.
+     */
+    private void rebuildTransitions() {
+        transitions.clear();
+        entries.values().stream()
+                .filter(entry -> entry.nextTransitionMinute != NO_TRANSITION)
+                .forEach(transitions::add);
+    }
+
+    /**
+     * The tracked status of an event.
+     */
+    private static class Entry {
+        private static final int NO_STATUS = -1;
+
+        private final Event event;
+        private final long startMinute;
+        private final long endMinute;
+        private int status = NO_STATUS;
+        private long nextTransitionMinute = NO_TRANSITION;
+        private boolean isRemoved;
+
+        private Entry(Event event) {
+            this.event = event;
+            this.startMinute = DateTimeUtil.toEpochMinute(event.getStartDate(), event.getStartTime());
+            this.endMinute = DateTimeUtil.toEpochMinute(event.getEndDate(), event.getEndTime());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An inverted index from the words in a text field of the elements of a list to the elements containing them.
+ *
+ * The index is kept up to date as elements are added to and removed from the list. Words are matched in the same
+ * way as {@code StringUtil#containsWordIgnoreCase}: the text is split on whitespace, and a keyword matches a word
+ * if they are equal, ignoring case.
+ */
+public class KeywordIndex<T> {
+    private final ObservableList<T> elements; // unmodifiable views only listen weakly to their source
+    private final Function<T, String> textOf;
+
+    private final Map<String, Set<T>> elementsByWord = new HashMap<>();
+    // incremented whenever the index changes, so that predicates know when to recompute their matches
+    private long version;
+
+    /**
+     * Creates an index of the words in {@code textOf} each element of {@code elements}.
+     */
+    public KeywordIndex(ObservableList<T> elements, Function<T, String> textOf) {
+        requireNonNull(elements);
+        requireNonNull(textOf);
+        this.elements = elements;
+        this.textOf = textOf;
+
+        elements.forEach(this::addToIndex);
+        elements.addListener(this::onElementsChanged);
+    }
+
+    /**
+     * Returns the elements whose text contains {@code keyword} as a word.
+     */
+    public Set<T> getElementsContaining(String keyword) {
+        requireNonNull(keyword);
+        return Collections.unmodifiableSet(elementsByWord.getOrDefault(normalize(keyword), Collections.emptySet()));
+    }
+
+    /**
+     * Returns a predicate that tests if the text of an element of the list contains any of {@code keywords} as a
+     * word. The predicate holds the matching elements, compared by identity, and recomputes them from this index
+     * after the list changes, so it stays correct as the list changes.
+     */
+    public Predicate<T> containsAnyKeyword(List<String> keywords) {
+        List<String> words = new ArrayList<>();
+        keywords.forEach(keyword -> words.add(normalize(keyword)));
+        return new KeywordPredicate(words);
+    }
+
+    /**
+     * Indexes the elements added to the list, and unindexes the elements removed from it.
+     */
+    private void onElementsChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeFromIndex);
+            change.getAddedSubList().forEach(this::addToIndex);
+            version++;
+        }
+    }
+
+    /**
+     * Adds {@code element} to the entries of the words in its text.
+     */
+    private void addToIndex(T element) {
+        for (String word : textOf.apply(element).split("\\s+")) {
+            if (!word.isEmpty()) {
+                elementsByWord.computeIfAbsent(normalize(word), unused ->
+                        Collections.newSetFromMap(new IdentityHashMap<>())).add(element);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code element} from the entries of its words, dropping entries that become empty.
+     */
+    private void removeFromIndex(T element) {
+        for (String word : textOf.apply(element).split("\\s+")) {
+            String normalizedWord = normalize(word);
+            Set<T> matches = elementsByWord.get(normalizedWord);
+            if (matches != null && matches.remove(element) && matches.isEmpty()) {
+                elementsByWord.remove(normalizedWord);
+            }
+        }
+    }
+
+    /**
+     * Returns the form of {@code word} under which it is indexed. Two words have the same form if they are equal,
+     * ignoring case.
+     */
+    private static String normalize(String word) {
+        return word.trim().toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Tests if an element of the list is one of the elements whose text contains any of the given words.
+     */
+    private class KeywordPredicate implements Predicate<T> {
+        private final List<String> words;
+        private Set<T> matches;
+        private long matchesVersion;
+
+        private KeywordPredicate(List<String> words) {
+            this.words = words;
+        }
+
+        @Override
+        public boolean test(T element) {
+            if (matches == null || matchesVersion != version) {
+                matches = findMatches();
+                matchesVersion = version;
+            }
+            return matches.contains(element);
+        }
+
+        /**
+         * Returns the elements in the entries of {@code words}, compared by identity.
+         */
+        private Set<T> findMatches() {
+            Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (String word : words) {
+                found.addAll(elementsByWord.getOrDefault(word, Collections.emptySet()));
+            }
+            return found;
+        }
+    }
+}
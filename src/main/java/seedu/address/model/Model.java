@@ -1,11 +1,16 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
 import seedu.address.model.record.Record;
+import seedu.address.model.record.RosterRow;
 import seedu.address.model.volunteer.Volunteer;
+import seedu.address.model.volunteer.VolunteerId;
 
 /**
  * The API of the Model component.
@@ -36,6 +41,17 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Waits until {@code sections} of the address book being loaded at startup have been added to the model,
+     * adding them at once if they are still being loaded. Must be called on the thread that commands execute on.
+     */
+    void awaitLoaded(Set<AddressBookSection> sections);
+
+    /**
+     * Returns true if the whole address book being loaded at startup has been added to the model.
+     */
+    boolean isLoaded();
+
     //===========  Context Switching Methods =============================================================
 
     /**
@@ -107,6 +123,12 @@ public interface Model {
      */
     void updateFilteredVolunteerList(Predicate<Volunteer> predicate);
 
+    /**
+     * Returns a predicate that tests if a volunteer's name contains any of {@code keywords}, like
+     * {@code NameContainsKeywordsPredicate}, by looking the volunteer up in an index of the names in the address book.
+     */
+    Predicate<Volunteer> getIndexedVolunteerNamePredicate(List<String> keywords);
+
     //===========  Event Methods =============================================================
 
     /**
@@ -138,6 +160,11 @@ public interface Model {
      */
     ObservableList<Event> getFilteredEventList();
 
+    /**
+     * Returns the scheduler that tracks the status of every event in the address book.
+     */
+    EventStatusScheduler getEventStatusScheduler();
+
     /**
      * Updates the filter of the filtered event list to filter by the given {@code predicate}.
      *
@@ -145,6 +172,12 @@ public interface Model {
      */
     void updateFilteredEventList(Predicate<Event> predicate);
 
+    /**
+     * Returns a predicate that tests if an event's name contains any of {@code keywords}, like
+     * {@code NameContainsKeywordsPredicate}, by looking the event up in an index of the names in the address book.
+     */
+    Predicate<Event> getIndexedEventNamePredicate(List<String> keywords);
+
     //===========  Record Methods =============================================================
 
     /**
@@ -158,6 +191,11 @@ public interface Model {
      */
     void deleteRecord(Record target);
 
+    /**
+     * Deletes all records that match {@code predicate}, as a single change to the database.
+     */
+    void deleteRecordsWhere(Predicate<Record> predicate);
+
     /**
      * Adds the given record.
      * {@code record} must not already exist in the database.
@@ -171,6 +209,16 @@ public interface Model {
      */
     void updateRecord(Record target, Record editedRecord);
 
+    /**
+     * Returns an unmodifiable list of the records of the event with {@code eventId}.
+     */
+    List<Record> getRecordsForEvent(EventId eventId);
+
+    /**
+     * Returns an unmodifiable list of the records of the volunteer with {@code volunteerId}.
+     */
+    List<Record> getRecordsForVolunteer(VolunteerId volunteerId);
+
     /**
      * Returns an unmodifiable view of the filtered record list
      */
@@ -183,6 +231,46 @@ public interface Model {
      */
     void updateFilteredRecordList(Predicate<Record> predicate);
 
+    /**
+     * Returns an unmodifiable view of the roster of the filtered record list: each record joined with the details
+     * of its volunteer.
+     */
+    ObservableList<RosterRow> getFilteredRecordRoster();
+
+    /**
+     * Returns an unmodifiable view of the records that match {@code predicate}, which is kept up to date as the
+     * records change. The view is cached, so asking for it again with an equal predicate returns the same view.
+     */
+    ObservableList<Record> getRecordView(Predicate<Record> predicate);
+
+    /**
+     * Drops the view of the records that match {@code predicate} from the cache, once it is no longer needed.
+     */
+    void releaseRecordView(Predicate<Record> predicate);
+
+    /**
+     * Returns the number of views returned by {@link #getRecordView(Predicate)} that are still updated on every
+     * change to the records, whether they are cached or not.
+     */
+    int getLiveRecordViewCount();
+
+    //===========  Transaction Methods =============================================================
+
+    /**
+     * Starts a transaction. Until the matching {@code commitTransaction()}, changes to the address book do not raise
+     * change events, calls to {@code commitAddressBook()} are deferred, and additions to the lists are held back.
+     * Transactions may be nested; only the outermost one takes effect.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the current transaction, publishing its changes as a single change to the address book.
+     * The address book is committed once if {@code commitAddressBook()} was called during the transaction.
+     *
+     * @throws IllegalStateException if there is no transaction in progress.
+     */
+    void commitTransaction();
+
     //===========  Undo/Redo Methods =============================================================
     /**
      * Restore the model's address book to the initial state.
@@ -3,6 +3,11 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,8 +18,11 @@ import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
 import seedu.address.model.record.Record;
+import seedu.address.model.record.RosterRow;
 import seedu.address.model.volunteer.Volunteer;
+import seedu.address.model.volunteer.VolunteerId;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,9 +36,19 @@ public class ModelManager extends ComponentManager implements Model {
 
     private Event selectedEvent;
 
+    private int transactionDepth;
+    private boolean hasChangesInTransaction;
+    private boolean hasCommitInTransaction;
+
     private final FilteredList<Volunteer> filteredVolunteers;
     private final FilteredList<Event> filteredEvents;
     private final FilteredList<Record> filteredRecords;
+    private final EventStatusScheduler eventStatusScheduler;
+    private final DerivedViewRegistry<Record> recordViews;
+    private RecordRoster filteredRecordRoster;
+    private final KeywordIndex<Volunteer> volunteerNameIndex;
+    private final KeywordIndex<Event> eventNameIndex;
+    private StagedAddressBookLoader loader;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,21 +59,52 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryMode(),
+                userPrefs.getUndoHistoryMaxEntries(), userPrefs.getUndoHistoryMaxBytes());
 
         context = new Context(Context.VOLUNTEER_CONTEXT_ID, Context.VOLUNTEER_CONTEXT_NAME);
 
         selectedEvent = null;
 
+        // the indexes must see list changes before the filtered lists re-test the changed elements against them
+        volunteerNameIndex = new KeywordIndex<>(versionedAddressBook.getVolunteerList(),
+                volunteer -> volunteer.getName().fullName);
+        eventNameIndex = new KeywordIndex<>(versionedAddressBook.getEventList(), event -> event.getName().fullName);
         filteredVolunteers = new FilteredList<>(versionedAddressBook.getVolunteerList());
         filteredEvents = new FilteredList<>(versionedAddressBook.getEventList());
         filteredRecords = new FilteredList<>(versionedAddressBook.getRecordList());
+        recordViews = new DerivedViewRegistry<>(versionedAddressBook.getRecordList());
+        eventStatusScheduler = new EventStatusScheduler(versionedAddressBook.getEventList(),
+                Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given userPrefs and an empty address book, to which the address book
+     * {@code addressBook}, once read, is added section by section by tasks run on {@code uiExecutor}.
+     */
+    public ModelManager(CompletableFuture<? extends ReadOnlyAddressBook> addressBook, UserPrefs userPrefs,
+                        Executor uiExecutor) {
+        this(new AddressBook(), userPrefs);
+        loader = new StagedAddressBookLoader(addressBook, versionedAddressBook, uiExecutor, this::raise);
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    @Override
+    public void awaitLoaded(Set<AddressBookSection> sections) {
+        requireNonNull(sections);
+        if (loader != null) {
+            loader.awaitLoaded(sections);
+        }
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return loader == null || loader.isFinished();
+    }
+
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
         versionedAddressBook.resetData(newData);
@@ -71,7 +120,11 @@ public class ModelManager extends ComponentManager implements Model {
      * Raises an event to indicate the model has changed
      */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(versionedAddressBook));
+        if (transactionDepth > 0) {
+            hasChangesInTransaction = true;
+            return;
+        }
+        raise(new AddressBookChangedEvent(versionedAddressBook.getReadOnlySnapshot()));
     }
 
     //===========  Context Switching Methods =============================================================
@@ -153,6 +206,12 @@ public class ModelManager extends ComponentManager implements Model {
         filteredVolunteers.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Volunteer> getIndexedVolunteerNamePredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return volunteerNameIndex.containsAnyKeyword(keywords);
+    }
+
 
     //===========  Event List Methods =============================================================
     @Override
@@ -193,12 +252,23 @@ public class ModelManager extends ComponentManager implements Model {
         return FXCollections.unmodifiableObservableList(filteredEvents);
     }
 
+    @Override
+    public EventStatusScheduler getEventStatusScheduler() {
+        return eventStatusScheduler;
+    }
+
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
         filteredEvents.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Event> getIndexedEventNamePredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return eventNameIndex.containsAnyKeyword(keywords);
+    }
+
     //===========  Record List Methods =============================================================
     @Override
     public boolean hasRecord(Record record) {
@@ -212,6 +282,14 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public void deleteRecordsWhere(Predicate<Record> predicate) {
+        requireNonNull(predicate);
+        if (versionedAddressBook.removeRecordsWhere(predicate)) {
+            indicateAddressBookChanged();
+        }
+    }
+
     @Override
     public void addRecord(Record record) {
         versionedAddressBook.addRecord(record);
@@ -227,6 +305,18 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public List<Record> getRecordsForEvent(EventId eventId) {
+        requireNonNull(eventId);
+        return versionedAddressBook.getRecordsForEvent(eventId);
+    }
+
+    @Override
+    public List<Record> getRecordsForVolunteer(VolunteerId volunteerId) {
+        requireNonNull(volunteerId);
+        return versionedAddressBook.getRecordsForVolunteer(volunteerId);
+    }
+
     //=========== Filtered Record List Accessors =============================================================
 
     /**
@@ -244,6 +334,71 @@ public class ModelManager extends ComponentManager implements Model {
         filteredRecords.setPredicate(predicate);
     }
 
+    /**
+     * Returns an unmodifiable view of the roster of {@code filteredRecords}, which is only built, and kept up to
+     * date, once it has been asked for.
+     */
+    @Override
+    public ObservableList<RosterRow> getFilteredRecordRoster() {
+        if (filteredRecordRoster == null) {
+            filteredRecordRoster = new RecordRoster(filteredRecords, versionedAddressBook.getVolunteerList());
+        }
+        return filteredRecordRoster.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public ObservableList<Record> getRecordView(Predicate<Record> predicate) {
+        requireNonNull(predicate);
+        int liveViewCount = recordViews.getLiveViewCount();
+        ObservableList<Record> view = recordViews.getFilteredView(predicate);
+        if (recordViews.getLiveViewCount() > liveViewCount) {
+            logger.fine("Created record view, live record views: " + recordViews.getLiveViewCount());
+        }
+        return view;
+    }
+
+    @Override
+    public void releaseRecordView(Predicate<Record> predicate) {
+        requireNonNull(predicate);
+        recordViews.release(predicate);
+    }
+
+    @Override
+    public int getLiveRecordViewCount() {
+        return recordViews.getLiveViewCount();
+    }
+
+    //=========== Transactions ==============================================================================
+    @Override
+    public void beginTransaction() {
+        if (transactionDepth == 0) {
+            versionedAddressBook.beginBatch();
+        }
+        transactionDepth++;
+    }
+
+    @Override
+    public void commitTransaction() {
+        if (transactionDepth == 0) {
+            throw new IllegalStateException("No transaction in progress.");
+        }
+        transactionDepth--;
+        if (transactionDepth > 0) {
+            return;
+        }
+
+        versionedAddressBook.endBatch();
+        if (hasCommitInTransaction) {
+            versionedAddressBook.commit();
+        }
+        boolean hasChanges = hasChangesInTransaction;
+        hasChangesInTransaction = false;
+        hasCommitInTransaction = false;
+        if (hasChanges) {
+            indicateAddressBookChanged();
+        }
+    }
+
     //=========== Undo/Redo =================================================================================
     @Override
     public void resetStatePointer() {
@@ -274,6 +429,10 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void commitAddressBook() {
+        if (transactionDepth > 0) {
+            hasCommitInTransaction = true;
+            return;
+        }
         versionedAddressBook.commit();
     }
 
@@ -1,29 +1,26 @@
 package seedu.address.model;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
+import java.time.Clock;
+import java.time.LocalDate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.DateTimeUtil;
-import seedu.address.model.event.Event;
-import seedu.address.model.record.Record;
 import seedu.address.model.volunteer.Gender;
 import seedu.address.model.volunteer.Volunteer;
 
 /**
  * Contains methods used when calling the overview command.
+ *
+ * The statistics are kept up to date as volunteers are added to and removed from the volunteer list, so that they
+ * do not have to be recounted over the whole list after every change. Event statistics are read from the
+ * {@code EventStatusScheduler}. Since ages change with the date, volunteers are regrouped by age only when the date
+ * has changed since they were last grouped.
  */
 public class Overview {
     private ObservableList<Volunteer> volunteers;
-    private ObservableList<Event> events;
-    private ObservableList<Record> records;
-
-    // Event-related stats
-    private int numOfOngoingEvents;
-    private int numOfUpcomingEvents;
-    private int numOfCompletedEvents;
+    private EventStatusScheduler eventStatusScheduler;
+    private final Clock clock;
 
     // Volunteer-related stats
     private int numOfMale;
@@ -32,28 +29,35 @@ public class Overview {
     private int numOfYouth; //Age 15 to 24
     private int numOfAdult; //Age 25 to 64
     private int numOfSenior; //Age 65 and above
+    private LocalDate ageGroupsDate; // the date on which the ages of volunteers were last grouped
 
     public Overview(ObservableList<Volunteer> volunteers,
-                    ObservableList<Event> events,
-                    ObservableList<Record> records) {
+                    EventStatusScheduler eventStatusScheduler) {
+        this(volunteers, eventStatusScheduler, Clock.systemDefaultZone());
+    }
+
+    public Overview(ObservableList<Volunteer> volunteers,
+                    EventStatusScheduler eventStatusScheduler,
+                    Clock clock) {
         this.volunteers = volunteers;
-        this.events = events;
-        this.records = records;
+        this.eventStatusScheduler = eventStatusScheduler;
+        this.clock = clock;
 
-        calculateNumOfEvents();
-        calculateVolunteerDemographics();
+        ageGroupsDate = LocalDate.now(clock);
+        volunteers.forEach(volunteer -> count(volunteer, 1));
+        volunteers.addListener(this::onVolunteersChanged);
     }
 
     public int getNumOfOngoingEvents() {
-        return numOfOngoingEvents;
+        return eventStatusScheduler.getNumOfEvents(DateTimeUtil.ONGOING_EVENT);
     }
 
     public int getNumOfUpcomingEvents() {
-        return numOfUpcomingEvents;
+        return eventStatusScheduler.getNumOfEvents(DateTimeUtil.UPCOMING_EVENT);
     }
 
     public int getNumOfCompletedEvents() {
-        return numOfCompletedEvents;
+        return eventStatusScheduler.getNumOfEvents(DateTimeUtil.COMPLETED_EVENT);
     }
 
     public int getNumOfMale() {
@@ -81,121 +85,72 @@ public class Overview {
     }
 
     /**
-     * This method helps to get the number of events for the respective types based on time.
+     * This method brings the number of events for the respective types up to date with the current time.
      */
     public void calculateNumOfEvents() {
-        numOfUpcomingEvents = 0;
-        numOfOngoingEvents = 0;
-        numOfCompletedEvents = 0;
-
-
-        for (int i = 0; i < events.size(); i++) {
-            Event e = events.get(i);
-            int status = DateTimeUtil.getEventStatus(e.getStartDate(), e.getStartTime(),
-                    e.getEndDate(), e.getEndTime());
-            if (status == DateTimeUtil.UPCOMING_EVENT) {
-                numOfUpcomingEvents++;
-            }
-            if (status == DateTimeUtil.ONGOING_EVENT) {
-                numOfOngoingEvents++;
-            }
-            if (status == DateTimeUtil.COMPLETED_EVENT) {
-                numOfCompletedEvents++;
-            }
-        }
+        eventStatusScheduler.refresh();
     }
 
     /**
-     * This method helps to calculate the volunteer demographics.
+     * This method brings the volunteer demographics up to date with the current date.
+     * The volunteers are regrouped by age only if the date has changed since they were last grouped.
      */
     public void calculateVolunteerDemographics() {
-        numOfMale = 0;
-        numOfFemale = 0;
-        numOfChildren = 0;
-        numOfYouth = 0;
-        numOfAdult = 0;
-        numOfSenior = 0;
-
-        //create calendar object for current day
-        long currentTime = System.currentTimeMillis();
-        Calendar now = Calendar.getInstance();
-        now.setTimeInMillis(currentTime);
-
-        SimpleDateFormat sdf = new SimpleDateFormat("dd-MM-yyyy");
-
-        for (int i = 0; i < volunteers.size(); i++) {
-            Volunteer v = volunteers.get(i);
-            if (v.getGender().value.equals(Gender.GENDER_MALE_VALIDATION_REGEX)) {
-                numOfMale++;
-            }
-            if (v.getGender().value.equals(Gender.GENDER_FEMALE_VALIDATION_REGEX)) {
-                numOfFemale++;
-            }
-
-            int age = 0;
-            try {
-                Date birthDate = sdf.parse(v.getBirthday().value);
-                age = calculateAge(now, birthDate);
-            } catch (ParseException e) {
-                e.printStackTrace();
-            }
-
-            if (age <= 14) {
-                numOfChildren++;
-            }
-            if (age >= 15 && age <= 24) {
-                numOfYouth++;
-            }
+        LocalDate today = LocalDate.now(clock);
+        if (today.equals(ageGroupsDate)) {
+            return;
+        }
 
-            if (age >= 25 && age <= 64) {
-                numOfAdult++;
-            }
+        volunteers.forEach(volunteer -> countAgeGroup(volunteer, -1));
+        ageGroupsDate = today;
+        volunteers.forEach(volunteer -> countAgeGroup(volunteer, 1));
+    }
 
-            if (age >= 65) {
-                numOfSenior++;
+    /**
+     * Counts the volunteers added to the list, and uncounts the volunteers removed from it.
+     */
+    private void onVolunteersChanged(ListChangeListener.Change<? extends Volunteer> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
             }
+            change.getRemoved().forEach(volunteer -> count(volunteer, -1));
+            change.getAddedSubList().forEach(volunteer -> count(volunteer, 1));
+        }
+    }
 
+    /**
+     * Adds {@code delta} to the counts of the gender and the age group of {@code v}.
+     */
+    private void count(Volunteer v, int delta) {
+        if (v.getGender().value.equals(Gender.GENDER_MALE_VALIDATION_REGEX)) {
+            numOfMale += delta;
         }
+        if (v.getGender().value.equals(Gender.GENDER_FEMALE_VALIDATION_REGEX)) {
+            numOfFemale += delta;
+        }
+        countAgeGroup(v, delta);
     }
 
     /**
-     * Calculate the age of a volunteer.
-     *
-     * @param now       DateTime today
-     * @param birthDate Birth date of a volunteer
-     * @return integer age of volunteer
+     * Adds {@code delta} to the count of the age group of {@code v}, as of {@code ageGroupsDate}.
      */
-    private int calculateAge(Calendar now, Date birthDate) {
-        int years = 0;
-        int months = 0;
-
-        //create calendar object for birth day
-        Calendar birthDay = Calendar.getInstance();
-        birthDay.setTimeInMillis(birthDate.getTime());
-
-        //Get difference between years
-        years = now.get(Calendar.YEAR) - birthDay.get(Calendar.YEAR);
-        int currMonth = now.get(Calendar.MONTH) + 1;
-        int birthMonth = birthDay.get(Calendar.MONTH) + 1;
-
-        //Get difference between months
-        months = currMonth - birthMonth;
-
-        //if month difference is in negative then reduce years by one
-        //and calculate the number of months.
-        if (months < 0) {
-            years--;
-            months = 12 - birthMonth + currMonth;
-            if (now.get(Calendar.DATE) < birthDay.get(Calendar.DATE)) {
-                months--;
-            }
-        } else if (months == 0 && now.get(Calendar.DATE) < birthDay.get(Calendar.DATE)) {
-            years--;
-            months = 11;
+    private void countAgeGroup(Volunteer v, int delta) {
+        int age = v.getBirthday().getAgeOn(ageGroupsDate);
+
+        if (age <= 14) {
+            numOfChildren += delta;
+        }
+        if (age >= 15 && age <= 24) {
+            numOfYouth += delta;
         }
 
-        //Create new Age object
-        return years;
+        if (age >= 25 && age <= 64) {
+            numOfAdult += delta;
+        }
+
+        if (age >= 65) {
+            numOfSenior += delta;
+        }
     }
 }
-
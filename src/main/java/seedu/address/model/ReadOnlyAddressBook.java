@@ -1,9 +1,14 @@
 package seedu.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.VersionUtil;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
 import seedu.address.model.record.Record;
 import seedu.address.model.volunteer.Volunteer;
+import seedu.address.model.volunteer.VolunteerId;
 
 /**
  * Unmodifiable view of an address book
@@ -27,4 +32,38 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate records.
      */
     ObservableList<Record> getRecordList();
+
+    /**
+     * Returns an unmodifiable list of the records of the event with {@code eventId}.
+     */
+    List<Record> getRecordsForEvent(EventId eventId);
+
+    /**
+     * Returns an unmodifiable list of the records of the volunteer with {@code volunteerId}.
+     */
+    List<Record> getRecordsForVolunteer(VolunteerId volunteerId);
+
+    /**
+     * Returns the version of the volunteers list, which changes whenever the list changes.
+     * Returns {@code VersionUtil.UNKNOWN_VERSION} if changes to the list are not tracked.
+     */
+    default long getVolunteerListVersion() {
+        return VersionUtil.UNKNOWN_VERSION;
+    }
+
+    /**
+     * Returns the version of the events list, which changes whenever the list changes.
+     * Returns {@code VersionUtil.UNKNOWN_VERSION} if changes to the list are not tracked.
+     */
+    default long getEventListVersion() {
+        return VersionUtil.UNKNOWN_VERSION;
+    }
+
+    /**
+     * Returns the version of the records list, which changes whenever the list changes.
+     * Returns {@code VersionUtil.UNKNOWN_VERSION} if changes to the list are not tracked.
+     */
+    default long getRecordListVersion() {
+        return VersionUtil.UNKNOWN_VERSION;
+    }
 }
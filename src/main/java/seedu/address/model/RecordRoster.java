@@ -0,0 +1,158 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.record.Record;
+import seedu.address.model.record.RosterRow;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.model.volunteer.VolunteerId;
+
+/**
+ * The rows of a roster: each record of a list of records joined with the volunteer of the same id, in the order
+ * of the records.
+ *
+ * The rows are built by looking each record's volunteer up in a map of the volunteers by id, instead of searching
+ * the volunteer list for it, and are kept up to date as the lists change: a record added or removed adds or removes
+ * its row only, and a volunteer added or removed rebuilds only the rows of records with its id. The records and
+ * volunteers themselves are never modified.
+ */
+public class RecordRoster {
+    private final ObservableList<Record> records; // unmodifiable views only listen weakly to their source
+    private final ObservableList<Volunteer> volunteers;
+
+    private final ObservableList<RosterRow> rows = FXCollections.observableArrayList();
+    private final ObservableList<RosterRow> unmodifiableRows = FXCollections.unmodifiableObservableList(rows);
+    private final Map<VolunteerId, List<Volunteer>> volunteersById = new HashMap<>();
+    private final Map<VolunteerId, Integer> rowCountsByVolunteerId = new HashMap<>();
+
+    /**
+     * Creates the roster of {@code records}, joined with the volunteers in {@code volunteers}.
+     */
+    public RecordRoster(ObservableList<Record> records, ObservableList<Volunteer> volunteers) {
+        requireNonNull(records);
+        requireNonNull(volunteers);
+        this.records = records;
+        this.volunteers = volunteers;
+
+        volunteers.forEach(this::addToIndex);
+        rows.setAll(createRows(records));
+        countRows(rows, 1);
+        records.addListener(this::onRecordsChanged);
+        volunteers.addListener(this::onVolunteersChanged);
+    }
+
+    /**
+     * Returns the rows as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<RosterRow> asUnmodifiableObservableList() {
+        return unmodifiableRows;
+    }
+
+    /**
+     * Adds and removes the rows of the records added to and removed from the list, and moves the rows of the
+     * records moved.
+     */
+    private void onRecordsChanged(ListChangeListener.Change<? extends Record> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    rows.set(i, new RosterRow(records.get(i), getVolunteer(records.get(i).getVolunteerId())));
+                }
+                continue;
+            }
+            if (change.wasRemoved()) {
+                List<RosterRow> removedRows = rows.subList(change.getFrom(),
+                        change.getFrom() + change.getRemovedSize());
+                countRows(removedRows, -1);
+                removedRows.clear();
+            }
+            if (change.wasAdded()) {
+                List<RosterRow> addedRows = createRows(change.getAddedSubList());
+                countRows(addedRows, 1);
+                rows.addAll(change.getFrom(), addedRows);
+            }
+        }
+    }
+
+    /**
+     * Updates the map of volunteers by id, and rebuilds the rows of the records whose volunteer changed.
+     */
+    private void onVolunteersChanged(ListChangeListener.Change<? extends Volunteer> change) {
+        Set<VolunteerId> changedIds = new HashSet<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Volunteer volunteer : change.getRemoved()) {
+                removeFromIndex(volunteer);
+                changedIds.add(volunteer.getVolunteerId());
+            }
+            for (Volunteer volunteer : change.getAddedSubList()) {
+                addToIndex(volunteer);
+                changedIds.add(volunteer.getVolunteerId());
+            }
+        }
+
+        changedIds.retainAll(rowCountsByVolunteerId.keySet());
+        if (changedIds.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            Record record = rows.get(i).getRecord();
+            if (changedIds.contains(record.getVolunteerId())) {
+                rows.set(i, new RosterRow(record, getVolunteer(record.getVolunteerId())));
+            }
+        }
+    }
+
+    /**
+     * Returns the rows of {@code records}.
+     */
+    private List<RosterRow> createRows(List<? extends Record> records) {
+        List<RosterRow> newRows = new ArrayList<>(records.size());
+        for (Record record : records) {
+            newRows.add(new RosterRow(record, getVolunteer(record.getVolunteerId())));
+        }
+        return newRows;
+    }
+
+    /**
+     * Returns the volunteer with {@code volunteerId}, or null if there is none.
+     */
+    private Volunteer getVolunteer(VolunteerId volunteerId) {
+        List<Volunteer> matches = volunteersById.get(volunteerId);
+        return matches == null ? null : matches.get(0);
+    }
+
+    /**
+     * Adds {@code delta} to the number of rows of the volunteer of each of {@code changedRows}, dropping the
+     * volunteers left with no rows.
+     */
+    private void countRows(List<RosterRow> changedRows, int delta) {
+        for (RosterRow row : changedRows) {
+            rowCountsByVolunteerId.merge(row.getRecord().getVolunteerId(), delta,
+                    (count, change) -> count + change == 0 ? null : count + change);
+        }
+    }
+
+    private void addToIndex(Volunteer volunteer) {
+        volunteersById.computeIfAbsent(volunteer.getVolunteerId(), unused -> new ArrayList<>(1)).add(volunteer);
+    }
+
+    private void removeFromIndex(Volunteer volunteer) {
+        List<Volunteer> matches = volunteersById.get(volunteer.getVolunteerId());
+        if (matches != null && matches.remove(volunteer) && matches.isEmpty()) {
+            volunteersById.remove(volunteer.getVolunteerId());
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.AddressBookLoadProgressEvent;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Adds an address book that is being read in the background to a {@code VersionedAddressBook} one section at a
+ * time, volunteers first, then events, then records. Each section is added in batches, so that the UI stays
+ * responsive while a large address book is loaded.
+ *
+ * The batches are added by tasks run on {@code uiExecutor}. {@link #awaitLoaded(Set)} must be called on the thread
+ * that runs those tasks.
+ */
+class StagedAddressBookLoader {
+
+    /** The number of elements added by each task. */
+    static final int BATCH_SIZE = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(StagedAddressBookLoader.class);
+
+    private final CompletableFuture<? extends ReadOnlyAddressBook> data;
+    private final VersionedAddressBook target;
+    private final Executor uiExecutor;
+    private final Consumer<AddressBookLoadProgressEvent> progressHandler;
+    private final long startNanos;
+
+    // only used on the thread of uiExecutor
+    private AddressBookSection currentSection = AddressBookSection.VOLUNTEERS;
+    private int addedInCurrentSection;
+    private int loadedCount;
+    private boolean isFinished;
+
+    /**
+     * Creates a loader that adds {@code data} to {@code target} once it has been read, and passes each batch's
+     * progress to {@code progressHandler}. {@code target} must be empty.
+     */
+    StagedAddressBookLoader(CompletableFuture<? extends ReadOnlyAddressBook> data, VersionedAddressBook target,
+            Executor uiExecutor, Consumer<AddressBookLoadProgressEvent> progressHandler) {
+        requireAllNonNull(data, target, uiExecutor, progressHandler);
+        this.data = data;
+        this.target = target;
+        this.uiExecutor = uiExecutor;
+        this.progressHandler = progressHandler;
+        startNanos = System.nanoTime();
+
+        data.whenComplete((addressBook, error) -> {
+            if (error != null) {
+                logger.warning("Problem while reading the address book. Will be starting with empty data: "
+                        + StringUtil.getDetails(error));
+            } else {
+                logger.info("Read address book in " + getElapsedMillis() + " ms");
+            }
+            uiExecutor.execute(this::loadNextBatch);
+        });
+    }
+
+    /**
+     * Returns true if the whole address book has been added.
+     */
+    boolean isFinished() {
+        return isFinished;
+    }
+
+    /**
+     * Waits until {@code sections} have been added, reading the rest of the address book and adding the sections
+     * at once if they are still being loaded.
+     */
+    void awaitLoaded(Set<AddressBookSection> sections) {
+        requireNonNull(sections);
+        if (isFinished || sections.isEmpty()) {
+            return;
+        }
+        AddressBookSection lastSection = Collections.max(sections);
+        if (lastSection.compareTo(currentSection) < 0) {
+            return;
+        }
+
+        logger.info("Waiting for " + lastSection + " to load");
+        while (!isFinished && lastSection.compareTo(currentSection) >= 0) {
+            loadBatch(Integer.MAX_VALUE);
+        }
+    }
+
+    private void loadNextBatch() {
+        if (isFinished) {
+            return;
+        }
+        loadBatch(BATCH_SIZE);
+        if (!isFinished) {
+            uiExecutor.execute(this::loadNextBatch);
+        }
+    }
+
+    /**
+     * Adds at most {@code maxCount} elements of the current section, moving on to the next section once all of
+     * the current one has been added.
+     */
+    private void loadBatch(int maxCount) {
+        ReadOnlyAddressBook addressBook = getData();
+        List<?> elements = getList(addressBook, currentSection);
+        int count = Math.min(maxCount, elements.size() - addedInCurrentSection);
+        target.appendLoaded(currentSection, elements.subList(addedInCurrentSection, addedInCurrentSection + count));
+        addedInCurrentSection += count;
+        loadedCount += count;
+
+        while (!isFinished && addedInCurrentSection == getList(addressBook, currentSection).size()) {
+            logger.info("Loaded " + currentSection + " in " + getElapsedMillis() + " ms");
+            if (currentSection.ordinal() == AddressBookSection.values().length - 1) {
+                target.resetHistory();
+                isFinished = true;
+                logger.info("Loaded address book of " + loadedCount + " items in " + getElapsedMillis() + " ms");
+            } else {
+                currentSection = AddressBookSection.values()[currentSection.ordinal() + 1];
+                addedInCurrentSection = 0;
+            }
+        }
+
+        progressHandler.accept(new AddressBookLoadProgressEvent(target.getReadOnlySnapshot(), loadedCount,
+                getTotalCount(addressBook)));
+    }
+
+    /**
+     * Returns the address book read, or an empty address book if it could not be read.
+     */
+    private ReadOnlyAddressBook getData() {
+        try {
+            return data.join();
+        } catch (CompletionException | CancellationException e) {
+            return new AddressBook();
+        }
+    }
+
+    private static List<?> getList(ReadOnlyAddressBook addressBook, AddressBookSection section) {
+        switch (section) {
+        case VOLUNTEERS:
+            return addressBook.getVolunteerList();
+        case EVENTS:
+            return addressBook.getEventList();
+        case RECORDS:
+            return addressBook.getRecordList();
+        default:
+            throw new AssertionError("Unknown section " + section);
+        }
+    }
+
+    private static int getTotalCount(ReadOnlyAddressBook addressBook) {
+        return addressBook.getVolunteerList().size() + addressBook.getEventList().size()
+                + addressBook.getRecordList().size();
+    }
+
+    private long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.VersionedAddressBook.HistoryMode;
 
 /**
  * Represents User's preferences.
@@ -13,6 +17,13 @@ public class UserPrefs {
 
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data" , "socialcare.xml");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.XML;
+    private HistoryMode undoHistoryMode = HistoryMode.SNAPSHOT;
+    private int undoHistoryMaxEntries = 100;
+    private long undoHistoryMaxBytes = 64L * 1024 * 1024;
+    private boolean isAddressBookJournaled = false;
+    private int addressBookJournalMaxOperations = 1000;
+    private long addressBookJournalMaxBytes = 4L * 1024 * 1024;
 
     public UserPrefs() {
         setGuiSettings(1000, 600, 0, 0);
@@ -38,6 +49,84 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public HistoryMode getUndoHistoryMode() {
+        return undoHistoryMode;
+    }
+
+    public void setUndoHistoryMode(HistoryMode undoHistoryMode) {
+        requireNonNull(undoHistoryMode);
+        this.undoHistoryMode = undoHistoryMode;
+    }
+
+    public int getUndoHistoryMaxEntries() {
+        return undoHistoryMaxEntries;
+    }
+
+    /**
+     * Sets the maximum number of commands that can be undone.
+     */
+    public void setUndoHistoryMaxEntries(int undoHistoryMaxEntries) {
+        checkArgument(undoHistoryMaxEntries > 0, "Undo history must hold at least one entry.");
+        this.undoHistoryMaxEntries = undoHistoryMaxEntries;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    /**
+     * Sets the approximate amount of memory, in bytes, that the undo history may retain.
+     */
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        checkArgument(undoHistoryMaxBytes >= 0, "Undo history memory budget must not be negative.");
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
+    /**
+     * Returns true if changes to the address book are appended to a journal next to the data file, which is only
+     * rewritten once the journal grows past its limits.
+     */
+    public boolean isAddressBookJournaled() {
+        return isAddressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean isAddressBookJournaled) {
+        this.isAddressBookJournaled = isAddressBookJournaled;
+    }
+
+    public int getAddressBookJournalMaxOperations() {
+        return addressBookJournalMaxOperations;
+    }
+
+    /**
+     * Sets the number of operations the journal may hold before the data file is rewritten.
+     */
+    public void setAddressBookJournalMaxOperations(int addressBookJournalMaxOperations) {
+        checkArgument(addressBookJournalMaxOperations > 0, "Journal must hold at least one operation.");
+        this.addressBookJournalMaxOperations = addressBookJournalMaxOperations;
+    }
+
+    public long getAddressBookJournalMaxBytes() {
+        return addressBookJournalMaxBytes;
+    }
+
+    /**
+     * Sets the size, in bytes, the journal may grow to before the data file is rewritten.
+     */
+    public void setAddressBookJournalMaxBytes(long addressBookJournalMaxBytes) {
+        checkArgument(addressBookJournalMaxBytes > 0, "Journal size limit must be positive.");
+        this.addressBookJournalMaxBytes = addressBookJournalMaxBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +139,21 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(addressBookFilePath, o.addressBookFilePath);
+                && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+                && addressBookFormat == o.addressBookFormat
+                && undoHistoryMode == o.undoHistoryMode
+                && undoHistoryMaxEntries == o.undoHistoryMaxEntries
+                && undoHistoryMaxBytes == o.undoHistoryMaxBytes
+                && isAddressBookJournaled == o.isAddressBookJournaled
+                && addressBookJournalMaxOperations == o.addressBookJournalMaxOperations
+                && addressBookJournalMaxBytes == o.addressBookJournalMaxBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, undoHistoryMode,
+                undoHistoryMaxEntries, undoHistoryMaxBytes, isAddressBookJournaled, addressBookJournalMaxOperations,
+                addressBookJournalMaxBytes);
     }
 
     @Override
@@ -63,7 +161,35 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nUndo history : " + undoHistoryMode + ", at most " + undoHistoryMaxEntries + " entries and "
+                + undoHistoryMaxBytes + " bytes");
+        sb.append("\nJournal : " + (isAddressBookJournaled ? "on" : "off") + ", at most "
+                + addressBookJournalMaxOperations + " operations and " + addressBookJournalMaxBytes + " bytes");
         return sb.toString();
     }
 
+    /**
+     * The format the address book is stored in.
+     */
+    public enum AddressBookFormat {
+        /** The xml file at the address book file path. */
+        XML,
+        /** A compact binary file next to the address book file path, with the extension {@code .bin}. */
+        BINARY,
+        /**
+         * One xml file per section next to the address book file path, listed in a file with the extension
+         * {@code .sections}. Saving rewrites only the sections that have changed.
+         */
+        SEGMENTED,
+        /**
+         * An embedded database next to the address book file path, with the extension {@code .mv.db}.
+         * Saving writes only the rows that have changed.
+         */
+        SQL,
+        /** A json file next to the address book file path, with the extension {@code .json}. */
+        JSON,
+        /** A gzip-compressed json file next to the address book file path, with the extension {@code .json.gz}. */
+        JSON_GZIP
+    }
 }
@@ -1,47 +1,166 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.model.record.Record;
+import seedu.address.model.volunteer.Volunteer;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ *
+ * In {@code HistoryMode.SNAPSHOT} mode each state is an {@code AddressBook.Snapshot} sharing structure with the
+ * states before it, so committing costs time and memory proportional to the changes since the last commit rather
+ * than to the size of the address book. In {@code HistoryMode.OPERATION_LOG} mode each state only holds the edits
+ * made to the lists since the previous state, and undo/redo replay those edits backwards or forwards.
+ *
+ * The number of undoable states and an estimate of the memory they retain are capped; once either cap is exceeded,
+ * the oldest states are evicted.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
-    private final ReadOnlyAddressBook initialState;
+    /** Rough memory retained per element changed between two states, including bookkeeping. */
+    static final long ESTIMATED_BYTES_PER_CHANGED_ELEMENT = 256;
+
+    private final List<State> addressBookStateList;
+    private State initialState;
+    private final HistoryMode historyMode;
+    private final int maxUndoableStates;
+    private final long maxHistoryBytes;
+
+    // The list views are kept so that the change listeners on them stay registered.
+    private final ObservableList<Volunteer> volunteerList;
+    private final ObservableList<Event> eventList;
+    private final ObservableList<Record> recordList;
+
     private int currentStatePointer;
+    private List<Edit> uncommittedEdits = new ArrayList<>();
+    private long uncommittedBytes;
+    private long historyBytes;
+    private boolean isReplaying;
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, HistoryMode.SNAPSHOT, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} starting at {@code initialState}, which keeps its history in
+     * {@code historyMode} and holds at most {@code maxUndoableStates} undoable states retaining an estimated
+     * {@code maxHistoryBytes} of memory.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, HistoryMode historyMode, int maxUndoableStates,
+                                long maxHistoryBytes) {
         super(initialState);
+        requireNonNull(historyMode);
+        checkArgument(maxUndoableStates > 0, "The history must hold at least one undoable state.");
+        checkArgument(maxHistoryBytes >= 0, "The history memory budget must not be negative.");
 
-        this.initialState = initialState;
+        this.historyMode = historyMode;
+        this.maxUndoableStates = maxUndoableStates;
+        this.maxHistoryBytes = maxHistoryBytes;
+        this.initialState = historyMode == HistoryMode.SNAPSHOT ? new State(snapshot()) : State.BASE;
         addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+        addressBookStateList.add(this.initialState);
         currentStatePointer = 0;
+
+        volunteerList = getVolunteerList();
+        eventList = getEventList();
+        recordList = getRecordList();
+        recordChanges(volunteerList, Section.VOLUNTEERS);
+        recordChanges(eventList, Section.EVENTS);
+        recordChanges(recordList, Section.RECORDS);
     }
 
     /**
      * Resets the state pointer.
+     * In {@code HistoryMode.OPERATION_LOG} mode, the current data becomes the earliest state.
      */
     public void resetStatePointer() {
         currentStatePointer = 0;
         addressBookStateList.clear();
-        addressBookStateList.add(new AddressBook(initialState));
+        addressBookStateList.add(historyMode == HistoryMode.SNAPSHOT ? initialState : State.BASE);
+        historyBytes = 0;
+        discardUncommittedEdits();
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Makes the current data the initial state, clearing the history and any uncommitted changes.
+     */
+    public void resetHistory() {
+        initialState = historyMode == HistoryMode.SNAPSHOT ? new State(snapshot()) : State.BASE;
+        resetStatePointer();
+    }
+
+    /**
+     * Appends {@code elements}, which have been loaded in the background, to the end of {@code section} without
+     * recording them as a change. The caller must ensure that the elements keep the section unique.
+     */
+    @SuppressWarnings("unchecked")
+    void appendLoaded(AddressBookSection section, List<?> elements) {
+        replay(() -> {
+            switch (section) {
+            case VOLUNTEERS:
+                int volunteerCount = volunteerList.size();
+                replaceVolunteerRange(volunteerCount, volunteerCount, (List<Volunteer>) elements);
+                break;
+            case EVENTS:
+                int eventCount = eventList.size();
+                replaceEventRange(eventCount, eventCount, (List<Event>) elements);
+                break;
+            case RECORDS:
+                int recordCount = recordList.size();
+                replaceRecordRange(recordCount, recordCount, (List<Record>) elements);
+                break;
+            default:
+                throw new AssertionError("Unknown section " + section);
+            }
+        });
+    }
+
+    /**
+     * Saves the current {@code AddressBook} state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest states are evicted if the history is full.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        State state = historyMode == HistoryMode.SNAPSHOT
+                ? new State(snapshot(), Collections.emptyList(), uncommittedBytes)
+                : new State(null, uncommittedEdits, uncommittedBytes);
+        addressBookStateList.add(state);
+        historyBytes += state.estimatedBytes;
         currentStatePointer++;
+        discardUncommittedEdits();
+        evictOldestStates();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        List<State> statesAfterPointer =
+                addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size());
+        statesAfterPointer.forEach(state -> historyBytes -= state.estimatedBytes);
+        statesAfterPointer.clear();
+    }
+
+    /**
+     * Evicts the oldest states until the history is within its caps, always keeping the current state.
+     */
+    private void evictOldestStates() {
+        while (currentStatePointer > 0
+                && (currentStatePointer > maxUndoableStates || historyBytes > maxHistoryBytes)) {
+            addressBookStateList.remove(0);
+            State oldestState = addressBookStateList.get(0);
+            historyBytes -= oldestState.estimatedBytes;
+            // the edits leading to the oldest state can no longer be undone
+            addressBookStateList.set(0, oldestState.snapshot == null ? State.BASE : new State(oldestState.snapshot));
+            currentStatePointer--;
+        }
     }
 
     /**
@@ -51,8 +170,16 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        revertUncommittedEdits();
+        State undoneState = addressBookStateList.get(currentStatePointer);
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        replay(() -> {
+            if (historyMode == HistoryMode.SNAPSHOT) {
+                restore(addressBookStateList.get(currentStatePointer).snapshot);
+            } else {
+                revert(undoneState.edits);
+            }
+        });
     }
 
     /**
@@ -62,8 +189,16 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        revertUncommittedEdits();
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        State redoneState = addressBookStateList.get(currentStatePointer);
+        replay(() -> {
+            if (historyMode == HistoryMode.SNAPSHOT) {
+                restore(redoneState.snapshot);
+            } else {
+                apply(redoneState.edits);
+            }
+        });
     }
 
     /**
@@ -80,6 +215,93 @@ public class VersionedAddressBook extends AddressBook {
         return currentStatePointer < addressBookStateList.size() - 1;
     }
 
+    /**
+     * Returns the estimated memory retained by the undoable and redoable states, in bytes.
+     */
+    long getEstimatedHistoryBytes() {
+        return historyBytes;
+    }
+
+    /**
+     * Records the changes made to {@code list} outside of undo/redo as edits of {@code section}.
+     */
+    private <T> void recordChanges(ObservableList<T> list, Section section) {
+        list.addListener((ListChangeListener<T>) change -> {
+            if (isReplaying) {
+                return;
+            }
+            while (change.next()) {
+                // the unique lists are never sorted in place and have no extractors
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                uncommittedBytes += ESTIMATED_BYTES_PER_CHANGED_ELEMENT
+                        * (change.getRemovedSize() + change.getAddedSize());
+                if (historyMode == HistoryMode.OPERATION_LOG) {
+                    uncommittedEdits.add(new Edit(section, change.getFrom(),
+                            new ArrayList<>(change.getRemoved()), new ArrayList<>(change.getAddedSubList())));
+                }
+            }
+        });
+    }
+
+    private void discardUncommittedEdits() {
+        uncommittedEdits = new ArrayList<>();
+        uncommittedBytes = 0;
+    }
+
+    /**
+     * Reverts the changes made since the last commit, so that the data matches the current state again.
+     * In {@code HistoryMode.SNAPSHOT} mode the next restore overwrites them instead.
+     */
+    private void revertUncommittedEdits() {
+        List<Edit> edits = uncommittedEdits;
+        discardUncommittedEdits();
+        replay(() -> revert(edits));
+    }
+
+    /**
+     * Runs {@code replayAction} without recording the changes it makes.
+     */
+    private void replay(Runnable replayAction) {
+        isReplaying = true;
+        try {
+            replayAction.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    private void apply(List<Edit> edits) {
+        for (Edit edit : edits) {
+            replaceRange(edit.section, edit.from, edit.from + edit.removed.size(), edit.added);
+        }
+    }
+
+    private void revert(List<Edit> edits) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            Edit edit = edits.get(i);
+            replaceRange(edit.section, edit.from, edit.from + edit.added.size(), edit.removed);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void replaceRange(Section section, int fromIndex, int toIndex, List<?> replacement) {
+        switch (section) {
+        case VOLUNTEERS:
+            replaceVolunteerRange(fromIndex, toIndex, (List<Volunteer>) replacement);
+            break;
+        case EVENTS:
+            replaceEventRange(fromIndex, toIndex, (List<Event>) replacement);
+            break;
+        case RECORDS:
+            replaceRecordRange(fromIndex, toIndex, (List<Record>) replacement);
+            break;
+        default:
+            throw new AssertionError("Unknown section " + section);
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -100,6 +322,90 @@ public class VersionedAddressBook extends AddressBook {
                 && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
     }
 
+    /**
+     * How a {@code VersionedAddressBook} keeps its history.
+     */
+    public enum HistoryMode {
+        /** Keeps a structurally shared snapshot of every state. */
+        SNAPSHOT,
+        /** Keeps the edits between consecutive states, and replays their inverses to undo. */
+        OPERATION_LOG
+    }
+
+    /**
+     * The lists of an address book that edits can apply to.
+     */
+    private enum Section {
+        VOLUNTEERS, EVENTS, RECORDS
+    }
+
+    /**
+     * A contiguous edit to one of the lists: {@code removed} was replaced by {@code added}, starting at {@code from}.
+     */
+    private static final class Edit {
+        private final Section section;
+        private final int from;
+        private final List<?> removed;
+        private final List<?> added;
+
+        private Edit(Section section, int from, List<?> removed, List<?> added) {
+            this.section = section;
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Edit // instanceof handles nulls
+                    && section == ((Edit) other).section
+                    && from == ((Edit) other).from
+                    && removed.equals(((Edit) other).removed)
+                    && added.equals(((Edit) other).added));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(section, from, removed, added);
+        }
+    }
+
+    /**
+     * A state in the history. Holds a snapshot of the data in {@code HistoryMode.SNAPSHOT} mode, or the edits
+     * leading to it from the previous state in {@code HistoryMode.OPERATION_LOG} mode.
+     */
+    private static final class State {
+        private static final State BASE = new State(null);
+
+        private final Snapshot snapshot;
+        private final List<Edit> edits;
+        private final long estimatedBytes;
+
+        private State(Snapshot snapshot) {
+            this(snapshot, Collections.emptyList(), 0);
+        }
+
+        private State(Snapshot snapshot, List<Edit> edits, long estimatedBytes) {
+            this.snapshot = snapshot;
+            this.edits = edits;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof State // instanceof handles nulls
+                    && Objects.equals(snapshot, ((State) other).snapshot)
+                    && edits.equals(((State) other).edits));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(snapshot, edits);
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
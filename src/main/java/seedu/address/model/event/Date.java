@@ -3,8 +3,10 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import seedu.address.commons.util.DateTimeUtil;
 
 /**
  * Represents an Event's date in the application.
@@ -17,12 +19,14 @@ public class Date {
     /*
      * First character of DD must be 0-3
      * First character of MM must be 0 or 1
-     * Regex not enough to check for valid dates. Need to use a SimpleDateFormat parser as well.
+     * Regex not enough to check for valid dates. Need to use a strict date parser as well.
      */
     public static final String DATE_VALIDATION_REGEX = "[0-3]\\d-[01]\\d-\\d{4}";
 
     public final String value;
 
+    private final long epochDay;
+
     /**
      * Constructs an {@code Date}.
      *
@@ -32,6 +36,7 @@ public class Date {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_DATE_CONSTRAINTS);
         value = date;
+        epochDay = LocalDate.parse(date, DateTimeUtil.DATE_FORMATTER).toEpochDay();
     }
 
     /**
@@ -42,13 +47,10 @@ public class Date {
             return false;
         }
 
-        SimpleDateFormat df = new SimpleDateFormat("dd-MM-yyyy");
-        df.setLenient(false);
-
         try {
-            df.parse(test);
+            LocalDate.parse(test, DateTimeUtil.DATE_FORMATTER);
             return true;
-        } catch (ParseException ex) {
+        } catch (DateTimeParseException ex) {
             return false;
         }
     }
@@ -57,33 +59,14 @@ public class Date {
      * Returns true if current date falls on an earlier date or on the same date as the other date.
      */
     public boolean isLessThanOrEqualTo(Date otherDate) {
-        if (otherDate == this) {
-            return true;
-        }
-
-        String[] dateParts = this.toString().split("-");
-        //parseInt ignores leading zeros like 01 or 09 when converting from String to int
-        int year = Integer.parseInt(dateParts[2]);
-        int month = Integer.parseInt(dateParts[1]);
-        int day = Integer.parseInt(dateParts[0]);
-
-        String[] otherDateParts = otherDate.toString().split("-");
-        int otherYear = Integer.parseInt(otherDateParts[2]);
-        int otherMonth = Integer.parseInt(otherDateParts[1]);
-        int otherDay = Integer.parseInt(otherDateParts[0]);
-
-        if (year > otherYear) {
-            //start year is more than end year
-            return false;
-        } else if (year == otherYear && month > otherMonth) {
-            //same year but start month is more than end month
-            return false;
-        } else if (year == otherYear && month == otherMonth && day > otherDay) {
-            //same year, same month but start day is more than end day
-            return false;
-        }
+        return epochDay <= otherDate.epochDay;
+    }
 
-        return true;
+    /**
+     * Returns the number of days from the epoch (01-01-1970) to this date.
+     */
+    public long toEpochDay() {
+        return epochDay;
     }
 
     @Override
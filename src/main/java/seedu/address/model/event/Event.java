@@ -22,7 +22,7 @@ public class Event {
     public static final String MESSAGE_START_END_TIME_CONSTRAINTS =
             "Start time should only be earlier than or the same as end time";
 
-    // Used to keep track of current max Id in the system
+    // Used to keep track of current max Id in the system, guarded by Event.class as events may be loaded in parallel
     private static int maxId = 0;
 
     // Used for record class
@@ -48,8 +48,7 @@ public class Event {
                  Time startTime, Time endTime, Description description, Set<Tag> tags) {
         requireAllNonNull(name, location, startDate, endDate, description, tags);
 
-        incrementMaxId();
-        this.eventId = new EventId(maxId);
+        this.eventId = new EventId(incrementMaxId());
 
         this.name = name;
         this.location = location;
@@ -74,9 +73,7 @@ public class Event {
                  Time startTime, Time endTime, Description description, Set<Tag> tags) {
         requireAllNonNull(eventId, name, location, startDate, endDate, description, tags);
 
-        if (isEventIdGreaterThanMaxId(eventId.id)) {
-            replaceMaxIdWithEventId(eventId.id);
-        }
+        replaceMaxIdIfGreater(eventId.id);
         this.eventId = eventId;
 
         this.name = name;
@@ -95,26 +92,21 @@ public class Event {
     }
 
     /**
-     * Increments the current maxId by 1.
+     * Increments the current maxId by 1, and returns the incremented maxId.
      */
-    private void incrementMaxId() {
+    private static synchronized int incrementMaxId() {
         maxId += 1;
+        return maxId;
     }
 
     /**
-     * Checks if event id is greater than current max id.
+     * Replaces max id with new event id, if the event id is greater than current max id.
      * @param eventId event id from an existing event.
      */
-    private boolean isEventIdGreaterThanMaxId(int eventId) {
-        return eventId > maxId;
-    }
-
-    /**
-     * Replaces max id with new event id.
-     * @param eventId event id from an existing event.
-     */
-    private void replaceMaxIdWithEventId(int eventId) {
-        maxId = eventId;
+    private static synchronized void replaceMaxIdIfGreater(int eventId) {
+        if (eventId > maxId) {
+            maxId = eventId;
+        }
     }
 
 
@@ -15,6 +15,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Event> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Event event) {
         return keywords.stream()
@@ -3,6 +3,10 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalTime;
+
+import seedu.address.commons.util.DateTimeUtil;
+
 /**
  * Represents an Event's time in the application.
  * Guarantees: immutable; is valid as declared in {@link #isValidTime(String)}
@@ -19,6 +23,8 @@ public class Time {
 
     public final String value;
 
+    private final int minuteOfDay;
+
     /**
      * Constructs an {@code Time}.
      *
@@ -28,6 +34,7 @@ public class Time {
         requireNonNull(time);
         checkArgument(isValidTime(time), MESSAGE_TIME_CONSTRAINTS);
         value = time;
+        minuteOfDay = LocalTime.parse(time, DateTimeUtil.TIME_FORMATTER).toSecondOfDay() / 60;
     }
 
     /**
@@ -41,28 +48,14 @@ public class Time {
      * Returns true if current time occurs at an earlier period or at the same period as the other time.
      */
     public boolean isLessThanOrEqualTo(Time otherTime) {
-        if (otherTime == this) {
-            return true;
-        }
-
-        String[] timeParts = this.toString().split(":");
-        //parseInt ignores leading zeros like 01 or 09 when converting from String to int
-        int minute = Integer.parseInt(timeParts[1]);
-        int hour = Integer.parseInt(timeParts[0]);
-
-        String[] otherTimeParts = otherTime.toString().split(":");
-        int otherMinute = Integer.parseInt(otherTimeParts[1]);
-        int otherHour = Integer.parseInt(otherTimeParts[0]);
-
-        if (hour > otherHour) {
-            //start hour is more than end hour
-            return false;
-        } else if (hour == otherHour && minute > otherMinute) {
-            //same hour but start min is later than end min
-            return false;
-        }
+        return minuteOfDay <= otherTime.minuteOfDay;
+    }
 
-        return true;
+    /**
+     * Returns the number of minutes from midnight to this time.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
     }
 
     @Override
@@ -3,11 +3,16 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.VersionUtil;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 
@@ -18,6 +23,10 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * unique in terms of identity in the UniqueEventList. However, the removal of a event uses Event#equals(Object) so
  * as to ensure that the event with exactly the same fields will be removed.
  *
+ * The contents are mirrored in a {@code PersistentList}, so that a snapshot of the list can be taken in constant
+ * time and later restored with {@code restore(PersistentList)}. Between {@code beginBatch()} and {@code endBatch()},
+ * added events are appended to the observable list in a single change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
@@ -25,13 +34,19 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
 public class UniqueEventList implements Iterable<Event> {
 
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    private PersistentList<Event> snapshot = PersistentList.empty();
+    private PersistentList<Event> versionedSnapshot;
+    private long version;
+    private final List<Event> pendingAppends = new ArrayList<>();
+    private boolean isBatching;
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return internalList.stream().anyMatch(toCheck::isSameEvent)
+                || pendingAppends.stream().anyMatch(toCheck::isSameEvent);
     }
 
     /**
@@ -43,7 +58,12 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
-        internalList.add(toAdd);
+        if (isBatching) {
+            pendingAppends.add(toAdd);
+        } else {
+            internalList.add(toAdd);
+        }
+        snapshot = snapshot.plus(toAdd);
     }
 
     /**
@@ -53,6 +73,7 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
+        publishPendingAppends();
 
         int index = internalList.indexOf(target);
         if (index == -1) {
@@ -64,6 +85,7 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.set(index, editedEvent);
+        snapshot = snapshot.with(index, editedEvent);
     }
 
     /**
@@ -72,14 +94,20 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        publishPendingAppends();
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        internalList.remove(index);
+        snapshot = snapshot.minus(index);
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        pendingAppends.clear();
+        internalList.setAll(replacement.snapshot);
+        snapshot = replacement.snapshot;
     }
 
     /**
@@ -92,7 +120,93 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
+        pendingAppends.clear();
         internalList.setAll(events);
+        snapshot = PersistentList.copyOf(events);
+    }
+
+    /**
+     * Returns an immutable snapshot of the contents of this list.
+     * Snapshots share structure with each other, so this takes constant time.
+     */
+    public PersistentList<Event> snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the version of the contents of this list.
+     * The version changes whenever the contents change, and is never the version of another list.
+     */
+    public long getVersion() {
+        if (versionedSnapshot != snapshot) {
+            versionedSnapshot = snapshot;
+            version = VersionUtil.nextVersion();
+        }
+        return version;
+    }
+
+    /**
+     * Restores the contents of this list to {@code snapshot}, previously taken with {@code snapshot()}.
+     * Nothing is changed if the list has not been modified since.
+     */
+    public void restore(PersistentList<Event> snapshot) {
+        requireNonNull(snapshot);
+        publishPendingAppends();
+        if (snapshot == this.snapshot) {
+            return;
+        }
+
+        internalList.setAll(snapshot);
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Replaces the events from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}. {@code replacement} is not checked for duplicates, as this is only used to replay
+     * earlier changes to this list.
+     */
+    public void replaceRange(int fromIndex, int toIndex, List<Event> replacement) {
+        requireAllNonNull(replacement);
+        publishPendingAppends();
+
+        if (toIndex - fromIndex == 1 && replacement.size() == 1) {
+            internalList.set(fromIndex, replacement.get(0));
+        } else if (fromIndex == 0 && toIndex == internalList.size()) {
+            internalList.setAll(replacement);
+        } else {
+            internalList.subList(fromIndex, toIndex).clear();
+            internalList.addAll(fromIndex, replacement);
+        }
+
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            snapshot = snapshot.minus(i);
+        }
+        for (int i = 0; i < replacement.size(); i++) {
+            snapshot = snapshot.plus(fromIndex + i, replacement.get(i));
+        }
+    }
+
+    /**
+     * Starts holding back added events, so that they are appended to the observable list in a single change when
+     * {@code endBatch()} is called. Other modifications publish the held back events first.
+     */
+    public void beginBatch() {
+        isBatching = true;
+    }
+
+    /**
+     * Appends the events held back since {@code beginBatch()} to the observable list, and stops holding them back.
+     */
+    public void endBatch() {
+        isBatching = false;
+        publishPendingAppends();
+    }
+
+    private void publishPendingAppends() {
+        if (!pendingAppends.isEmpty()) {
+            internalList.addAll(pendingAppends);
+            pendingAppends.clear();
+        }
     }
 
     /**
@@ -104,31 +218,33 @@ public class UniqueEventList implements Iterable<Event> {
 
     @Override
     public Iterator<Event> iterator() {
-        return internalList.iterator();
+        return snapshot.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueEventList // instanceof handles nulls
-                && internalList.equals(((UniqueEventList) other).internalList));
+                && snapshot.equals(((UniqueEventList) other).snapshot));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return snapshot.hashCode();
     }
 
     /**
      * Returns true if {@code events} contains only unique events.
+     * Events with the same identity have the same name, so only events with the same name are compared.
      */
     private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+        Map<Name, List<Event>> eventsByName = new HashMap<>();
+        for (Event event : events) {
+            List<Event> sameName = eventsByName.computeIfAbsent(event.getName(), name -> new ArrayList<>(1));
+            if (sameName.stream().anyMatch(event::isSameEvent)) {
+                return false;
             }
+            sameName.add(event);
         }
         return true;
     }
@@ -17,10 +17,6 @@ public class Record {
     private final Hour hour;
     private final Remark remark;
 
-    private int localIndex;
-    private String volunteerName;
-    private String phoneNo;
-
     /**
      * Every field must be present and not null.
      */
@@ -56,30 +52,6 @@ public class Record {
         return remark;
     }
 
-    public int getLocalIndex() {
-        return localIndex;
-    }
-
-    public String getVolunteerName() {
-        return volunteerName;
-    }
-
-    public String getPhoneNo() {
-        return phoneNo;
-    }
-
-    public void setLocalIndex(int index) {
-        this.localIndex = index;
-    }
-
-    public void setVolunteerName(String name) {
-        this.volunteerName = name;
-    }
-
-    public void setPhoneNo(String phoneNo) {
-        this.phoneNo = phoneNo;
-    }
-
     /**
      * Returns true if both records have the same eventId and volunteerId
      * This defines a weaker notion of equality between two records.
@@ -124,7 +96,7 @@ public class Record {
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
-        builder.append(getVolunteerName())
+        builder.append(getVolunteerId())
                 .append(" Hour: ")
                 .append(getHour())
                 .append(" Remark: ")
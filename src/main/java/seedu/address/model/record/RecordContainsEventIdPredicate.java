@@ -23,7 +23,11 @@ public class RecordContainsEventIdPredicate implements Predicate<Record> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof RecordContainsEventIdPredicate // instanceof handles nulls
-                && eventId == ((RecordContainsEventIdPredicate) other).eventId); // state check
+                && eventId.equals(((RecordContainsEventIdPredicate) other).eventId)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return eventId.hashCode();
+    }
 }
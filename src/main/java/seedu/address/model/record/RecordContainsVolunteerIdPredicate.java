@@ -26,4 +26,8 @@ public class RecordContainsVolunteerIdPredicate implements Predicate<Record> {
                 && volunteerId.equals(((RecordContainsVolunteerIdPredicate) other).volunteerId)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return volunteerId.hashCode();
+    }
 }
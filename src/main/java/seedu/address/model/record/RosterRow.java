@@ -0,0 +1,75 @@
+package seedu.address.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.volunteer.Volunteer;
+
+/**
+ * A row of an event's roster: a record joined with the details of the volunteer it belongs to.
+ * Guarantees: immutable; the record is present and not null.
+ */
+public class RosterRow {
+
+    private final Record record;
+    private final String volunteerName;
+    private final String phoneNo;
+
+    /**
+     * Creates the row of {@code record}, whose volunteer is {@code volunteer}, or null if the record's volunteer
+     * is not in the address book.
+     */
+    public RosterRow(Record record, Volunteer volunteer) {
+        requireNonNull(record);
+        this.record = record;
+        this.volunteerName = volunteer == null ? "" : volunteer.getName().fullName;
+        this.phoneNo = volunteer == null ? "" : volunteer.getPhone().value;
+    }
+
+    public Record getRecord() {
+        return record;
+    }
+
+    public String getVolunteerName() {
+        return volunteerName;
+    }
+
+    public String getPhoneNo() {
+        return phoneNo;
+    }
+
+    public String getHour() {
+        return record.getHour().value;
+    }
+
+    public String getRemark() {
+        return record.getRemark().value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RosterRow)) {
+            return false;
+        }
+
+        RosterRow otherRow = (RosterRow) other;
+        return otherRow.getRecord().equals(getRecord())
+                && otherRow.getVolunteerName().equals(getVolunteerName())
+                && otherRow.getPhoneNo().equals(getPhoneNo());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(record, volunteerName, phoneNo);
+    }
+
+    @Override
+    public String toString() {
+        return volunteerName + " " + record;
+    }
+}
@@ -3,13 +3,25 @@ package seedu.address.model.record;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.VersionUtil;
+import seedu.address.model.event.EventId;
 import seedu.address.model.record.exceptions.DuplicateRecordException;
 import seedu.address.model.record.exceptions.RecordNotFoundException;
+import seedu.address.model.volunteer.VolunteerId;
 
 /**
  * A list of records that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +30,14 @@ import seedu.address.model.record.exceptions.RecordNotFoundException;
  * unique in terms of identity in the UniqueRecordList. However, the removal of a record uses Record#equals(Object) so
  * as to ensure that the record with exactly the same fields will be removed.
  *
+ * Records are additionally indexed by event id and by volunteer id, so identity checks and lookups of the records
+ * belonging to a single event or volunteer do not need to scan the whole list. Together the two indexes act as a
+ * hash index on the (event id, volunteer id) pair that makes up a record's identity.
+ *
+ * The contents are mirrored in a {@code PersistentList}, so that a snapshot of the list can be taken in constant
+ * time and later restored with {@code restore(PersistentList)}. Between {@code beginBatch()} and {@code endBatch()},
+ * added records are appended to the observable list in a single change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Record#isSameRecord(Record)
@@ -25,13 +45,20 @@ import seedu.address.model.record.exceptions.RecordNotFoundException;
 public class UniqueRecordList implements Iterable<Record> {
 
     private final ObservableList<Record> internalList = FXCollections.observableArrayList();
+    private final Map<EventId, Map<VolunteerId, Record>> recordsByEvent = new HashMap<>();
+    private final Map<VolunteerId, Map<EventId, Record>> recordsByVolunteer = new HashMap<>();
+    private PersistentList<Record> snapshot = PersistentList.empty();
+    private PersistentList<Record> versionedSnapshot;
+    private long version;
+    private final List<Record> pendingAppends = new ArrayList<>();
+    private boolean isBatching;
 
     /**
-     * Returns true if the list contains an equivalent volunteer as the given argument.
+     * Returns true if the list contains an equivalent record as the given argument.
      */
     public boolean contains(Record toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRecord);
+        return getIndexed(toCheck) != null;
     }
 
     /**
@@ -43,7 +70,13 @@ public class UniqueRecordList implements Iterable<Record> {
         if (contains(toAdd)) {
             throw new DuplicateRecordException();
         }
-        internalList.add(toAdd);
+        if (isBatching) {
+            pendingAppends.add(toAdd);
+        } else {
+            internalList.add(toAdd);
+        }
+        snapshot = snapshot.plus(toAdd);
+        addToIndex(toAdd);
     }
 
     /**
@@ -53,6 +86,7 @@ public class UniqueRecordList implements Iterable<Record> {
      */
     public void setRecord(Record target, Record editedRecord) {
         requireAllNonNull(target, editedRecord);
+        publishPendingAppends();
 
         int index = internalList.indexOf(target);
         if (index == -1) {
@@ -64,6 +98,9 @@ public class UniqueRecordList implements Iterable<Record> {
         }
 
         internalList.set(index, editedRecord);
+        snapshot = snapshot.with(index, editedRecord);
+        removeFromIndex(target);
+        addToIndex(editedRecord);
     }
 
     /**
@@ -72,14 +109,47 @@ public class UniqueRecordList implements Iterable<Record> {
      */
     public void remove(Record toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        publishPendingAppends();
+        int index = toRemove.equals(getIndexed(toRemove)) ? internalList.indexOf(toRemove) : -1;
+        if (index == -1) {
             throw new RecordNotFoundException();
         }
+        internalList.remove(index);
+        snapshot = snapshot.minus(index);
+        removeFromIndex(toRemove);
+    }
+
+    /**
+     * Removes all records that match {@code predicate} from the list, in a single pass and a single list change.
+     * Returns true if any record was removed.
+     */
+    public boolean removeIf(Predicate<? super Record> predicate) {
+        requireNonNull(predicate);
+        publishPendingAppends();
+        Set<Record> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = internalList.size() - 1; i >= 0; i--) {
+            Record record = internalList.get(i);
+            if (predicate.test(record)) {
+                toRemove.add(record);
+                snapshot = snapshot.minus(i);
+                removeFromIndex(record);
+            }
+        }
+
+        if (toRemove.isEmpty()) {
+            return false;
+        }
+        internalList.removeAll(toRemove);
+        return true;
     }
 
     public void setRecords(UniqueRecordList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        pendingAppends.clear();
+        internalList.setAll(replacement.snapshot);
+        snapshot = replacement.snapshot;
+        copyIndex(replacement.recordsByEvent, recordsByEvent);
+        copyIndex(replacement.recordsByVolunteer, recordsByVolunteer);
     }
 
     /**
@@ -88,11 +158,128 @@ public class UniqueRecordList implements Iterable<Record> {
      */
     public void setRecords(List<Record> records) {
         requireAllNonNull(records);
-        if (!recordsAreUnique(records)) {
-            throw new DuplicateRecordException();
+        Map<EventId, Map<VolunteerId, Record>> replacementByEvent = new HashMap<>();
+        Map<VolunteerId, Map<EventId, Record>> replacementByVolunteer = new HashMap<>();
+        for (Record record : records) {
+            if (!putIndexed(replacementByEvent, record.getEventId(), record.getVolunteerId(), record)) {
+                throw new DuplicateRecordException();
+            }
+            putIndexed(replacementByVolunteer, record.getVolunteerId(), record.getEventId(), record);
         }
 
+        pendingAppends.clear();
         internalList.setAll(records);
+        snapshot = PersistentList.copyOf(records);
+        recordsByEvent.clear();
+        recordsByEvent.putAll(replacementByEvent);
+        recordsByVolunteer.clear();
+        recordsByVolunteer.putAll(replacementByVolunteer);
+    }
+
+    /**
+     * Returns an immutable snapshot of the contents of this list.
+     * Snapshots share structure with each other, so this takes constant time.
+     */
+    public PersistentList<Record> snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the version of the contents of this list.
+     * The version changes whenever the contents change, and is never the version of another list.
+     */
+    public long getVersion() {
+        if (versionedSnapshot != snapshot) {
+            versionedSnapshot = snapshot;
+            version = VersionUtil.nextVersion();
+        }
+        return version;
+    }
+
+    /**
+     * Restores the contents of this list to {@code snapshot}, previously taken with {@code snapshot()}.
+     * Nothing is changed if the list has not been modified since.
+     */
+    public void restore(PersistentList<Record> snapshot) {
+        requireNonNull(snapshot);
+        publishPendingAppends();
+        if (snapshot == this.snapshot) {
+            return;
+        }
+
+        internalList.setAll(snapshot);
+        this.snapshot = snapshot;
+        recordsByEvent.clear();
+        recordsByVolunteer.clear();
+        snapshot.forEach(this::addToIndex);
+    }
+
+    /**
+     * Replaces the records from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}. {@code replacement} is not checked for duplicates, as this is only used to replay
+     * earlier changes to this list.
+     */
+    public void replaceRange(int fromIndex, int toIndex, List<Record> replacement) {
+        requireAllNonNull(replacement);
+        publishPendingAppends();
+        internalList.subList(fromIndex, toIndex).forEach(this::removeFromIndex);
+        replacement.forEach(this::addToIndex);
+        if (toIndex - fromIndex == 1 && replacement.size() == 1) {
+            internalList.set(fromIndex, replacement.get(0));
+        } else if (fromIndex == 0 && toIndex == internalList.size()) {
+            internalList.setAll(replacement);
+        } else {
+            internalList.subList(fromIndex, toIndex).clear();
+            internalList.addAll(fromIndex, replacement);
+        }
+
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            snapshot = snapshot.minus(i);
+        }
+        for (int i = 0; i < replacement.size(); i++) {
+            snapshot = snapshot.plus(fromIndex + i, replacement.get(i));
+        }
+    }
+
+    /**
+     * Returns the records of the event with {@code eventId}, in the order they were added.
+     * The returned list is a read-only copy and is not affected by later changes to this list.
+     */
+    public List<Record> getRecordsForEvent(EventId eventId) {
+        requireNonNull(eventId);
+        return copyOf(recordsByEvent.get(eventId));
+    }
+
+    /**
+     * Returns the records of the volunteer with {@code volunteerId}, in the order they were added.
+     * The returned list is a read-only copy and is not affected by later changes to this list.
+     */
+    public List<Record> getRecordsForVolunteer(VolunteerId volunteerId) {
+        requireNonNull(volunteerId);
+        return copyOf(recordsByVolunteer.get(volunteerId));
+    }
+
+    /**
+     * Starts holding back added records, so that they are appended to the observable list in a single change when
+     * {@code endBatch()} is called. Other modifications publish the held back records first.
+     */
+    public void beginBatch() {
+        isBatching = true;
+    }
+
+    /**
+     * Appends the records held back since {@code beginBatch()} to the observable list, and stops holding them back.
+     */
+    public void endBatch() {
+        isBatching = false;
+        publishPendingAppends();
+    }
+
+    private void publishPendingAppends() {
+        if (!pendingAppends.isEmpty()) {
+            internalList.addAll(pendingAppends);
+            pendingAppends.clear();
+        }
     }
 
     /**
@@ -104,32 +291,75 @@ public class UniqueRecordList implements Iterable<Record> {
 
     @Override
     public Iterator<Record> iterator() {
-        return internalList.iterator();
+        return snapshot.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueRecordList // instanceof handles nulls
-                        && internalList.equals(((UniqueRecordList) other).internalList));
+                        && snapshot.equals(((UniqueRecordList) other).snapshot));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return snapshot.hashCode();
     }
 
     /**
-     * Returns true if {@code records} contains only unique persons.
+     * Returns the record in this list with the same identity as {@code record}, or null if there is none.
      */
-    private boolean recordsAreUnique(List<Record> records) {
-        for (int i = 0; i < records.size() - 1; i++) {
-            for (int j = i + 1; j < records.size(); j++) {
-                if (records.get(i).isSameRecord(records.get(j))) {
-                    return false;
-                }
-            }
+    private Record getIndexed(Record record) {
+        Map<VolunteerId, Record> eventRecords = recordsByEvent.get(record.getEventId());
+        return eventRecords == null ? null : eventRecords.get(record.getVolunteerId());
+    }
+
+    private void addToIndex(Record record) {
+        putIndexed(recordsByEvent, record.getEventId(), record.getVolunteerId(), record);
+        putIndexed(recordsByVolunteer, record.getVolunteerId(), record.getEventId(), record);
+    }
+
+    private void removeFromIndex(Record record) {
+        removeIndexed(recordsByEvent, record.getEventId(), record.getVolunteerId());
+        removeIndexed(recordsByVolunteer, record.getVolunteerId(), record.getEventId());
+    }
+
+    /**
+     * Files {@code record} under {@code outerKey} and {@code innerKey} in {@code index}.
+     * Returns false, leaving {@code index} unchanged, if a record is already filed under both keys.
+     */
+    private static <K, V> boolean putIndexed(Map<K, Map<V, Record>> index, K outerKey, V innerKey, Record record) {
+        Map<V, Record> bucket = index.computeIfAbsent(outerKey, unused -> new LinkedHashMap<>());
+        if (bucket.containsKey(innerKey)) {
+            return false;
         }
+        bucket.put(innerKey, record);
         return true;
     }
+
+    /**
+     * Removes the record filed under {@code outerKey} and {@code innerKey} from {@code index}.
+     */
+    private static <K, V> void removeIndexed(Map<K, Map<V, Record>> index, K outerKey, V innerKey) {
+        Map<V, Record> bucket = index.get(outerKey);
+        bucket.remove(innerKey);
+        if (bucket.isEmpty()) {
+            index.remove(outerKey);
+        }
+    }
+
+    private static <K, V> void copyIndex(Map<K, Map<V, Record>> source, Map<K, Map<V, Record>> target) {
+        target.clear();
+        source.forEach((key, bucket) -> target.put(key, new LinkedHashMap<>(bucket)));
+    }
+
+    /**
+     * Returns a read-only copy of the records in {@code bucket}, which may be null.
+     */
+    private static List<Record> copyOf(Map<?, Record> bucket) {
+        if (bucket == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(bucket.values()));
+    }
 }
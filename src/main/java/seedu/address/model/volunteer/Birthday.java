@@ -3,11 +3,10 @@ package seedu.address.model.volunteer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.GregorianCalendar;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import seedu.address.commons.util.DateTimeUtil;
 
 /**
  * Represents an Volunteer's birthday in the application.
@@ -20,13 +19,15 @@ public class Birthday {
     /*
      * First character of DD must be 0-3
      * First character of MM must be 0 or 1
-     * Regex not enough to check for valid dates. Need to use a SimpleDateFormat parser as well.
+     * Regex not enough to check for valid dates. Need to use a strict date parser as well.
      */
     public static final String BIRTHDAY_VALIDATION_REGEX = "[0-3]\\d-[01]\\d-\\d{4}";
-    public static final int BIRTHDAY_MONTH_CORRECTION = 1;
 
     public final String value;
 
+    private final long epochDay;
+    private final int datestamp; // the birthday as the decimal number YYYYMMDD, for computing ages
+
     /**
      * Constructs a {@code Birthday}.
      *
@@ -35,8 +36,11 @@ public class Birthday {
     public Birthday(String birthday) {
         requireNonNull(birthday);
         checkArgument(isValidBirthday(birthday), MESSAGE_BIRTHDAY_CONSTRAINTS);
-        checkArgument(isLessThanOrEqualToValidBirthday(birthday), MESSAGE_BIRTHDAY_CONSTRAINTS);
+        LocalDate date = LocalDate.parse(birthday, DateTimeUtil.DATE_FORMATTER);
+        checkArgument(!date.isAfter(LocalDate.now()), MESSAGE_BIRTHDAY_CONSTRAINTS);
         value = birthday;
+        epochDay = date.toEpochDay();
+        datestamp = toDatestamp(date);
     }
 
     /**
@@ -47,13 +51,10 @@ public class Birthday {
             return false;
         }
 
-        SimpleDateFormat df = new SimpleDateFormat("dd-MM-yyyy");
-        df.setLenient(false);
-
         try {
-            df.parse(test);
+            LocalDate.parse(test, DateTimeUtil.DATE_FORMATTER);
             return true;
-        } catch (ParseException ex) {
+        } catch (DateTimeParseException ex) {
             return false;
         }
     }
@@ -62,32 +63,26 @@ public class Birthday {
      * Returns true if current date falls on an earlier date or on the same date as the valid date.
      */
     public static boolean isLessThanOrEqualToValidBirthday(String test) {
-        Date date = new Date();
-        Calendar calendar = new GregorianCalendar();
-        calendar.setTime(date);
-
-        String[] birthdayParts = test.split("-");
-        //parseInt ignores leading zeros like 01 or 09 when converting from String to int
-        int year = Integer.parseInt(birthdayParts[2]);
-        int month = Integer.parseInt(birthdayParts[1]);
-        int day = Integer.parseInt(birthdayParts[0]);
-        int otherYear = calendar.get(Calendar.YEAR);
-        int otherMonth = calendar.get(Calendar.MONTH) + BIRTHDAY_MONTH_CORRECTION;
-        int otherDay = calendar.get(Calendar.DAY_OF_MONTH);
-        if (year > otherYear) {
-            //start year is more than end year
-            return false;
-        } else if (year == otherYear && month > otherMonth) {
-            //same year but start month is more than end month
-            return false;
-        } else if (year == otherYear && month == otherMonth && day > otherDay) {
-            //same year, same month but start day is more than end day
-            return false;
-        }
+        return !LocalDate.parse(test, DateTimeUtil.DATE_FORMATTER).isAfter(LocalDate.now());
+    }
 
-        return true;
+    /**
+     * Returns the number of days from the epoch (01-01-1970) to this birthday.
+     */
+    public long toEpochDay() {
+        return epochDay;
     }
 
+    /**
+     * Returns the age in whole years on {@code date} of a volunteer with this birthday.
+     */
+    public int getAgeOn(LocalDate date) {
+        return (toDatestamp(date) - datestamp) / 10000;
+    }
+
+    private static int toDatestamp(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
 
     @Override
     public String toString() {
@@ -15,6 +15,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Volunteer> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Volunteer volunteer) {
         return keywords.stream()
@@ -3,11 +3,16 @@ package seedu.address.model.volunteer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.VersionUtil;
 import seedu.address.model.volunteer.exceptions.DuplicateVolunteerException;
 import seedu.address.model.volunteer.exceptions.VolunteerNotFoundException;
 
@@ -19,6 +24,14 @@ import seedu.address.model.volunteer.exceptions.VolunteerNotFoundException;
  * a volunteer uses Volunteer#equals(Object) so as to ensure that the volunteer with exactly the same fields
  * will be removed.
  *
+ * Volunteers are also indexed by {@code VolunteerId}. Since two volunteers can only be the same volunteer if they
+ * share the same id, identity checks only need to compare against the few volunteers in that id's bucket instead
+ * of scanning the whole list.
+ *
+ * The contents are mirrored in a {@code PersistentList}, so that a snapshot of the list can be taken in constant
+ * time and later restored with {@code restore(PersistentList)}. Between {@code beginBatch()} and {@code endBatch()},
+ * added volunteers are appended to the observable list in a single change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Volunteer#isSameVolunteer(Volunteer)
@@ -26,13 +39,19 @@ import seedu.address.model.volunteer.exceptions.VolunteerNotFoundException;
 public class UniqueVolunteerList implements Iterable<Volunteer> {
 
     private final ObservableList<Volunteer> internalList = FXCollections.observableArrayList();
+    private final Map<VolunteerId, List<Volunteer>> volunteersById = new HashMap<>();
+    private PersistentList<Volunteer> snapshot = PersistentList.empty();
+    private PersistentList<Volunteer> versionedSnapshot;
+    private long version;
+    private final List<Volunteer> pendingAppends = new ArrayList<>();
+    private boolean isBatching;
 
     /**
      * Returns true if the list contains an equivalent volunteer as the given argument.
      */
     public boolean contains(Volunteer toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameVolunteer);
+        return containsSameVolunteer(volunteersById, toCheck);
     }
 
     /**
@@ -44,7 +63,13 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
         if (contains(toAdd)) {
             throw new DuplicateVolunteerException();
         }
-        internalList.add(toAdd);
+        if (isBatching) {
+            pendingAppends.add(toAdd);
+        } else {
+            internalList.add(toAdd);
+        }
+        snapshot = snapshot.plus(toAdd);
+        addToIndex(volunteersById, toAdd);
     }
 
     /**
@@ -54,6 +79,7 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
      */
     public void setVolunteer(Volunteer target, Volunteer editedVolunteer) {
         requireAllNonNull(target, editedVolunteer);
+        publishPendingAppends();
 
         int index = internalList.indexOf(target);
         if (index == -1) {
@@ -65,6 +91,9 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
         }
 
         internalList.set(index, editedVolunteer);
+        snapshot = snapshot.with(index, editedVolunteer);
+        removeFromIndex(volunteersById, target);
+        addToIndex(volunteersById, editedVolunteer);
     }
 
     /**
@@ -73,14 +102,23 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
      */
     public void remove(Volunteer toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        publishPendingAppends();
+        int index = isIndexed(toRemove) ? internalList.indexOf(toRemove) : -1;
+        if (index == -1) {
             throw new VolunteerNotFoundException();
         }
+        internalList.remove(index);
+        snapshot = snapshot.minus(index);
+        removeFromIndex(volunteersById, toRemove);
     }
 
     public void setVolunteers(UniqueVolunteerList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        pendingAppends.clear();
+        internalList.setAll(replacement.snapshot);
+        snapshot = replacement.snapshot;
+        volunteersById.clear();
+        replacement.volunteersById.forEach((id, bucket) -> volunteersById.put(id, new ArrayList<>(bucket)));
     }
 
     /**
@@ -89,11 +127,103 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
      */
     public void setVolunteers(List<Volunteer> volunteers) {
         requireAllNonNull(volunteers);
-        if (!volunteersAreUnique(volunteers)) {
+        Map<VolunteerId, List<Volunteer>> replacementIndex = new HashMap<>();
+        if (!volunteersAreUnique(volunteers, replacementIndex)) {
             throw new DuplicateVolunteerException();
         }
 
+        pendingAppends.clear();
         internalList.setAll(volunteers);
+        snapshot = PersistentList.copyOf(volunteers);
+        volunteersById.clear();
+        volunteersById.putAll(replacementIndex);
+    }
+
+    /**
+     * Returns an immutable snapshot of the contents of this list.
+     * Snapshots share structure with each other, so this takes constant time.
+     */
+    public PersistentList<Volunteer> snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the version of the contents of this list.
+     * The version changes whenever the contents change, and is never the version of another list.
+     */
+    public long getVersion() {
+        if (versionedSnapshot != snapshot) {
+            versionedSnapshot = snapshot;
+            version = VersionUtil.nextVersion();
+        }
+        return version;
+    }
+
+    /**
+     * Restores the contents of this list to {@code snapshot}, previously taken with {@code snapshot()}.
+     * Nothing is changed if the list has not been modified since.
+     */
+    public void restore(PersistentList<Volunteer> snapshot) {
+        requireNonNull(snapshot);
+        publishPendingAppends();
+        if (snapshot == this.snapshot) {
+            return;
+        }
+
+        internalList.setAll(snapshot);
+        this.snapshot = snapshot;
+        volunteersById.clear();
+        snapshot.forEach(volunteer -> addToIndex(volunteersById, volunteer));
+    }
+
+    /**
+     * Replaces the volunteers from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}. {@code replacement} is not checked for duplicates, as this is only used to replay
+     * earlier changes to this list.
+     */
+    public void replaceRange(int fromIndex, int toIndex, List<Volunteer> replacement) {
+        requireAllNonNull(replacement);
+        publishPendingAppends();
+        internalList.subList(fromIndex, toIndex).forEach(volunteer -> removeFromIndex(volunteersById, volunteer));
+        replacement.forEach(volunteer -> addToIndex(volunteersById, volunteer));
+        if (toIndex - fromIndex == 1 && replacement.size() == 1) {
+            internalList.set(fromIndex, replacement.get(0));
+        } else if (fromIndex == 0 && toIndex == internalList.size()) {
+            internalList.setAll(replacement);
+        } else {
+            internalList.subList(fromIndex, toIndex).clear();
+            internalList.addAll(fromIndex, replacement);
+        }
+
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            snapshot = snapshot.minus(i);
+        }
+        for (int i = 0; i < replacement.size(); i++) {
+            snapshot = snapshot.plus(fromIndex + i, replacement.get(i));
+        }
+    }
+
+    /**
+     * Starts holding back added volunteers, so that they are appended to the observable list in a single change when
+     * {@code endBatch()} is called. Other modifications publish the held back volunteers first.
+     */
+    public void beginBatch() {
+        isBatching = true;
+    }
+
+    /**
+     * Appends the volunteers held back since {@code beginBatch()} to the observable list, and stops holding them back.
+     */
+    public void endBatch() {
+        isBatching = false;
+        publishPendingAppends();
+    }
+
+    private void publishPendingAppends() {
+        if (!pendingAppends.isEmpty()) {
+            internalList.addAll(pendingAppends);
+            pendingAppends.clear();
+        }
     }
 
     /**
@@ -105,32 +235,63 @@ public class UniqueVolunteerList implements Iterable<Volunteer> {
 
     @Override
     public Iterator<Volunteer> iterator() {
-        return internalList.iterator();
+        return snapshot.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueVolunteerList // instanceof handles nulls
-                && internalList.equals(((UniqueVolunteerList) other).internalList));
+                && snapshot.equals(((UniqueVolunteerList) other).snapshot));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return snapshot.hashCode();
     }
 
     /**
      * Returns true if {@code volunteers} contains only unique volunteers.
+     * The volunteers are indexed into {@code index} while checking, so that the index can be reused by the caller.
      */
-    private boolean volunteersAreUnique(List<Volunteer> volunteers) {
-        for (int i = 0; i < volunteers.size() - 1; i++) {
-            for (int j = i + 1; j < volunteers.size(); j++) {
-                if (volunteers.get(i).isSameVolunteer(volunteers.get(j))) {
-                    return false;
-                }
+    private static boolean volunteersAreUnique(List<Volunteer> volunteers, Map<VolunteerId, List<Volunteer>> index) {
+        for (Volunteer volunteer : volunteers) {
+            if (containsSameVolunteer(index, volunteer)) {
+                return false;
             }
+            addToIndex(index, volunteer);
         }
         return true;
     }
+
+    /**
+     * Returns true if {@code index} holds a volunteer with the same identity as {@code toCheck}.
+     */
+    private static boolean containsSameVolunteer(Map<VolunteerId, List<Volunteer>> index, Volunteer toCheck) {
+        List<Volunteer> bucket = index.get(toCheck.getVolunteerId());
+        return bucket != null && bucket.stream().anyMatch(toCheck::isSameVolunteer);
+    }
+
+    /**
+     * Returns true if a volunteer equal to {@code toCheck} is indexed.
+     */
+    private boolean isIndexed(Volunteer toCheck) {
+        List<Volunteer> bucket = volunteersById.get(toCheck.getVolunteerId());
+        return bucket != null && bucket.contains(toCheck);
+    }
+
+    private static void addToIndex(Map<VolunteerId, List<Volunteer>> index, Volunteer volunteer) {
+        index.computeIfAbsent(volunteer.getVolunteerId(), unused -> new ArrayList<>(1)).add(volunteer);
+    }
+
+    /**
+     * Removes {@code volunteer} from its bucket in {@code index}, dropping the bucket once it is empty.
+     */
+    private static void removeFromIndex(Map<VolunteerId, List<Volunteer>> index, Volunteer volunteer) {
+        List<Volunteer> bucket = index.get(volunteer.getVolunteerId());
+        bucket.remove(volunteer);
+        if (bucket.isEmpty()) {
+            index.remove(volunteer.getVolunteerId());
+        }
+    }
 }
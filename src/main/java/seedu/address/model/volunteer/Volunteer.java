@@ -90,7 +90,7 @@ public class Volunteer {
         }
 
         return otherVolunteer != null
-                && (otherVolunteer.getVolunteerId().toString()).equals(getVolunteerId().toString())
+                && otherVolunteer.getVolunteerId().equals(getVolunteerId())
                 && (otherVolunteer.getPhone().equals(getPhone()) || otherVolunteer.getEmail().equals(getEmail()));
     }
 
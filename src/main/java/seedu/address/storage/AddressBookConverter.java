@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data between the formats of different {@code AddressBookStorage}s.
+ */
+public class AddressBookConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookConverter.class);
+
+    /**
+     * Copies the address book in {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no data file.
+     * @throws DataConversionException if the data file of {@code source} is not in the correct format.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        logger.info("Converted " + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Copies the address book in {@code source} to {@code target}, if {@code target} has no data file yet.
+     *
+     * @return true if the address book was copied.
+     * @throws DataConversionException if the data file of {@code source} is not in the correct format.
+     */
+    public static boolean convertIfMissing(AddressBookStorage source, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(target);
+        return !Files.exists(target.getAddressBookFilePath()) && convert(source, target);
+    }
+}
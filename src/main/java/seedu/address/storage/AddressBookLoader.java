@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.record.Record;
+import seedu.address.model.volunteer.Volunteer;
+
+/**
+ * Converts the {@code XmlAdapted*} entities read from a data file into the model's {@code AddressBook}.
+ *
+ * Entities are converted and validated in parallel on the common {@code ForkJoinPool}. They are then checked for
+ * duplicates in file order, comparing only entities with the same hash key, and inserted into the address book in
+ * bulk. The error reported for an invalid file is the one that adding the entities one by one would report: that of
+ * the first invalid or duplicate entity, taking volunteers first, then events, then records.
+ */
+public class AddressBookLoader {
+
+    /** Lists shorter than this are converted on the calling thread, as splitting them costs more than it saves. */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    /**
+     * Converts the given entities into an {@code AddressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the entities.
+     */
+    public static AddressBook load(List<XmlAdaptedVolunteer> volunteers, List<XmlAdaptedEvent> events,
+            List<XmlAdaptedRecord> records) throws IllegalValueException {
+        requireAllNonNull(volunteers, events, records);
+
+        List<Volunteer> modelVolunteers = requireUnique(convertAll(volunteers, XmlAdaptedVolunteer::toModelType),
+                Volunteer::getVolunteerId, Volunteer::isSameVolunteer,
+                XmlSerializableAddressBook.MESSAGE_DUPLICATE_VOLUNTEER);
+        List<Event> modelEvents = requireUnique(convertAll(events, XmlAdaptedEvent::toModelType),
+                Event::getName, Event::isSameEvent, XmlSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+        List<Record> modelRecords = requireUnique(convertAll(records, XmlAdaptedRecord::toModelType),
+                record -> Arrays.asList(record.getEventId(), record.getVolunteerId()), Record::isSameRecord,
+                XmlSerializableAddressBook.MESSAGE_DUPLICATE_RECORD);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setVolunteers(modelVolunteers);
+        addressBook.setEvents(modelEvents);
+        addressBook.setRecords(modelRecords);
+        return addressBook;
+    }
+
+    /**
+     * Converts each of {@code adaptedList}, in parallel if the list is long enough.
+     * The outcomes are returned in the order of {@code adaptedList}.
+     */
+    private static <A, T> List<Converted<T>> convertAll(List<A> adaptedList, Converter<A, T> converter) {
+        Stream<A> adaptedStream = adaptedList.size() < PARALLEL_THRESHOLD
+                ? adaptedList.stream()
+                : adaptedList.parallelStream();
+        return adaptedStream.map(adapted -> Converted.of(adapted, converter)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the converted entities in {@code convertedList}, in order.
+     * Entities with the same identity have the same {@code keyOf}, so only those are compared with {@code isSame}.
+     *
+     * @throws IllegalValueException if an entity could not be converted, or is the same as an earlier entity,
+     *                               for the first such entity.
+     */
+    private static <T, K> List<T> requireUnique(List<Converted<T>> convertedList, Function<T, K> keyOf,
+            BiPredicate<T, T> isSame, String duplicateMessage) throws IllegalValueException {
+        Map<K, List<T>> seen = new HashMap<>();
+        List<T> unique = new ArrayList<>(convertedList.size());
+        for (Converted<T> converted : convertedList) {
+            T entity = converted.get();
+            List<T> sameKey = seen.computeIfAbsent(keyOf.apply(entity), key -> new ArrayList<>(1));
+            if (sameKey.stream().anyMatch(other -> isSame.test(entity, other))) {
+                throw new IllegalValueException(duplicateMessage);
+            }
+            sameKey.add(entity);
+            unique.add(entity);
+        }
+        return unique;
+    }
+
+    /**
+     * Converts an {@code XmlAdapted*} entity into the model's entity.
+     */
+    @FunctionalInterface
+    private interface Converter<A, T> {
+        T convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * The outcome of converting an entity: either the model's entity, or the exception thrown while converting it.
+     * Exceptions are kept so that they are rethrown in file order, rather than in the order they were thrown.
+     */
+    private static class Converted<T> {
+        private final T entity;
+        private final Exception exception;
+
+        private Converted(T entity, Exception exception) {
+            this.entity = entity;
+            this.exception = exception;
+        }
+
+        private static <A, T> Converted<T> of(A adapted, Converter<A, T> converter) {
+            try {
+                return new Converted<>(converter.convert(adapted), null);
+            } catch (IllegalValueException | RuntimeException e) {
+                return new Converted<>(null, e);
+            }
+        }
+
+        /**
+         * Returns the converted entity, or rethrows the exception thrown while converting it.
+         */
+        private T get() throws IllegalValueException {
+            if (exception instanceof IllegalValueException) {
+                throw (IllegalValueException) exception;
+            }
+            if (exception instanceof RuntimeException) {
+                throw (RuntimeException) exception;
+            }
+            return entity;
+        }
+    }
+}
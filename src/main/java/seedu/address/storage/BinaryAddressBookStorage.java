@@ -0,0 +1,482 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Description;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.Location;
+import seedu.address.model.event.Time;
+import seedu.address.model.event.exceptions.DuplicateEventException;
+import seedu.address.model.record.Hour;
+import seedu.address.model.record.Record;
+import seedu.address.model.record.Remark;
+import seedu.address.model.record.exceptions.DuplicateRecordException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.volunteer.Address;
+import seedu.address.model.volunteer.Birthday;
+import seedu.address.model.volunteer.Email;
+import seedu.address.model.volunteer.Gender;
+import seedu.address.model.volunteer.Name;
+import seedu.address.model.volunteer.Phone;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.model.volunteer.VolunteerId;
+import seedu.address.model.volunteer.exceptions.DuplicateVolunteerException;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * Every string in the address book is stored once, in a dictionary at the start of the file, and referred to by its
+ * index everywhere else; event ids and hours are stored as plain integers. A header holds the offset of each section
+ * and a checksum of the rest of the file. The file is read in a single read, and each distinct value is validated only
+ * once, however many volunteers, events or records share it. The file is saved by writing a temporary file next to it
+ * and moving it over the file, so that a save that fails part way leaves the file as it was.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book file is corrupted";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String FILE_EXTENSION = ".bin";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final int MAGIC = 0x5343424E;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES + 4 * Integer.BYTES + 4 * Long.BYTES + Integer.BYTES;
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary file that goes with the data file at {@code filePath}: the same path, with the
+     * extension replaced by {@code .bin}.
+     */
+    public static Path getBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        // the file is read onto the heap rather than mapped, as a mapping would keep the file open until it is
+        // garbage collected, which stops the file from being replaced on some platforms
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        try {
+            return Optional.of(new Reader(buffer).read());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ByteBuffer contents = new Writer(addressBook).write();
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_EXTENSION);
+        FileUtil.createIfMissing(tempFilePath);
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (contents.hasRemaining()) {
+                channel.write(contents);
+            }
+            channel.force(false);
+        }
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Encodes an address book into the binary format.
+     */
+    private static class Writer {
+        private final ReadOnlyAddressBook addressBook;
+        private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+        private Writer(ReadOnlyAddressBook addressBook) {
+            this.addressBook = addressBook;
+        }
+
+        private ByteBuffer write() throws IOException {
+            ByteArrayOutputStream volunteers = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(volunteers);
+            for (Volunteer volunteer : addressBook.getVolunteerList()) {
+                out.writeInt(indexOf(volunteer.getName().fullName));
+                out.writeInt(indexOf(volunteer.getVolunteerId().id));
+                out.writeInt(indexOf(volunteer.getGender().value));
+                out.writeInt(indexOf(volunteer.getBirthday().value));
+                out.writeInt(indexOf(volunteer.getPhone().value));
+                out.writeInt(indexOf(volunteer.getEmail().value));
+                out.writeInt(indexOf(volunteer.getAddress().value));
+                writeTags(out, volunteer.getTags());
+            }
+
+            ByteArrayOutputStream events = new ByteArrayOutputStream();
+            out = new DataOutputStream(events);
+            for (Event event : addressBook.getEventList()) {
+                out.writeInt(event.getEventId().id);
+                out.writeInt(indexOf(event.getName().fullName));
+                out.writeInt(indexOf(event.getLocation().value));
+                out.writeInt(indexOf(event.getStartDate().value));
+                out.writeInt(indexOf(event.getEndDate().value));
+                out.writeInt(indexOf(event.getStartTime().value));
+                out.writeInt(indexOf(event.getEndTime().value));
+                out.writeInt(indexOf(event.getDescription().description));
+                writeTags(out, event.getTags());
+            }
+
+            ByteArrayOutputStream records = new ByteArrayOutputStream();
+            out = new DataOutputStream(records);
+            for (Record record : addressBook.getRecordList()) {
+                out.writeInt(record.getEventId().id);
+                out.writeInt(indexOf(record.getVolunteerId().id));
+                out.writeInt(encodeHour(record.getHour().value));
+                out.writeInt(indexOf(record.getRemark().value));
+            }
+
+            ByteArrayOutputStream strings = new ByteArrayOutputStream();
+            out = new DataOutputStream(strings);
+            for (String string : dictionary.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            long stringsOffset = HEADER_BYTES;
+            long volunteersOffset = stringsOffset + strings.size();
+            long eventsOffset = volunteersOffset + volunteers.size();
+            long recordsOffset = eventsOffset + events.size();
+            long length = recordsOffset + records.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Address book is too large to be saved in one file");
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) length);
+            buffer.position(HEADER_BYTES);
+            buffer.put(strings.toByteArray()).put(volunteers.toByteArray()).put(events.toByteArray())
+                    .put(records.toByteArray());
+            buffer.position(HEADER_BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(buffer);
+
+            buffer.clear();
+            buffer.putInt(MAGIC).putInt(VERSION)
+                    .putInt(dictionary.size()).putInt(addressBook.getVolunteerList().size())
+                    .putInt(addressBook.getEventList().size()).putInt(addressBook.getRecordList().size())
+                    .putLong(stringsOffset).putLong(volunteersOffset).putLong(eventsOffset).putLong(recordsOffset)
+                    .putInt((int) crc.getValue());
+            buffer.clear();
+            return buffer;
+        }
+
+        private void writeTags(DataOutputStream out, Set<Tag> tags) throws IOException {
+            out.writeInt(tags.size());
+            for (Tag tag : tags) {
+                out.writeInt(indexOf(tag.tagName));
+            }
+        }
+
+        /**
+         * Returns the number of hours in {@code hour}, or the bitwise complement of the index of {@code hour} in the
+         * dictionary if it cannot be written back the same way from the number, such as "01".
+         */
+        private int encodeHour(String hour) {
+            if (hour.length() < 10 && (hour.length() == 1 || hour.charAt(0) != '0')) {
+                return Integer.parseInt(hour);
+            }
+            return ~indexOf(hour);
+        }
+
+        private int indexOf(String string) {
+            return dictionary.computeIfAbsent(string, unused -> dictionary.size());
+        }
+    }
+
+    /**
+     * Decodes an address book from the binary format.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private String[] strings;
+
+        private Decoder<Name> names;
+        private Decoder<VolunteerId> volunteerIds;
+        private Decoder<Gender> genders;
+        private Decoder<Birthday> birthdays;
+        private Decoder<Phone> phones;
+        private Decoder<Email> emails;
+        private Decoder<Address> addresses;
+        private Decoder<Tag> tags;
+        private Decoder<seedu.address.model.event.Name> eventNames;
+        private Decoder<Location> locations;
+        private Decoder<Date> dates;
+        private Decoder<Time> times;
+        private Decoder<Description> descriptions;
+        private Decoder<Hour> hours;
+        private Decoder<Remark> remarks;
+        private final Map<Integer, EventId> eventIds = new HashMap<>();
+        private final Map<Integer, Hour> hoursByValue = new HashMap<>();
+
+        private Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * @throws IllegalValueException if the file is not in the binary format, or there were any data constraints
+         *     violated.
+         */
+        private AddressBook read() throws IllegalValueException {
+            try {
+                if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                    throw new IllegalValueException("Not a binary address book file");
+                }
+                int version = buffer.getInt();
+                if (version != VERSION) {
+                    throw new IllegalValueException("Unsupported binary address book version " + version);
+                }
+                int stringCount = buffer.getInt();
+                int volunteerCount = buffer.getInt();
+                int eventCount = buffer.getInt();
+                int recordCount = buffer.getInt();
+                int stringsOffset = toOffset(buffer.getLong());
+                int volunteersOffset = toOffset(buffer.getLong());
+                int eventsOffset = toOffset(buffer.getLong());
+                int recordsOffset = toOffset(buffer.getLong());
+                int checksum = buffer.getInt();
+
+                CRC32 crc = new CRC32();
+                crc.update(buffer.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+                }
+
+                buffer.position(stringsOffset);
+                readStrings(stringCount);
+                buffer.position(volunteersOffset);
+                List<Volunteer> volunteers = readVolunteers(volunteerCount);
+                buffer.position(eventsOffset);
+                List<Event> events = readEvents(eventCount);
+                buffer.position(recordsOffset);
+                List<Record> records = readRecords(recordCount);
+
+                AddressBook addressBook = new AddressBook();
+                addressBook.setVolunteers(volunteers);
+                addressBook.setEvents(events);
+                addressBook.setRecords(records);
+                return addressBook;
+            } catch (BufferUnderflowException bue) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE, bue);
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage(), iae);
+            } catch (DuplicateVolunteerException dve) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_VOLUNTEER);
+            } catch (DuplicateEventException dee) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+            } catch (DuplicateRecordException dre) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_RECORD);
+            }
+        }
+
+        private int toOffset(long offset) throws IllegalValueException {
+            if (offset < HEADER_BYTES || offset > buffer.limit()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            return (int) offset;
+        }
+
+        /**
+         * Returns {@code count} if the rest of the file can hold {@code count} items of at least {@code itemBytes}
+         * bytes each.
+         */
+        private int checkCount(int count, int itemBytes) throws IllegalValueException {
+            if (count < 0 || (long) count * itemBytes > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            return count;
+        }
+
+        private void readStrings(int count) throws IllegalValueException {
+            strings = new String[checkCount(count, Integer.BYTES)];
+            for (int i = 0; i < count; i++) {
+                byte[] bytes = new byte[checkCount(buffer.getInt(), 1)];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            names = new Decoder<>(strings, Name::new);
+            volunteerIds = new Decoder<>(strings, VolunteerId::new);
+            genders = new Decoder<>(strings, Gender::new);
+            birthdays = new Decoder<>(strings, Birthday::new);
+            phones = new Decoder<>(strings, Phone::new);
+            emails = new Decoder<>(strings, Email::new);
+            addresses = new Decoder<>(strings, Address::new);
+            tags = new Decoder<>(strings, Tag::new);
+            eventNames = new Decoder<>(strings, seedu.address.model.event.Name::new);
+            locations = new Decoder<>(strings, Location::new);
+            dates = new Decoder<>(strings, Date::new);
+            times = new Decoder<>(strings, Time::new);
+            descriptions = new Decoder<>(strings, Description::new);
+            hours = new Decoder<>(strings, Hour::new);
+            remarks = new Decoder<>(strings, Remark::new);
+        }
+
+        private List<Volunteer> readVolunteers(int count) throws IllegalValueException {
+            List<Volunteer> volunteers = new ArrayList<>(checkCount(count, Integer.BYTES));
+            for (int i = 0; i < count; i++) {
+                volunteers.add(new Volunteer(names.get(buffer.getInt()), volunteerIds.get(buffer.getInt()),
+                        genders.get(buffer.getInt()), birthdays.get(buffer.getInt()), phones.get(buffer.getInt()),
+                        emails.get(buffer.getInt()), addresses.get(buffer.getInt()), readTags()));
+            }
+            return volunteers;
+        }
+
+        private List<Event> readEvents(int count) throws IllegalValueException {
+            List<Event> events = new ArrayList<>(checkCount(count, Integer.BYTES));
+            for (int i = 0; i < count; i++) {
+                events.add(new Event(readEventId(), eventNames.get(buffer.getInt()), locations.get(buffer.getInt()),
+                        dates.get(buffer.getInt()), dates.get(buffer.getInt()), times.get(buffer.getInt()),
+                        times.get(buffer.getInt()), descriptions.get(buffer.getInt()), readTags()));
+            }
+            return events;
+        }
+
+        private List<Record> readRecords(int count) throws IllegalValueException {
+            List<Record> records = new ArrayList<>(checkCount(count, Integer.BYTES));
+            for (int i = 0; i < count; i++) {
+                records.add(new Record(readEventId(), volunteerIds.get(buffer.getInt()), readHour(),
+                        remarks.get(buffer.getInt())));
+            }
+            return records;
+        }
+
+        private Set<Tag> readTags() throws IllegalValueException {
+            int count = checkCount(buffer.getInt(), Integer.BYTES);
+            Set<Tag> tagSet = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                tagSet.add(tags.get(buffer.getInt()));
+            }
+            return tagSet;
+        }
+
+        private EventId readEventId() throws IllegalValueException {
+            int id = buffer.getInt();
+            if (!EventId.isValidId(id)) {
+                throw new IllegalValueException(EventId.MESSAGE_NAME_CONSTRAINTS);
+            }
+            return eventIds.computeIfAbsent(id, EventId::new);
+        }
+
+        private Hour readHour() throws IllegalValueException {
+            int hour = buffer.getInt();
+            if (hour < 0) {
+                return hours.get(~hour);
+            }
+            return hoursByValue.computeIfAbsent(hour, value -> new Hour(Integer.toString(value)));
+        }
+    }
+
+    /**
+     * Creates the value of a field from the strings in the dictionary, creating each value at most once.
+     */
+    private static class Decoder<T> {
+        private final String[] strings;
+        private final Function<String, T> constructor;
+        private final Object[] values;
+
+        private Decoder(String[] strings, Function<String, T> constructor) {
+            this.strings = strings;
+            this.constructor = constructor;
+            this.values = new Object[strings.length];
+        }
+
+        /**
+         * Returns the value created from the string at {@code index} in the dictionary.
+         *
+         * @throws IllegalValueException if the string is not a valid value of the field.
+         */
+        @SuppressWarnings("unchecked")
+        private T get(int index) throws IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            if (values[index] == null) {
+                try {
+                    values[index] = constructor.apply(strings[index]);
+                } catch (IllegalArgumentException iae) {
+                    throw new IllegalValueException(iae.getMessage());
+                }
+            }
+            return (T) values[index];
+        }
+    }
+}
@@ -0,0 +1,548 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.DuplicateEventException;
+import seedu.address.model.record.Record;
+import seedu.address.model.record.exceptions.DuplicateRecordException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.model.volunteer.exceptions.DuplicateVolunteerException;
+
+/**
+ * An {@code AddressBookStorage} that appends the changes to an address book to a journal, and only rewrites the
+ * whole address book, through another {@code AddressBookStorage}, once the journal grows past its limits.
+ *
+ * The journal is kept next to the data file, with the extra extension {@code .journal}. Its header holds the
+ * checksum of the data file it applies to, so a journal left behind by an interrupted rewrite is ignored. It is
+ * followed by one entry per save, each prefixed with its length and checksum; an entry that was only partly
+ * written when the application stopped is detected and ignored.
+ *
+ * Each entry holds, for each list of the address book that changed since the last save, the range of elements that
+ * was replaced and the elements that replaced it.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final int JOURNAL_MAGIC = 0x534A524E;
+    private static final int JOURNAL_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int ENTRY_PREFIX_BYTES = Integer.BYTES + Integer.BYTES;
+
+    private static final int VOLUNTEERS = 0;
+    private static final int EVENTS = 1;
+    private static final int RECORDS = 2;
+
+    private final AddressBookStorage snapshotStorage;
+    private final int maxOperations;
+    private final long maxBytes;
+
+    // the address book as last read or saved, or null if the journal does not apply to the data file
+    private List<Volunteer> savedVolunteers;
+    private List<Event> savedEvents;
+    private List<Record> savedRecords;
+    private int journalOperations;
+    private long journalLength;
+
+    /**
+     * Creates a storage that journals changes to the data file of {@code snapshotStorage}, rewriting it once the
+     * journal holds more than {@code maxOperations} operations or {@code maxBytes} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int maxOperations, long maxBytes) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.maxOperations = maxOperations;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the data file at {@code filePath}, and replays its journal, if any, on top of it.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                              IOException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(getAddressBookFilePath());
+        if (isOwnFile) {
+            forgetSavedState();
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() || !Files.exists(journalPath)) {
+            return snapshot;
+        }
+
+        Journal journal = new Journal(snapshot.get(), Files.size(journalPath));
+        try (InputStream in = Files.newInputStream(journalPath)) {
+            if (!journal.readHeader(in, checksumOf(filePath))) {
+                logger.info("Ignoring journal " + journalPath + ", which belongs to an older version of " + filePath);
+                return snapshot;
+            }
+            journal.replay(in);
+        }
+        logger.info("Replayed " + journal.operations + " operations from journal " + journalPath);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setVolunteers(journal.volunteers);
+            addressBook.setEvents(journal.events);
+            addressBook.setRecords(journal.records);
+        } catch (DuplicateVolunteerException | DuplicateEventException | DuplicateRecordException e) {
+            throw new DataConversionException(e);
+        }
+
+        if (isOwnFile) {
+            rememberSavedState(addressBook);
+            journalOperations = journal.operations;
+            journalLength = journal.length;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Appends the changes to {@code addressBook} since it was last read or saved to the journal, or rewrites the
+     * data file if the journal would grow past its limits. An address book saved anywhere but the data file of this
+     * storage is written in full, without a journal.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        if (savedVolunteers == null) {
+            compact(addressBook);
+            return;
+        }
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(payload);
+        int operations = 0;
+        operations += writeSplice(out, VOLUNTEERS, savedVolunteers, addressBook.getVolunteerList());
+        operations += writeSplice(out, EVENTS, savedEvents, addressBook.getEventList());
+        operations += writeSplice(out, RECORDS, savedRecords, addressBook.getRecordList());
+        if (operations == 0) {
+            return;
+        }
+
+        long entryLength = ENTRY_PREFIX_BYTES + payload.size();
+        if (journalOperations + operations > maxOperations || journalLength + entryLength > maxBytes) {
+            compact(addressBook);
+            return;
+        }
+
+        try {
+            append(payload.toByteArray());
+        } catch (IOException ioe) {
+            // the journal may now end in a partly written entry, which is cut off by the next rewrite
+            forgetSavedState();
+            throw ioe;
+        }
+        rememberSavedState(addressBook);
+        journalOperations += operations;
+        journalLength += entryLength;
+    }
+
+    //// writing
+
+    /**
+     * Rewrites the data file with {@code addressBook}, and starts an empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        Path journalPath = getJournalFilePath(filePath);
+        forgetSavedState();
+
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_EXTENSION);
+        FileUtil.createParentDirsOfFile(filePath);
+        snapshotStorage.saveAddressBook(addressBook, tempFilePath);
+        long checksum = checksumOf(tempFilePath);
+        move(tempFilePath, filePath);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(JOURNAL_MAGIC).putInt(JOURNAL_VERSION).putLong(checksum).flip();
+        Path tempJournalPath = journalPath.resolveSibling(journalPath.getFileName() + TEMP_EXTENSION);
+        try (FileChannel channel = FileChannel.open(tempJournalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            channel.force(false);
+        }
+        move(tempJournalPath, journalPath);
+        logger.fine("Rewrote data file " + filePath + " and started a new journal");
+
+        rememberSavedState(addressBook);
+        journalOperations = 0;
+        journalLength = HEADER_BYTES;
+    }
+
+    /**
+     * Appends an entry holding {@code payload} to the journal, and waits for it to reach the disk.
+     * Anything after the last complete entry, such as a partly written entry, is overwritten.
+     */
+    private void append(byte[] payload) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_PREFIX_BYTES + payload.length);
+        entry.putInt(payload.length).putInt(checksumOf(payload)).put(payload).flip();
+
+        Path journalPath = getJournalFilePath(getAddressBookFilePath());
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(journalLength);
+            channel.position(journalLength);
+            writeFully(channel, entry);
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes the change from {@code saved} to {@code current} to {@code out}, as the range of {@code saved} that was
+     * replaced and the elements of {@code current} that replaced it.
+     *
+     * @return the number of operations written: 1, or 0 if the lists hold the same elements.
+     */
+    private static int writeSplice(DataOutputStream out, int list, List<?> saved, List<?> current)
+            throws IOException {
+        int commonLength = Math.min(saved.size(), current.size());
+        int prefix = 0;
+        while (prefix < commonLength && saved.get(prefix) == current.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < commonLength - prefix
+                && saved.get(saved.size() - 1 - suffix) == current.get(current.size() - 1 - suffix)) {
+            suffix++;
+        }
+        int removed = saved.size() - prefix - suffix;
+        List<?> added = current.subList(prefix, current.size() - suffix);
+        if (removed == 0 && added.isEmpty()) {
+            return 0;
+        }
+
+        out.writeByte(list);
+        out.writeInt(prefix);
+        out.writeInt(removed);
+        out.writeInt(added.size());
+        for (Object element : added) {
+            switch (list) {
+            case VOLUNTEERS:
+                writeVolunteer(out, (Volunteer) element);
+                break;
+            case EVENTS:
+                writeEvent(out, (Event) element);
+                break;
+            default:
+                writeRecord(out, (Record) element);
+            }
+        }
+        return 1;
+    }
+
+    private static void writeVolunteer(DataOutputStream out, Volunteer volunteer) throws IOException {
+        out.writeUTF(volunteer.getName().fullName);
+        out.writeUTF(volunteer.getVolunteerId().id);
+        out.writeUTF(volunteer.getGender().value);
+        out.writeUTF(volunteer.getBirthday().value);
+        out.writeUTF(volunteer.getPhone().value);
+        out.writeUTF(volunteer.getEmail().value);
+        out.writeUTF(volunteer.getAddress().value);
+        writeTags(out, new ArrayList<>(volunteer.getTags()));
+    }
+
+    private static void writeEvent(DataOutputStream out, Event event) throws IOException {
+        out.writeInt(event.getEventId().id);
+        out.writeUTF(event.getName().fullName);
+        out.writeUTF(event.getLocation().value);
+        out.writeUTF(event.getStartDate().value);
+        out.writeUTF(event.getEndDate().value);
+        out.writeUTF(event.getStartTime().value);
+        out.writeUTF(event.getEndTime().value);
+        out.writeUTF(event.getDescription().description);
+        writeTags(out, new ArrayList<>(event.getTags()));
+    }
+
+    private static void writeRecord(DataOutputStream out, Record record) throws IOException {
+        out.writeInt(record.getEventId().id);
+        out.writeUTF(record.getVolunteerId().id);
+        out.writeUTF(record.getHour().value);
+        out.writeUTF(record.getRemark().value);
+    }
+
+    private static void writeTags(DataOutputStream out, List<Tag> tags) throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    //// state
+
+    private void rememberSavedState(ReadOnlyAddressBook addressBook) {
+        savedVolunteers = new ArrayList<>(addressBook.getVolunteerList());
+        savedEvents = new ArrayList<>(addressBook.getEventList());
+        savedRecords = new ArrayList<>(addressBook.getRecordList());
+    }
+
+    /**
+     * Makes the next save rewrite the data file.
+     */
+    private void forgetSavedState() {
+        savedVolunteers = null;
+        savedEvents = null;
+        savedRecords = null;
+    }
+
+    //// utilities
+
+    /**
+     * Returns the CRC-32 checksum of the contents of the file at {@code filePath}.
+     */
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static int checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system allows it.
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * The lists of an address book as a journal is replayed on top of it.
+     */
+    private static class Journal {
+        private final List<Volunteer> volunteers;
+        private final List<Event> events;
+        private final List<Record> records;
+        private final long fileSize;
+        private int operations;
+        private long length;
+
+        private Journal(ReadOnlyAddressBook snapshot, long fileSize) {
+            this.fileSize = fileSize;
+            volunteers = new ArrayList<>(snapshot.getVolunteerList());
+            events = new ArrayList<>(snapshot.getEventList());
+            records = new ArrayList<>(snapshot.getRecordList());
+        }
+
+        /**
+         * Reads the header of the journal, and returns true if the journal applies to the data file with
+         * {@code snapshotChecksum}.
+         */
+        private boolean readHeader(InputStream in, long snapshotChecksum) throws IOException {
+            byte[] header = new byte[HEADER_BYTES];
+            if (!readFully(in, header)) {
+                return false;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(header);
+            if (buffer.getInt() != JOURNAL_MAGIC || buffer.getInt() != JOURNAL_VERSION
+                    || buffer.getLong() != snapshotChecksum) {
+                return false;
+            }
+            length = HEADER_BYTES;
+            return true;
+        }
+
+        /**
+         * Applies the entries of the journal in order, up to the end of the journal or the first entry that was not
+         * completely written.
+         */
+        private void replay(InputStream in) throws IOException, DataConversionException {
+            byte[] prefix = new byte[ENTRY_PREFIX_BYTES];
+            while (readFully(in, prefix)) {
+                ByteBuffer buffer = ByteBuffer.wrap(prefix);
+                int payloadLength = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (payloadLength < 0 || length + ENTRY_PREFIX_BYTES + payloadLength > fileSize) {
+                    logTornEntry();
+                    return;
+                }
+                byte[] payload = new byte[payloadLength];
+                if (!readFully(in, payload) || checksumOf(payload) != checksum) {
+                    logTornEntry();
+                    return;
+                }
+                applyEntry(payload);
+                length += ENTRY_PREFIX_BYTES + payloadLength;
+            }
+        }
+
+        private void logTornEntry() {
+            logger.warning("Ignoring incomplete journal entry at offset " + length);
+        }
+
+        /**
+         * Applies each change in the entry with {@code payload}.
+         */
+        private void applyEntry(byte[] payload) throws IOException, DataConversionException {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            try {
+                while (in.available() > 0) {
+                    int list = in.readByte();
+                    switch (list) {
+                    case VOLUNTEERS:
+                        applySplice(in, volunteers, JournaledAddressBookStorage::readVolunteer);
+                        break;
+                    case EVENTS:
+                        applySplice(in, events, JournaledAddressBookStorage::readEvent);
+                        break;
+                    case RECORDS:
+                        applySplice(in, records, JournaledAddressBookStorage::readRecord);
+                        break;
+                    default:
+                        throw new DataConversionException(new IllegalValueException("Unknown journal list " + list));
+                    }
+                    operations++;
+                }
+            } catch (EOFException | IllegalValueException e) {
+                throw new DataConversionException(e);
+            }
+        }
+    }
+
+    /**
+     * Replaces a range of {@code list} with the elements read from {@code in}.
+     */
+    private static <T> void applySplice(DataInputStream in, List<T> list, ElementReader<T> reader)
+            throws IOException, IllegalValueException {
+        int from = in.readInt();
+        int removed = in.readInt();
+        int added = in.readInt();
+        if (from < 0 || removed < 0 || added < 0 || from + removed > list.size()) {
+            throw new IllegalValueException("Journal entry does not match the data file");
+        }
+        List<T> elements = new ArrayList<>();
+        for (int i = 0; i < added; i++) {
+            elements.add(reader.read(in));
+        }
+        List<T> range = list.subList(from, from + removed);
+        range.clear();
+        range.addAll(elements);
+    }
+
+    private static Volunteer readVolunteer(DataInputStream in) throws IOException, IllegalValueException {
+        return new XmlAdaptedVolunteer(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(),
+                in.readUTF(), in.readUTF(), readTags(in)).toModelType();
+    }
+
+    private static Event readEvent(DataInputStream in) throws IOException, IllegalValueException {
+        return new XmlAdaptedEvent(in.readInt(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(),
+                in.readUTF(), in.readUTF(), in.readUTF(), readTags(in)).toModelType();
+    }
+
+    private static Record readRecord(DataInputStream in) throws IOException, IllegalValueException {
+        return new XmlAdaptedRecord(in.readInt(), in.readUTF(), in.readUTF(), in.readUTF()).toModelType();
+    }
+
+    private static List<XmlAdaptedTag> readTags(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(new XmlAdaptedTag(in.readUTF()));
+        }
+        return tags;
+    }
+
+    /**
+     * Reads {@code buffer.length} bytes into {@code buffer}.
+     *
+     * @return false if the stream ended first.
+     */
+    private static boolean readFully(InputStream in, byte[] buffer) throws IOException {
+        int offset = 0;
+        while (offset < buffer.length) {
+            int read = in.read(buffer, offset, buffer.length - offset);
+            if (read == -1) {
+                return false;
+            }
+            offset += read;
+        }
+        return true;
+    }
+
+    /**
+     * Reads an element of a list from a journal entry.
+     */
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        T read(DataInputStream in) throws IOException, IllegalValueException;
+    }
+}
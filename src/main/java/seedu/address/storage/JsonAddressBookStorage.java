@@ -0,0 +1,526 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Description;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.Location;
+import seedu.address.model.event.Time;
+import seedu.address.model.event.exceptions.DuplicateEventException;
+import seedu.address.model.record.Hour;
+import seedu.address.model.record.Record;
+import seedu.address.model.record.Remark;
+import seedu.address.model.record.exceptions.DuplicateRecordException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.volunteer.Address;
+import seedu.address.model.volunteer.Birthday;
+import seedu.address.model.volunteer.Email;
+import seedu.address.model.volunteer.Gender;
+import seedu.address.model.volunteer.Name;
+import seedu.address.model.volunteer.Phone;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.model.volunteer.VolunteerId;
+import seedu.address.model.volunteer.exceptions.DuplicateVolunteerException;
+
+/**
+ * A class to access AddressBook data stored as a json file on the hard disk, optionally gzip-compressed.
+ *
+ * The file is read and written one token at a time with Jackson's streaming {@code JsonParser} and
+ * {@code JsonGenerator}, and each entity is converted to or from the model directly, without data binding. The
+ * fields of each entity have the same names and are validated in the same way as in the xml file.
+ * Saving writes a temporary file first and then moves it over the file, so a failed save leaves the file as it was.
+ */
+public class JsonAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_INVALID_FORMAT = "Not a json address book file";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+
+    private static final String FILE_EXTENSION = ".json";
+    private static final String COMPRESSED_FILE_EXTENSION = ".json.gz";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String VOLUNTEERS_FIELD = "volunteers";
+    private static final String EVENTS_FIELD = "events";
+    private static final String RECORDS_FIELD = "records";
+    private static final String TAGS_FIELD = "tagged";
+
+    private Path filePath;
+    private final boolean isCompressed;
+
+    public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * @param isCompressed whether the file is gzip-compressed.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompressed) {
+        this.filePath = filePath;
+        this.isCompressed = isCompressed;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the json file that goes with the data file at {@code filePath}: the same path, with the
+     * extension replaced by {@code .json}, or by {@code .json.gz} if {@code isCompressed}.
+     */
+    public static Path getJsonFilePath(Path filePath, boolean isCompressed) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + (isCompressed ? COMPRESSED_FILE_EXTENSION : FILE_EXTENSION));
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = openInputStream(filePath);
+             JsonParser parser = JSON_FACTORY.createParser(in)) {
+            return Optional.of(readAddressBook(parser));
+        } catch (JsonProcessingException jpe) {
+            throw new DataConversionException(jpe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_EXTENSION);
+        FileUtil.createIfMissing(tempFilePath);
+        try (OutputStream out = openOutputStream(tempFilePath);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            if (!isCompressed) {
+                generator.useDefaultPrettyPrinter();
+            }
+            writeAddressBook(addressBook, generator);
+        }
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private InputStream openInputStream(Path filePath) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+        return isCompressed ? new GZIPInputStream(in) : in;
+    }
+
+    private OutputStream openOutputStream(Path filePath) throws IOException {
+        OutputStream out = Files.newOutputStream(filePath);
+        return new BufferedOutputStream(isCompressed ? new GZIPOutputStream(out) : out);
+    }
+
+    //// reading
+
+    /**
+     * Reads an address book from {@code parser}, converting each entity to the model as soon as it has been read.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates.
+     */
+    private static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+        List<Volunteer> volunteers = new ArrayList<>();
+        List<Event> events = new ArrayList<>();
+        List<Record> records = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+            case VOLUNTEERS_FIELD:
+                expect(value, JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    volunteers.add(readVolunteer(parser));
+                }
+                expect(parser.getCurrentToken(), JsonToken.END_ARRAY);
+                break;
+            case EVENTS_FIELD:
+                expect(value, JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    events.add(readEvent(parser));
+                }
+                expect(parser.getCurrentToken(), JsonToken.END_ARRAY);
+                break;
+            case RECORDS_FIELD:
+                expect(value, JsonToken.START_ARRAY);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    records.add(readRecord(parser));
+                }
+                expect(parser.getCurrentToken(), JsonToken.END_ARRAY);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setVolunteers(volunteers);
+            addressBook.setEvents(events);
+            addressBook.setRecords(records);
+        } catch (DuplicateVolunteerException dve) {
+            throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_VOLUNTEER);
+        } catch (DuplicateEventException dee) {
+            throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+        } catch (DuplicateRecordException dre) {
+            throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_RECORD);
+        }
+        return addressBook;
+    }
+
+    private static Volunteer readVolunteer(JsonParser parser) throws IOException, IllegalValueException {
+        String name = null;
+        String volunteerId = null;
+        String gender = null;
+        String birthday = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        Set<Tag> tags = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "name":
+                name = readString(parser);
+                break;
+            case "volunteerId":
+                volunteerId = readString(parser);
+                break;
+            case "gender":
+                gender = readString(parser);
+                break;
+            case "birthday":
+                birthday = readString(parser);
+                break;
+            case "phone":
+                phone = readString(parser);
+                break;
+            case "email":
+                email = readString(parser);
+                break;
+            case "address":
+                address = readString(parser);
+                break;
+            case TAGS_FIELD:
+                tags = readTags(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        String format = XmlAdaptedVolunteer.MISSING_FIELD_MESSAGE_FORMAT;
+        return new Volunteer(toModel(name, Name.class, format, Name::new),
+                toModel(volunteerId, VolunteerId.class, format, VolunteerId::new),
+                toModel(gender, Gender.class, format, Gender::new),
+                toModel(birthday, Birthday.class, format, Birthday::new),
+                toModel(phone, Phone.class, format, Phone::new),
+                toModel(email, Email.class, format, Email::new),
+                toModel(address, Address.class, format, Address::new), tags);
+    }
+
+    private static Event readEvent(JsonParser parser) throws IOException, IllegalValueException {
+        Integer eventId = null;
+        String name = null;
+        String location = null;
+        String startDate = null;
+        String endDate = null;
+        String startTime = null;
+        String endTime = null;
+        String description = null;
+        Set<Tag> tags = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "eventId":
+                eventId = readInt(parser);
+                break;
+            case "name":
+                name = readString(parser);
+                break;
+            case "location":
+                location = readString(parser);
+                break;
+            case "startDate":
+                startDate = readString(parser);
+                break;
+            case "endDate":
+                endDate = readString(parser);
+                break;
+            case "startTime":
+                startTime = readString(parser);
+                break;
+            case "endTime":
+                endTime = readString(parser);
+                break;
+            case "description":
+                description = readString(parser);
+                break;
+            case TAGS_FIELD:
+                tags = readTags(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        String format = XmlAdaptedEvent.MISSING_FIELD_MESSAGE_FORMAT;
+        EventId modelEventId = toModelEventId(eventId, format);
+        seedu.address.model.event.Name modelName = toModel(name, seedu.address.model.event.Name.class, format,
+                seedu.address.model.event.Name::new);
+        Location modelLocation = toModel(location, Location.class, format, Location::new);
+        Date modelStartDate = toModel(startDate, Date.class, format, Date::new);
+        Date modelEndDate = toModel(endDate, Date.class, format, Date::new);
+        Time modelStartTime = toModel(startTime, Time.class, format, Time::new);
+        Time modelEndTime = toModel(endTime, Time.class, format, Time::new);
+        Description modelDescription = toModel(description, Description.class, format, Description::new);
+        try {
+            return new Event(modelEventId, modelName, modelLocation, modelStartDate, modelEndDate, modelStartTime,
+                    modelEndTime, modelDescription, tags);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
+        }
+    }
+
+    private static Record readRecord(JsonParser parser) throws IOException, IllegalValueException {
+        Integer eventId = null;
+        String volunteerId = null;
+        String hour = null;
+        String remark = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "eventId":
+                eventId = readInt(parser);
+                break;
+            case "volunteerId":
+                volunteerId = readString(parser);
+                break;
+            case "hour":
+                hour = readString(parser);
+                break;
+            case "remark":
+                remark = readString(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        String format = XmlAdaptedRecord.MISSING_FIELD_MESSAGE_FORMAT;
+        return new Record(toModelEventId(eventId, format),
+                toModel(volunteerId, VolunteerId.class, format, VolunteerId::new),
+                toModel(hour, Hour.class, format, Hour::new),
+                toModel(remark, Remark.class, format, Remark::new));
+    }
+
+    private static Set<Tag> readTags(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser.getCurrentToken(), JsonToken.START_ARRAY);
+        Set<Tag> tags = new HashSet<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String tagName = readString(parser);
+            if (tagName == null || !Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the model's value of a field, created from {@code value} with {@code constructor}.
+     *
+     * @param missingFieldFormat the message format for a missing field of the entity.
+     * @throws IllegalValueException if {@code value} is missing or is not a valid value of the field.
+     */
+    private static <T> T toModel(String value, Class<T> fieldClass, String missingFieldFormat,
+            Function<String, T> constructor) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(missingFieldFormat, fieldClass.getSimpleName()));
+        }
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage());
+        }
+    }
+
+    private static EventId toModelEventId(Integer eventId, String missingFieldFormat) throws IllegalValueException {
+        if (eventId == null) {
+            throw new IllegalValueException(String.format(missingFieldFormat, EventId.class.getSimpleName()));
+        }
+        if (!EventId.isValidId(eventId)) {
+            throw new IllegalValueException(EventId.MESSAGE_NAME_CONSTRAINTS);
+        }
+        return new EventId(eventId);
+    }
+
+    /**
+     * Returns the value of the current field, or null if it is null.
+     *
+     * @throws IllegalValueException if the value is an object or an array.
+     */
+    private static String readString(JsonParser parser) throws IOException, IllegalValueException {
+        expectScalar(parser);
+        return parser.getValueAsString();
+    }
+
+    /**
+     * Returns the integer value of the current field, or null if it is null.
+     *
+     * @throws IllegalValueException if the value is not an integer.
+     */
+    private static Integer readInt(JsonParser parser) throws IOException, IllegalValueException {
+        expectScalar(parser);
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser.getCurrentToken(), JsonToken.VALUE_NUMBER_INT);
+        return parser.getIntValue();
+    }
+
+    /**
+     * @throws IllegalValueException if the current value is an object or an array.
+     */
+    private static void expectScalar(JsonParser parser) throws IllegalValueException {
+        if (parser.getCurrentToken().isStructStart()) {
+            throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+        }
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IllegalValueException {
+        if (actual != expected) {
+            throw new IllegalValueException(MESSAGE_INVALID_FORMAT);
+        }
+    }
+
+    //// writing
+
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+
+        generator.writeArrayFieldStart(VOLUNTEERS_FIELD);
+        for (Volunteer volunteer : addressBook.getVolunteerList()) {
+            generator.writeStartObject();
+            generator.writeStringField("name", volunteer.getName().fullName);
+            generator.writeStringField("volunteerId", volunteer.getVolunteerId().id);
+            generator.writeStringField("gender", volunteer.getGender().value);
+            generator.writeStringField("birthday", volunteer.getBirthday().value);
+            generator.writeStringField("phone", volunteer.getPhone().value);
+            generator.writeStringField("email", volunteer.getEmail().value);
+            generator.writeStringField("address", volunteer.getAddress().value);
+            writeTags(generator, volunteer.getTags());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(EVENTS_FIELD);
+        for (Event event : addressBook.getEventList()) {
+            generator.writeStartObject();
+            generator.writeNumberField("eventId", event.getEventId().id);
+            generator.writeStringField("name", event.getName().fullName);
+            generator.writeStringField("location", event.getLocation().value);
+            generator.writeStringField("startDate", event.getStartDate().value);
+            generator.writeStringField("endDate", event.getEndDate().value);
+            generator.writeStringField("startTime", event.getStartTime().value);
+            generator.writeStringField("endTime", event.getEndTime().value);
+            generator.writeStringField("description", event.getDescription().description);
+            writeTags(generator, event.getTags());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(RECORDS_FIELD);
+        for (Record record : addressBook.getRecordList()) {
+            generator.writeStartObject();
+            generator.writeNumberField("eventId", record.getEventId().id);
+            generator.writeStringField("volunteerId", record.getVolunteerId().id);
+            generator.writeStringField("hour", record.getHour().value);
+            generator.writeStringField("remark", record.getRemark().value);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    private static void writeTags(JsonGenerator generator, Set<Tag> tags) throws IOException {
+        generator.writeArrayFieldStart(TAGS_FIELD);
+        for (Tag tag : tags) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,285 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.VersionUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as one xml file per section (volunteers, events and records) on the
+ * hard disk, so that saving rewrites only the sections that have changed since the last save.
+ *
+ * The section files are listed in a manifest file, which is the data file of this storage. Changed sections are
+ * written to new section files, and the manifest is then replaced in one step, so that a save interrupted part way
+ * leaves the previous state of the address book intact. A section has changed if its list version, or failing that
+ * its contents, differ from those of the section last read from or saved to the manifest by this storage.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_CORRUPTED_MANIFEST = "Address book sections file is corrupted";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private static final String FILE_EXTENSION = ".sections";
+    private static final String SECTION_FILE_EXTENSION = ".xml";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private final List<Section<?>> sections = Arrays.asList(
+            new Section<>("volunteers", ReadOnlyAddressBook::getVolunteerList,
+                    ReadOnlyAddressBook::getVolunteerListVersion, AddressBook::setVolunteers),
+            new Section<>("events", ReadOnlyAddressBook::getEventList,
+                    ReadOnlyAddressBook::getEventListVersion, AddressBook::setEvents),
+            new Section<>("records", ReadOnlyAddressBook::getRecordList,
+                    ReadOnlyAddressBook::getRecordListVersion, AddressBook::setRecords));
+
+    private Path filePath;
+    // the generation of the manifest last read or saved, which the sections were read from or saved to
+    private long savedGeneration = -1;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the manifest file that goes with the data file at {@code filePath}: the same path, with
+     * the extension replaced by {@code .sections}.
+     */
+    public static Path getManifestFilePath(Path filePath) {
+        return filePath.resolveSibling(getBaseName(filePath) + FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the manifest. Cannot be null
+     * @throws DataConversionException if the manifest or a section file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        Optional<Manifest> manifest = readManifest(filePath);
+        if (!manifest.isPresent()) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        for (Section<?> section : sections) {
+            Path sectionFilePath = filePath.resolveSibling(manifest.get().getFileName(section));
+            ReadOnlyAddressBook sectionData = new StreamingXmlAddressBookStorage(sectionFilePath)
+                    .readAddressBook()
+                    .orElseThrow(() -> new DataConversionException(
+                            new IllegalValueException(MESSAGE_CORRUPTED_MANIFEST + ": " + sectionFilePath
+                                    + " not found")));
+            section.copy(sectionData, addressBook);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            sections.forEach(section -> section.markSaved(addressBook));
+            savedGeneration = manifest.get().generation;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the sections that have changed are written if {@code filePath} is the file path of this storage.
+     * @param filePath location of the manifest. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Manifest oldManifest;
+        try {
+            oldManifest = readManifest(filePath).orElse(null);
+        } catch (DataConversionException dce) {
+            logger.warning("Rewriting all sections of " + filePath + ": " + StringUtil.getDetails(dce));
+            oldManifest = null;
+        }
+        boolean isTracked = filePath.equals(this.filePath) && oldManifest != null
+                && oldManifest.generation == savedGeneration;
+
+        Manifest newManifest = new Manifest(oldManifest == null ? 0 : oldManifest.generation + 1);
+        List<Section<?>> writtenSections = new ArrayList<>();
+        List<Path> supersededFiles = new ArrayList<>();
+        for (Section<?> section : sections) {
+            if (isTracked && !section.hasChanged(addressBook)) {
+                newManifest.setFileName(section, oldManifest.getFileName(section));
+                continue;
+            }
+
+            String fileName = getBaseName(filePath) + "." + section.name + "." + newManifest.generation
+                    + SECTION_FILE_EXTENSION;
+            section.write(addressBook, filePath.resolveSibling(fileName));
+            writtenSections.add(section);
+            newManifest.setFileName(section, fileName);
+            if (oldManifest != null && oldManifest.getFileName(section) != null) {
+                supersededFiles.add(filePath.resolveSibling(oldManifest.getFileName(section)));
+            }
+        }
+        if (isTracked && writtenSections.isEmpty()) {
+            return;
+        }
+
+        writeManifest(newManifest, filePath);
+        if (filePath.equals(this.filePath)) {
+            writtenSections.forEach(section -> section.markSaved(addressBook));
+            savedGeneration = newManifest.generation;
+        }
+        for (Path supersededFile : supersededFiles) {
+            Files.deleteIfExists(supersededFile);
+        }
+    }
+
+    private static String getBaseName(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+    }
+
+    /**
+     * Reads the manifest at {@code filePath}, which must list a file for every section.
+     */
+    private Optional<Manifest> readManifest(Path filePath) throws DataConversionException {
+        Optional<Manifest> manifest = JsonUtil.readJsonFile(filePath, Manifest.class);
+        if (manifest.isPresent()
+                && sections.stream().anyMatch(section -> manifest.get().getFileName(section) == null)) {
+            throw new DataConversionException(
+                    new IllegalValueException(MESSAGE_CORRUPTED_MANIFEST + ": " + filePath));
+        }
+        return manifest;
+    }
+
+    /**
+     * Replaces the manifest at {@code filePath} with {@code manifest}, atomically if the file system allows it.
+     */
+    private static void writeManifest(Manifest manifest, Path filePath) throws IOException {
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_EXTENSION);
+        FileUtil.createIfMissing(tempFilePath);
+        JsonUtil.saveJsonFile(manifest, tempFilePath);
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * One of the lists of an address book, stored in its own file.
+     */
+    private static class Section<T> {
+        private final String name;
+        private final Function<ReadOnlyAddressBook, List<T>> listOf;
+        private final ToLongFunction<ReadOnlyAddressBook> versionOf;
+        private final BiConsumer<AddressBook, List<T>> setter;
+
+        // the section as last read or saved
+        private long savedVersion = VersionUtil.UNKNOWN_VERSION;
+        private List<T> savedList;
+
+        private Section(String name, Function<ReadOnlyAddressBook, List<T>> listOf,
+                ToLongFunction<ReadOnlyAddressBook> versionOf, BiConsumer<AddressBook, List<T>> setter) {
+            this.name = name;
+            this.listOf = listOf;
+            this.versionOf = versionOf;
+            this.setter = setter;
+        }
+
+        /**
+         * Returns true if this section of {@code addressBook} differs from this section as last read or saved.
+         */
+        private boolean hasChanged(ReadOnlyAddressBook addressBook) {
+            long version = versionOf.applyAsLong(addressBook);
+            if (version != VersionUtil.UNKNOWN_VERSION && version == savedVersion) {
+                return false;
+            }
+            if (!listOf.apply(addressBook).equals(savedList)) {
+                return true;
+            }
+            // same contents under a new version, such as after an undo
+            savedVersion = version;
+            return false;
+        }
+
+        /**
+         * Writes this section of {@code addressBook} to the section file at {@code filePath}.
+         */
+        private void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            AddressBook sectionData = new AddressBook();
+            copy(addressBook, sectionData);
+            new StreamingXmlAddressBookStorage(filePath).saveAddressBook(sectionData);
+        }
+
+        /**
+         * Replaces this section of {@code target} with this section of {@code source}.
+         */
+        private void copy(ReadOnlyAddressBook source, AddressBook target) {
+            setter.accept(target, listOf.apply(source));
+        }
+
+        private void markSaved(ReadOnlyAddressBook addressBook) {
+            savedVersion = versionOf.applyAsLong(addressBook);
+            savedList = new ArrayList<>(listOf.apply(addressBook));
+        }
+    }
+
+    /**
+     * The contents of the manifest file: the file name of each section, relative to the manifest file.
+     */
+    private static class Manifest {
+        private long generation;
+        private Map<String, String> sectionFileNames = new HashMap<>();
+
+        private Manifest() {}
+
+        private Manifest(long generation) {
+            this.generation = generation;
+        }
+
+        private String getFileName(Section<?> section) {
+            return sectionFileNames.get(section.name);
+        }
+
+        private void setFileName(Section<?> section, String fileName) {
+            sectionFileNames.put(section.name, fileName);
+        }
+    }
+}
@@ -0,0 +1,587 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.record.Record;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.volunteer.Volunteer;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database file on the hard disk.
+ *
+ * Volunteers, events and records each have a table, and the tags of volunteers and events share a tags table.
+ * Each row holds a sort key that keeps the order of the lists. Saving writes only the rows that have changed since
+ * the address book was last read from or saved to the database by this storage, in a single transaction: a row is
+ * inserted for each new volunteer, event or record, deleted for each removed one, and has its sort key updated if
+ * it has moved. Edited volunteers, events and records are new ones, as they are immutable.
+ *
+ * The connection to the database file of this storage is opened, and the tables created if they are missing, when
+ * the file is first read from or saved to, and is kept open until {@link #close()} is called or the app exits.
+ * Other database files are opened for each read or save.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage, Closeable {
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    // H2 adds this extension to the database name in the JDBC url
+    private static final String FILE_EXTENSION = ".mv.db";
+    private static final String URL_PREFIX = "jdbc:h2:file:";
+    private static final String IF_EXISTS_OPTION = ";IFEXISTS=TRUE";
+    private static final String GENERATION_KEY = "generation";
+    private static final long SORT_KEY_STEP = 1L << 16;
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS meta (meta_key VARCHAR PRIMARY KEY, meta_value BIGINT NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS volunteers (row_id BIGINT PRIMARY KEY, sort_key BIGINT NOT NULL, "
+                + "volunteer_id VARCHAR NOT NULL, name VARCHAR, gender VARCHAR, birthday VARCHAR, phone VARCHAR, "
+                + "email VARCHAR, address VARCHAR)",
+        "CREATE TABLE IF NOT EXISTS events (row_id BIGINT PRIMARY KEY, sort_key BIGINT NOT NULL, "
+                + "event_id INT NOT NULL, name VARCHAR, location VARCHAR, start_date VARCHAR, end_date VARCHAR, "
+                + "start_time VARCHAR, end_time VARCHAR, description VARCHAR)",
+        "CREATE TABLE IF NOT EXISTS records (row_id BIGINT PRIMARY KEY, sort_key BIGINT NOT NULL, "
+                + "event_id INT NOT NULL, volunteer_id VARCHAR NOT NULL, hours VARCHAR, remark VARCHAR)",
+        "CREATE TABLE IF NOT EXISTS tags (owner VARCHAR NOT NULL, row_id BIGINT NOT NULL, tag_name VARCHAR)",
+        "CREATE INDEX IF NOT EXISTS volunteers_volunteer_id ON volunteers (volunteer_id)",
+        "CREATE INDEX IF NOT EXISTS events_event_id ON events (event_id)",
+        "CREATE UNIQUE INDEX IF NOT EXISTS records_event_volunteer ON records (event_id, volunteer_id)",
+        "CREATE INDEX IF NOT EXISTS tags_owner_row ON tags (owner, row_id)"
+    };
+
+    private final Table<Volunteer, XmlAdaptedVolunteer> volunteerTable = new Table<>("volunteers",
+        new String[] {"volunteer_id", "name", "gender", "birthday", "phone", "email", "address"},
+        volunteer -> new Object[] {volunteer.getVolunteerId().id, volunteer.getName().fullName,
+            volunteer.getGender().value, volunteer.getBirthday().value, volunteer.getPhone().value,
+            volunteer.getEmail().value, volunteer.getAddress().value},
+        Volunteer::getTags,
+        (row, tags) -> new XmlAdaptedVolunteer(row.getString("name"), row.getString("volunteer_id"),
+            row.getString("gender"), row.getString("birthday"), row.getString("phone"), row.getString("email"),
+            row.getString("address"), tags));
+
+    private final Table<Event, XmlAdaptedEvent> eventTable = new Table<>("events",
+        new String[] {"event_id", "name", "location", "start_date", "end_date", "start_time", "end_time",
+            "description"},
+        event -> new Object[] {event.getEventId().id, event.getName().fullName, event.getLocation().value,
+            event.getStartDate().value, event.getEndDate().value, event.getStartTime().value,
+            event.getEndTime().value, event.getDescription().description},
+        Event::getTags,
+        (row, tags) -> new XmlAdaptedEvent(row.getInt("event_id"), row.getString("name"),
+            row.getString("location"), row.getString("start_date"), row.getString("end_date"),
+            row.getString("start_time"), row.getString("end_time"), row.getString("description"), tags));
+
+    private final Table<Record, XmlAdaptedRecord> recordTable = new Table<>("records",
+        new String[] {"event_id", "volunteer_id", "hours", "remark"},
+        record -> new Object[] {record.getEventId().id, record.getVolunteerId().id, record.getHour().value,
+            record.getRemark().value},
+        null,
+        (row, tags) -> new XmlAdaptedRecord(row.getInt("event_id"), row.getString("volunteer_id"),
+            row.getString("hours"), row.getString("remark")));
+
+    private Path filePath;
+    // the connection to the database file of this storage, or null if it is not open
+    private Connection connection;
+    // the generation of the database last read or saved, which the tables were read from or saved to
+    private long savedGeneration = -1;
+
+    public SqlAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the database file that goes with the data file at {@code filePath}: the same path, with
+     * the extension replaced by {@code .mv.db}.
+     */
+    public static Path getDatabaseFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the database file. Cannot be null
+     * @throws DataConversionException if the file is not a database in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                              IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Connection connection = null;
+        try {
+            connection = connect(filePath, true);
+            List<Row> volunteerRows = new ArrayList<>();
+            List<Row> eventRows = new ArrayList<>();
+            List<Row> recordRows = new ArrayList<>();
+            AddressBook addressBook = AddressBookLoader.load(volunteerTable.read(connection, volunteerRows),
+                    eventTable.read(connection, eventRows), recordTable.read(connection, recordRows));
+
+            if (filePath.equals(this.filePath)) {
+                volunteerTable.markSaved(addressBook.getVolunteerList(), volunteerRows);
+                eventTable.markSaved(addressBook.getEventList(), eventRows);
+                recordTable.markSaved(addressBook.getRecordList(), recordRows);
+                savedGeneration = readGeneration(connection);
+            }
+            return Optional.of(addressBook);
+        } catch (SQLException sqle) {
+            throw new DataConversionException(sqle);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } finally {
+            release(connection);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the rows that have changed are written if {@code filePath} is the file path of this storage.
+     * @param filePath location of the database file. Cannot be null
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Connection connection = null;
+        try {
+            connection = connect(filePath, false);
+            connection.setAutoCommit(false);
+            try {
+                long generation = readGeneration(connection);
+                boolean isTracked = filePath.equals(this.filePath) && generation == savedGeneration;
+
+                Map<Volunteer, Row> volunteerRows = volunteerTable.write(connection,
+                        addressBook.getVolunteerList(), isTracked);
+                Map<Event, Row> eventRows = eventTable.write(connection, addressBook.getEventList(), isTracked);
+                Map<Record, Row> recordRows = recordTable.write(connection, addressBook.getRecordList(),
+                        isTracked);
+                writeGeneration(connection, generation + 1);
+                connection.commit();
+
+                if (filePath.equals(this.filePath)) {
+                    volunteerTable.savedRows = volunteerRows;
+                    eventTable.savedRows = eventRows;
+                    recordTable.savedRows = recordRows;
+                    savedGeneration = generation + 1;
+                }
+            } catch (SQLException sqle) {
+                connection.rollback();
+                throw sqle;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException sqle) {
+            throw new IOException("Unable to write " + filePath, sqle);
+        } finally {
+            release(connection);
+        }
+    }
+
+    /**
+     * Closes the connection to the database file of this storage, if it is open.
+     * It is opened again if the file is read from or saved to afterwards.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException sqle) {
+            throw new IOException("Unable to close " + filePath, sqle);
+        } finally {
+            connection = null;
+        }
+    }
+
+    /**
+     * Returns a connection to the database in the file at {@code filePath}, which is the connection kept open if
+     * {@code filePath} is the file path of this storage.
+     *
+     * @param mustExist whether the connection fails if there is no database in the file yet and it is not open.
+     */
+    private Connection connect(Path filePath, boolean mustExist) throws SQLException {
+        if (!filePath.equals(this.filePath)) {
+            return openConnection(filePath, mustExist);
+        }
+        if (connection == null || connection.isClosed()) {
+            connection = openConnection(filePath, mustExist);
+        }
+        return connection;
+    }
+
+    /**
+     * Closes {@code connection} unless it is null or the connection kept open.
+     */
+    private void release(Connection connection) throws IOException {
+        if (connection == null || connection == this.connection) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException sqle) {
+            throw new IOException("Unable to close the database connection", sqle);
+        }
+    }
+
+    /**
+     * Opens a connection to the database in the file at {@code filePath}, creating the tables if they are missing.
+     *
+     * @param mustExist whether the connection fails if there is no database in the file yet.
+     * @throws SQLException if {@code filePath} does not have the extension of database files.
+     */
+    private static Connection openConnection(Path filePath, boolean mustExist) throws SQLException {
+        String fileName = filePath.toAbsolutePath().toString();
+        if (!fileName.endsWith(FILE_EXTENSION)) {
+            throw new SQLException(filePath + " is not a database file");
+        }
+        String databaseName = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+        Connection connection = DriverManager.getConnection(URL_PREFIX + databaseName
+                + (mustExist ? IF_EXISTS_OPTION : ""));
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        } catch (SQLException sqle) {
+            connection.close();
+            throw sqle;
+        }
+        return connection;
+    }
+
+    /**
+     * Returns the number of times the database has been saved to, which is 0 for a new database.
+     */
+    private static long readGeneration(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT meta_value FROM meta WHERE meta_key = ?")) {
+            statement.setString(1, GENERATION_KEY);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? result.getLong(1) : 0;
+            }
+        }
+    }
+
+    private static void writeGeneration(Connection connection, long generation) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "MERGE INTO meta (meta_key, meta_value) KEY (meta_key) VALUES (?, ?)")) {
+            statement.setString(1, GENERATION_KEY);
+            statement.setLong(2, generation);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * The row of a volunteer, event or record.
+     */
+    private static class Row {
+        private final long rowId;
+        private final long sortKey;
+
+        private Row(long rowId, long sortKey) {
+            this.rowId = rowId;
+            this.sortKey = sortKey;
+        }
+    }
+
+    /**
+     * Converts a row of a {@code ResultSet} and the tags of the row into an {@code XmlAdapted*} entity.
+     */
+    @FunctionalInterface
+    private interface RowReader<A> {
+        A read(ResultSet row, List<XmlAdaptedTag> tags) throws SQLException;
+    }
+
+    /**
+     * The table of one of the lists of an address book.
+     */
+    private static class Table<T, A> {
+        private final String name;
+        private final String[] columns;
+        private final Function<T, Object[]> valuesOf;
+        private final Function<T, Set<Tag>> tagsOf;
+        private final RowReader<A> rowReader;
+
+        // the rows as last read or saved, by the entity they hold
+        private Map<T, Row> savedRows = Collections.emptyMap();
+
+        /**
+         * @param tagsOf the tags of an entity, or null if the entities of this table have no tags.
+         */
+        private Table(String name, String[] columns, Function<T, Object[]> valuesOf, Function<T, Set<Tag>> tagsOf,
+                RowReader<A> rowReader) {
+            this.name = name;
+            this.columns = columns;
+            this.valuesOf = valuesOf;
+            this.tagsOf = tagsOf;
+            this.rowReader = rowReader;
+        }
+
+        /**
+         * Reads the entities in this table in order, adding their rows to {@code rows} in the same order.
+         */
+        private List<A> read(Connection connection, List<Row> rows) throws SQLException {
+            Map<Long, List<XmlAdaptedTag>> tagsByRowId = tagsOf == null ? Collections.emptyMap() : readTags(connection);
+            List<A> entities = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(
+                         "SELECT * FROM " + name + " ORDER BY sort_key")) {
+                while (result.next()) {
+                    long rowId = result.getLong("row_id");
+                    rows.add(new Row(rowId, result.getLong("sort_key")));
+                    entities.add(rowReader.read(result, tagsByRowId.getOrDefault(rowId, Collections.emptyList())));
+                }
+            }
+            return entities;
+        }
+
+        private Map<Long, List<XmlAdaptedTag>> readTags(Connection connection) throws SQLException {
+            Map<Long, List<XmlAdaptedTag>> tagsByRowId = new HashMap<>();
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT row_id, tag_name FROM tags WHERE owner = ?")) {
+                statement.setString(1, name);
+                try (ResultSet result = statement.executeQuery()) {
+                    while (result.next()) {
+                        tagsByRowId.computeIfAbsent(result.getLong(1), rowId -> new ArrayList<>())
+                                .add(new XmlAdaptedTag(result.getString(2)));
+                    }
+                }
+            }
+            return tagsByRowId;
+        }
+
+        /**
+         * Records that {@code entities} are held in {@code rows}, in the same order.
+         */
+        private void markSaved(List<T> entities, List<Row> rows) {
+            Map<T, Row> readRows = new HashMap<>();
+            for (int i = 0; i < entities.size(); i++) {
+                readRows.put(entities.get(i), rows.get(i));
+            }
+            savedRows = readRows;
+        }
+
+        /**
+         * Makes this table hold {@code entities}, in order.
+         * If {@code isTracked}, the table is assumed to hold the rows last read or saved, and only the rows that
+         * differ from {@code entities} are written; otherwise, the table is rewritten.
+         *
+         * @return the rows of {@code entities}, which become the saved rows once the transaction is committed.
+         */
+        private Map<T, Row> write(Connection connection, List<T> entities, boolean isTracked) throws SQLException {
+            Map<T, Row> oldRows = isTracked ? savedRows : Collections.emptyMap();
+            if (!isTracked) {
+                deleteAll(connection);
+            }
+
+            Set<T> remaining = new HashSet<>(entities);
+            List<Row> deletedRows = oldRows.entrySet().stream()
+                    .filter(entry -> !remaining.contains(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .collect(Collectors.toList());
+            long nextRowId = oldRows.values().stream().mapToLong(row -> row.rowId).max().orElse(0) + 1;
+
+            long[] sortKeys = assignSortKeys(entities, oldRows);
+            Map<T, Row> newRows = new HashMap<>();
+            List<T> insertedEntities = new ArrayList<>();
+            List<Row> movedRows = new ArrayList<>();
+            for (int i = 0; i < entities.size(); i++) {
+                T entity = entities.get(i);
+                Row oldRow = oldRows.get(entity);
+                if (oldRow == null) {
+                    newRows.put(entity, new Row(nextRowId++, sortKeys[i]));
+                    insertedEntities.add(entity);
+                } else {
+                    newRows.put(entity, new Row(oldRow.rowId, sortKeys[i]));
+                    if (oldRow.sortKey != sortKeys[i]) {
+                        movedRows.add(newRows.get(entity));
+                    }
+                }
+            }
+
+            delete(connection, deletedRows);
+            update(connection, movedRows);
+            insert(connection, insertedEntities, newRows);
+            return newRows;
+        }
+
+        /**
+         * Returns the sort key of each of {@code entities}, keeping the sort keys in {@code oldRows} where the order
+         * allows it, so that as few rows as possible have to be updated.
+         */
+        private long[] assignSortKeys(List<T> entities, Map<T, Row> oldRows) {
+            long[] sortKeys = new long[entities.size()];
+            boolean[] isKept = new boolean[entities.size()];
+            long lastKept = 0;
+            for (int i = 0; i < entities.size(); i++) {
+                Row oldRow = oldRows.get(entities.get(i));
+                if (oldRow != null && oldRow.sortKey > lastKept) {
+                    sortKeys[i] = oldRow.sortKey;
+                    isKept[i] = true;
+                    lastKept = oldRow.sortKey;
+                }
+            }
+
+            // spread the entities between two kept ones evenly between their sort keys
+            int runStart = 0;
+            long lowerKey = 0;
+            for (int i = 0; i <= entities.size(); i++) {
+                if (i < entities.size() && !isKept[i]) {
+                    continue;
+                }
+                int runLength = i - runStart;
+                long upperKey = i < entities.size() ? sortKeys[i] : lowerKey + (runLength + 1) * SORT_KEY_STEP;
+                if (runLength > 0 && upperKey - lowerKey <= runLength) {
+                    return renumber(entities.size());
+                }
+                for (int j = 0; j < runLength; j++) {
+                    sortKeys[runStart + j] = lowerKey + (upperKey - lowerKey) * (j + 1) / (runLength + 1);
+                }
+                if (i < entities.size()) {
+                    lowerKey = sortKeys[i];
+                }
+                runStart = i + 1;
+            }
+            return sortKeys;
+        }
+
+        private static long[] renumber(int size) {
+            long[] sortKeys = new long[size];
+            for (int i = 0; i < size; i++) {
+                sortKeys[i] = (i + 1) * SORT_KEY_STEP;
+            }
+            return sortKeys;
+        }
+
+        private void deleteAll(Connection connection) throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM " + name);
+            }
+            try (PreparedStatement statement = connection.prepareStatement("DELETE FROM tags WHERE owner = ?")) {
+                statement.setString(1, name);
+                statement.executeUpdate();
+            }
+        }
+
+        private void delete(Connection connection, List<Row> rows) throws SQLException {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "DELETE FROM " + name + " WHERE row_id = ?");
+                 PreparedStatement tagStatement = connection.prepareStatement(
+                         "DELETE FROM tags WHERE owner = ? AND row_id = ?")) {
+                for (Row row : rows) {
+                    statement.setLong(1, row.rowId);
+                    statement.addBatch();
+                    tagStatement.setString(1, name);
+                    tagStatement.setLong(2, row.rowId);
+                    tagStatement.addBatch();
+                }
+                statement.executeBatch();
+                if (tagsOf != null) {
+                    tagStatement.executeBatch();
+                }
+            }
+        }
+
+        private void update(Connection connection, List<Row> rows) throws SQLException {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE " + name + " SET sort_key = ? WHERE row_id = ?")) {
+                for (Row row : rows) {
+                    statement.setLong(1, row.sortKey);
+                    statement.setLong(2, row.rowId);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+
+        private void insert(Connection connection, List<T> entities, Map<T, Row> rows) throws SQLException {
+            if (entities.isEmpty()) {
+                return;
+            }
+            String sql = "INSERT INTO " + name + " (row_id, sort_key, " + String.join(", ", columns) + ") VALUES (?, ?"
+                    + String.join("", Collections.nCopies(columns.length, ", ?")) + ")";
+            try (PreparedStatement statement = connection.prepareStatement(sql);
+                 PreparedStatement tagStatement = connection.prepareStatement(
+                         "INSERT INTO tags (owner, row_id, tag_name) VALUES (?, ?, ?)")) {
+                boolean hasTags = false;
+                for (T entity : entities) {
+                    Row row = rows.get(entity);
+                    statement.setLong(1, row.rowId);
+                    statement.setLong(2, row.sortKey);
+                    Object[] values = valuesOf.apply(entity);
+                    for (int i = 0; i < values.length; i++) {
+                        statement.setObject(i + 3, values[i]);
+                    }
+                    statement.addBatch();
+
+                    for (Tag tag : tagsOf == null ? Collections.<Tag>emptySet() : tagsOf.apply(entity)) {
+                        tagStatement.setString(1, name);
+                        tagStatement.setLong(2, row.rowId);
+                        tagStatement.setString(3, tag.tagName);
+                        tagStatement.addBatch();
+                        hasTags = true;
+                    }
+                }
+                statement.executeBatch();
+                if (hasTags) {
+                    tagStatement.executeBatch();
+                }
+            }
+        }
+    }
+}
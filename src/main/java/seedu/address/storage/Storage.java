@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.DataSavedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -31,9 +32,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
-     *   Creates the data file if it is missing.
-     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * Saves any changes to the Address Book that are waiting to be saved by
+     * {@link #handleAddressBookChangedEvent(AddressBookChangedEvent)}, and waits for the save to complete.
+     */
+    void flushAddressBook();
+
+    /**
+     * Schedules the current version of the Address Book to be saved to the hard disk in the background.
+     *   Changes in quick succession are saved together. Creates the data file if it is missing.
+     * Raises {@link DataSavedEvent} once the data is saved,
+     * or {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
 }
@@ -8,9 +8,9 @@ import java.util.logging.Logger;
 import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
-import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -23,12 +23,22 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private WriteBehindSaver addressBookSaver;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, new Config());
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changes to the address book with the delays in {@code config}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage, Config config) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookSaver = new WriteBehindSaver(addressBookStorage, config.getSaveDebounceMillis(),
+                config.getSaveMaxDelayMillis());
     }
 
     // ================ UserPrefs methods ==============================
@@ -79,15 +89,17 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
 
+    @Override
+    public void flushAddressBook() {
+        addressBookSaver.flush();
+    }
+
+
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        addressBookSaver.submit(event.data);
     }
 
 }
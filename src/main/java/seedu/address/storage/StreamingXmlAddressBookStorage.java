@@ -0,0 +1,322 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.record.Record;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.volunteer.Volunteer;
+
+/**
+ * A class to access AddressBook data stored as an xml file on the hard disk, in the same format as
+ * {@link XmlAddressBookStorage}.
+ *
+ * The file is read and written with StAX one entity at a time, without building the whole document in memory.
+ * The entities read are validated with their {@code XmlAdapted*} classes in parallel, see {@link AddressBookLoader}.
+ */
+public class StreamingXmlAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(StreamingXmlAddressBookStorage.class);
+
+    private static final String ROOT_ELEMENT = "addressbook";
+    private static final String VOLUNTEER_ELEMENT = "volunteers";
+    private static final String EVENT_ELEMENT = "events";
+    private static final String RECORD_ELEMENT = "records";
+    private static final String TAG_ELEMENT = "tagged";
+    private static final String INDENT = "    ";
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private Path filePath;
+
+    public StreamingXmlAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(readAddressBook(in));
+        } catch (XMLStreamException xse) {
+            throw new DataConversionException(xse);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath))) {
+            writeAddressBook(addressBook, out);
+        } catch (XMLStreamException xse) {
+            throw new IOException("Unable to write " + filePath, xse);
+        }
+    }
+
+    //// reading
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Reads an address book from {@code in}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates.
+     */
+    private static AddressBook readAddressBook(InputStream in) throws XMLStreamException, IllegalValueException {
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+            reader.nextTag();
+            if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+                throw new XMLStreamException("Unexpected root element " + reader.getLocalName(),
+                        reader.getLocation());
+            }
+
+            List<XmlAdaptedVolunteer> volunteers = new ArrayList<>();
+            List<XmlAdaptedEvent> events = new ArrayList<>();
+            List<XmlAdaptedRecord> records = new ArrayList<>();
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                case VOLUNTEER_ELEMENT:
+                    volunteers.add(toAdaptedVolunteer(readFields(reader)));
+                    break;
+                case EVENT_ELEMENT:
+                    events.add(toAdaptedEvent(readFields(reader)));
+                    break;
+                case RECORD_ELEMENT:
+                    records.add(toAdaptedRecord(readFields(reader)));
+                    break;
+                default:
+                    skipElement(reader);
+                }
+            }
+            return AddressBookLoader.load(volunteers, events, records);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static XmlAdaptedVolunteer toAdaptedVolunteer(Fields fields) {
+        return new XmlAdaptedVolunteer(fields.get("name"), fields.get("volunteerId"), fields.get("gender"),
+                fields.get("birthday"), fields.get("phone"), fields.get("email"), fields.get("address"),
+                fields.tags);
+    }
+
+    private static XmlAdaptedEvent toAdaptedEvent(Fields fields) {
+        return new XmlAdaptedEvent(fields.getInt("eventId"), fields.get("name"), fields.get("location"),
+                fields.get("startDate"), fields.get("endDate"), fields.get("startTime"), fields.get("endTime"),
+                fields.get("description"), fields.tags);
+    }
+
+    private static XmlAdaptedRecord toAdaptedRecord(Fields fields) {
+        return new XmlAdaptedRecord(fields.getInt("eventId"), fields.get("volunteerId"), fields.get("hour"),
+                fields.get("remark"));
+    }
+
+    /**
+     * Reads the text of each child element of the current element, up to and including its end tag.
+     */
+    private static Fields readFields(XMLStreamReader reader) throws XMLStreamException {
+        Fields fields = new Fields();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String name = reader.getLocalName();
+            String text = reader.getElementText();
+            if (TAG_ELEMENT.equals(name)) {
+                fields.tags.add(new XmlAdaptedTag(text));
+            } else {
+                fields.values.put(name, text);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Skips the current element, including its children, up to and including its end tag.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    //// writing
+
+    /**
+     * Writes {@code addressBook} to {@code out}, one entity at a time.
+     */
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out)
+            throws IOException, XMLStreamException {
+        // the writer cannot declare the document standalone, as JAXB does, so the declaration is written directly
+        out.write((XML_DECLARATION + "\n").getBytes(StandardCharsets.UTF_8));
+        XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+        try {
+            writer.writeStartElement(ROOT_ELEMENT);
+
+            for (Volunteer volunteer : addressBook.getVolunteerList()) {
+                writeStartEntity(writer, VOLUNTEER_ELEMENT);
+                writeField(writer, "name", volunteer.getName().fullName);
+                writeField(writer, "volunteerId", volunteer.getVolunteerId().id);
+                writeField(writer, "gender", volunteer.getGender().value);
+                writeField(writer, "birthday", volunteer.getBirthday().value);
+                writeField(writer, "phone", volunteer.getPhone().value);
+                writeField(writer, "email", volunteer.getEmail().value);
+                writeField(writer, "address", volunteer.getAddress().value);
+                for (Tag tag : volunteer.getTags()) {
+                    writeField(writer, TAG_ELEMENT, tag.tagName);
+                }
+                writeEndEntity(writer);
+            }
+
+            for (Event event : addressBook.getEventList()) {
+                writeStartEntity(writer, EVENT_ELEMENT);
+                writeField(writer, "eventId", Integer.toString(event.getEventId().id));
+                writeField(writer, "name", event.getName().fullName);
+                writeField(writer, "location", event.getLocation().value);
+                writeField(writer, "startDate", event.getStartDate().value);
+                writeField(writer, "endDate", event.getEndDate().value);
+                writeField(writer, "startTime", event.getStartTime().value);
+                writeField(writer, "endTime", event.getEndTime().value);
+                writeField(writer, "description", event.getDescription().description);
+                for (Tag tag : event.getTags()) {
+                    writeField(writer, TAG_ELEMENT, tag.tagName);
+                }
+                writeEndEntity(writer);
+            }
+
+            for (Record record : addressBook.getRecordList()) {
+                writeStartEntity(writer, RECORD_ELEMENT);
+                writeField(writer, "eventId", Integer.toString(record.getEventId().id));
+                writeField(writer, "volunteerId", record.getVolunteerId().id);
+                writeField(writer, "hour", record.getHour().value);
+                writeField(writer, "remark", record.getRemark().value);
+                writeEndEntity(writer);
+            }
+
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeCharacters("\n");
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static void writeStartEntity(XMLStreamWriter writer, String name) throws XMLStreamException {
+        writer.writeCharacters("\n" + INDENT);
+        writer.writeStartElement(name);
+    }
+
+    private static void writeEndEntity(XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeCharacters("\n" + INDENT);
+        writer.writeEndElement();
+    }
+
+    private static void writeField(XMLStreamWriter writer, String name, String value) throws XMLStreamException {
+        writer.writeCharacters("\n" + INDENT + INDENT);
+        writer.writeStartElement(name);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+
+    /**
+     * The text of the child elements of an entity element.
+     */
+    private static class Fields {
+        private final Map<String, String> values = new HashMap<>();
+        private final List<XmlAdaptedTag> tags = new ArrayList<>();
+
+        private String get(String name) {
+            return values.get(name);
+        }
+
+        /**
+         * Returns the value of the integer field {@code name}, or 0 if it is missing or not an integer.
+         */
+        private int getInt(String name) {
+            String value = values.get(name);
+            if (value == null) {
+                return 0;
+            }
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException nfe) {
+                return 0;
+            }
+        }
+    }
+}
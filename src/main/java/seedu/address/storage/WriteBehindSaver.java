@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.storage.DataSavedEvent;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} in the background, on a single dedicated thread.
+ *
+ * Address books submitted in quick succession are saved together: only the latest one is saved, once no other
+ * address book has been submitted for the debounce window, or once the max delay has passed since the earliest
+ * unsaved submission, whichever comes first. Submitted address books must not be modified afterwards.
+ *
+ * Posts a {@code DataSavedEvent} after each save, or a {@code DataSavingExceptionEvent} if the save failed.
+ */
+public class WriteBehindSaver {
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 1;
+
+    private final AddressBookStorage addressBookStorage;
+    private final long debounceNanos;
+    private final long maxDelayNanos;
+    private final ScheduledThreadPoolExecutor executor;
+
+    // guarded by this
+    private ReadOnlyAddressBook pending;
+    private long firstSubmitNanos;
+    private long lastSubmitNanos;
+    private boolean isSaveScheduled;
+
+    /**
+     * Creates a saver that saves to {@code addressBookStorage} {@code debounceMillis} after the last submission,
+     * and at most {@code maxDelayMillis} after the earliest unsaved submission.
+     */
+    public WriteBehindSaver(AddressBookStorage addressBookStorage, long debounceMillis, long maxDelayMillis) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, debounceMillis));
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxDelayMillis));
+
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // the thread is only kept alive while there is something to save
+        executor.setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, in place of any address book that is waiting to be saved.
+     */
+    public synchronized void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        long now = System.nanoTime();
+        if (pending == null) {
+            firstSubmitNanos = now;
+        }
+        pending = addressBook;
+        lastSubmitNanos = now;
+
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            executor.schedule(this::saveWhenDue, Math.min(debounceNanos, maxDelayNanos), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Saves the address book waiting to be saved, if any, without waiting for the debounce window to pass.
+     * Blocks until the save, and any save in progress, has completed.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::saveNow).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            logger.severe("Unexpected error while saving " + StringUtil.getDetails(ee.getCause()));
+        }
+    }
+
+    /**
+     * Saves the address book waiting to be saved if it is due, or checks again when it will be due.
+     */
+    private void saveWhenDue() {
+        ReadOnlyAddressBook toSave;
+        long submitNanos;
+        synchronized (this) {
+            if (pending == null) {
+                isSaveScheduled = false;
+                return;
+            }
+            long dueNanos = Math.min(lastSubmitNanos + debounceNanos, firstSubmitNanos + maxDelayNanos);
+            long delayNanos = dueNanos - System.nanoTime();
+            if (delayNanos > 0) {
+                executor.schedule(this::saveWhenDue, delayNanos, TimeUnit.NANOSECONDS);
+                return;
+            }
+            isSaveScheduled = false;
+            toSave = pending;
+            submitNanos = firstSubmitNanos;
+            pending = null;
+        }
+        save(toSave, submitNanos);
+    }
+
+    /**
+     * Saves the address book waiting to be saved, if any.
+     */
+    private void saveNow() {
+        ReadOnlyAddressBook toSave;
+        long submitNanos;
+        synchronized (this) {
+            if (pending == null) {
+                return;
+            }
+            toSave = pending;
+            submitNanos = firstSubmitNanos;
+            pending = null;
+        }
+        save(toSave, submitNanos);
+    }
+
+    /**
+     * Saves {@code addressBook}, and posts the outcome of the save.
+     *
+     * @param submitNanos the time at which the earliest change included in {@code addressBook} was submitted.
+     */
+    private void save(ReadOnlyAddressBook addressBook, long submitNanos) {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        logger.fine("Attempting to write to data file: " + filePath);
+        try {
+            addressBookStorage.saveAddressBook(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data file " + filePath + ": " + StringUtil.getDetails(ioe));
+            EventsCenter.getInstance().post(new DataSavingExceptionEvent(ioe));
+            return;
+        }
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitNanos);
+        EventsCenter.getInstance().post(new DataSavedEvent(filePath, latencyMillis));
+    }
+}
@@ -10,9 +10,6 @@ import javax.xml.bind.annotation.XmlRootElement;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.event.Event;
-import seedu.address.model.record.Record;
-import seedu.address.model.volunteer.Volunteer;
 
 /**
  * An Immutable AddressBook that is serializable to XML format
@@ -53,35 +50,13 @@ public class XmlSerializableAddressBook {
 
     /**
      * Converts this addressbook into the model's {@code AddressBook} object.
+     * The entities are converted in parallel, see {@link AddressBookLoader}.
      *
      * @throws IllegalValueException if there were any data constraints violated or duplicates
      *                               in the {@code XmlAdaptedPerson} or {@code XmlAdaptedRecord}.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (XmlAdaptedVolunteer v : volunteers) {
-            Volunteer volunteer = v.toModelType();
-            if (addressBook.hasVolunteer(volunteer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_VOLUNTEER);
-            }
-            addressBook.addVolunteer(volunteer);
-        }
-        for (XmlAdaptedEvent e : events) {
-            Event event = e.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            addressBook.addEvent(event);
-        }
-        for (XmlAdaptedRecord r : records) {
-            Record record = r.toModelType();
-            if (addressBook.hasRecord(record)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_RECORD);
-            }
-            addressBook.addRecord(record);
-        }
-
-        return addressBook;
+        return AddressBookLoader.load(volunteers, events, records);
     }
 
     @Override
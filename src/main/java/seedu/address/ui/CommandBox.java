@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -21,11 +23,19 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String RUNNING_STYLE_CLASS = "running";
+    public static final String MESSAGE_COMMAND_RUNNING = "Running command... Press Esc to cancel.";
+    public static final String MESSAGE_COMMAND_CANCELLING = "Cancelling command...";
+    public static final String MESSAGE_COMMAND_CANCELLED = "Command cancelled.";
+    public static final String MESSAGE_COMMAND_NOT_CANCELLABLE = "Running command... It has started making changes, "
+            + "so it can no longer be cancelled.";
+    public static final String MESSAGE_COMMAND_ERROR = "An unexpected error occurred while running the command.";
     private static final String FXML = "CommandBox.fxml";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    private CompletableFuture<CommandResult> runningCommand;
 
     @FXML
     private TextField commandTextField;
@@ -55,6 +65,12 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case ESCAPE:
+            if (runningCommand != null) {
+                keyEvent.consume();
+                cancelRunningCommand();
+            }
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -96,25 +112,65 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Handles the Enter button pressed event.
+     * Handles the Enter button pressed event. The command is run in the background, and the command box cannot be
+     * edited until it has finished or has been cancelled.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
+        if (runningCommand != null) {
+            return;
+        }
+
+        String commandText = commandTextField.getText();
+        CompletableFuture<CommandResult> command = logic.executeAsync(commandText);
+        if (!command.isDone()) {
+            runningCommand = command;
+            setStyleToIndicateCommandRunning();
+            raise(new NewResultAvailableEvent(MESSAGE_COMMAND_RUNNING));
+        }
+        // the future is completed on the JavaFX application thread, so the UI can be updated in the callback
+        command.whenComplete((commandResult, error) -> handleCommandFinished(commandText, commandResult, error));
+    }
+
+    /**
+     * Asks for the running command to be cancelled. The command box stays disabled until the command has stopped.
+     */
+    private void cancelRunningCommand() {
+        if (logic.cancelPendingCommands()) {
+            raise(new NewResultAvailableEvent(MESSAGE_COMMAND_CANCELLING));
+        } else {
+            raise(new NewResultAvailableEvent(MESSAGE_COMMAND_NOT_CANCELLABLE));
+        }
+    }
+
+    /**
+     * Shows the result of the command {@code commandText}, or the {@code error} that it failed with.
+     */
+    private void handleCommandFinished(String commandText, CommandResult commandResult, Throwable error) {
+        runningCommand = null;
+        setStyleToIndicateCommandNotRunning();
+
+        if (error == null) {
             initHistory();
             historySnapshot.next();
             // process result of the command
             commandTextField.setText("");
             logger.info("Result: " + commandResult.feedbackToUser);
             raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
-
-        } catch (CommandException | ParseException e) {
+        } else if (error instanceof CommandException || error instanceof ParseException) {
             initHistory();
             // handle command failure
             setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+            logger.info("Invalid command: " + commandText);
+            raise(new NewResultAvailableEvent(error.getMessage()));
+        } else if (error instanceof CancellationException) {
+            logger.info("Cancelled command: " + commandText);
+            raise(new NewResultAvailableEvent(MESSAGE_COMMAND_CANCELLED));
+        } else {
+            initHistory();
+            setStyleToIndicateCommandFailure();
+            logger.warning("Command failed unexpectedly: " + commandText + " " + error);
+            raise(new NewResultAvailableEvent(MESSAGE_COMMAND_ERROR));
         }
     }
 
@@ -135,6 +191,22 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.getStyleClass().remove(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to indicate a running command, which stops the command box from being edited.
+     */
+    private void setStyleToIndicateCommandRunning() {
+        commandTextField.setEditable(false);
+        commandTextField.getStyleClass().add(RUNNING_STYLE_CLASS);
+    }
+
+    /**
+     * Sets the command box style back to how it was before the command started running.
+     */
+    private void setStyleToIndicateCommandNotRunning() {
+        commandTextField.setEditable(true);
+        commandTextField.getStyleClass().remove(RUNNING_STYLE_CLASS);
+    }
+
     /**
      * Sets the command box style to indicate a failed command.
      */
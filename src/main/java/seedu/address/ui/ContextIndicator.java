@@ -6,6 +6,8 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 
+import seedu.address.commons.core.EventThread;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.events.ui.ContextChangeEvent;
 import seedu.address.model.Context;
 
@@ -26,6 +28,7 @@ public class ContextIndicator extends UiPart<Region> {
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleContextChangeEvent(ContextChangeEvent event) {
         setContextName(event.getNewContext());
     }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.Objects;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -23,8 +25,6 @@ public class EventCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Event event;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -44,8 +44,30 @@ public class EventCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public EventCard(Event event, int displayedIndex) {
+    private final TagLabelPool tagLabels;
+    private Event event;
+
+    /**
+     * Creates a card that shows nothing until it is given an event by {@link #setEvent(Event, int)}.
+     */
+    public EventCard() {
         super(FXML);
+        tagLabels = new TagLabelPool(tags);
+    }
+
+    public EventCard(Event event, int displayedIndex) {
+        this();
+        setEvent(event, displayedIndex);
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    /**
+     * Shows {@code event} at {@code displayedIndex} on this card, in place of what it showed before.
+     */
+    public void setEvent(Event event, int displayedIndex) {
         this.event = event;
         id.setText(displayedIndex + ". ");
         name.setText(event.getName().fullName);
@@ -70,13 +92,14 @@ public class EventCard extends UiPart<Region> {
 
         int status = DateTimeUtil.getEventStatus(event.getStartDate(), event.getStartTime(),
                                                                         event.getEndDate(), event.getEndTime());
+        tagLabels.reset();
         if (status != DateTimeUtil.INVALID_STATUS) {
-            Label statusLabel = new Label(DateTimeUtil.STATUS[status]);
+            Label statusLabel = tagLabels.add(DateTimeUtil.STATUS[status]);
             statusLabel.getStyleClass().add(DateTimeUtil.STATUS[status]);
-            tags.getChildren().add(statusLabel);
         }
 
-        event.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        event.getTags().forEach(tag -> tagLabels.add(tag.tagName));
+        tagLabels.show();
     }
 
     @Override
@@ -94,6 +117,6 @@ public class EventCard extends UiPart<Region> {
         // state check
         EventCard card = (EventCard) other;
         return id.getText().equals(card.id.getText())
-                && event.equals(card.event);
+                && Objects.equals(event, card.event);
     }
 }
@@ -10,6 +10,8 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.EventThread;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.EventPanelSelectionChangedEvent;
 import seedu.address.commons.events.ui.JumpToEventListRequestEvent;
@@ -67,6 +69,7 @@ public class EventListPanel extends UiPart<Region> {
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleJumpToListRequestEvent(JumpToEventListRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         scrollTo(event.targetIndex);
@@ -76,6 +79,8 @@ public class EventListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Event} using a {@code EventCard}.
      */
     class EventListViewCell extends ListCell<Event> {
+        private EventCard card; // created once, then given the item shown by this cell each time it is reused
+
         @Override
         protected void updateItem(Event event, boolean empty) {
             super.updateItem(event, empty);
@@ -84,7 +89,11 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new EventCard();
+                }
+                card.setEvent(event, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
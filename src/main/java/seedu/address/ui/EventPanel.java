@@ -1,17 +1,23 @@
 package seedu.address.ui;
 
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.beans.binding.Bindings;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.EventThread;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.EventStatusChangedEvent;
 import seedu.address.commons.events.ui.EventPanelSelectionChangedEvent;
 import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.logic.Logic;
 import seedu.address.model.event.Event;
 import seedu.address.model.record.Record;
 import seedu.address.model.record.RecordContainsEventIdPredicate;
@@ -42,15 +48,19 @@ public class EventPanel extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    private ObservableList<Record> recordList;
+    private final Logic logic;
+    private Event shownEvent;
+    private Predicate<Record> shownEventRecordsPredicate;
+    private ObservableList<Record> shownEventRecords; // the count label only listens weakly to it
 
-    public EventPanel(ObservableList<Record> recordList) {
+    public EventPanel(Logic logic) {
         super(FXML);
-        this.recordList = recordList;
+        this.logic = logic;
         registerAsAnEventHandler(this);
     }
 
     private void setLabelText(Event event) {
+        shownEvent = event;
         eventNameLabel.setText(event.getName().fullName);
         eventLocationLabel.setText(event.getLocation().value);
         eventStartDateLabel.setText(DateTimeUtil.getFriendlyDateFromEventDate(event.getStartDate()));
@@ -71,14 +81,12 @@ public class EventPanel extends UiPart<Region> {
             eventEndTimeLabel.setText("");
         }
 
-        numOfVolunteersLabel.setText("Total Number of Volunteers: "
-                + String.valueOf(recordList.filtered(new RecordContainsEventIdPredicate(event.getEventId())).size()));
+        showNumOfVolunteers(event);
         eventDescriptionLabel.setText(event.getDescription().description);
 
         tags.getChildren().clear();
 
-        int status = DateTimeUtil.getEventStatus(event.getStartDate(), event.getStartTime(),
-                event.getEndDate(), event.getEndTime());
+        int status = logic.getEventStatusScheduler().getStatus(event);
         if (status != DateTimeUtil.INVALID_STATUS) {
             Label statusLabel = new Label(DateTimeUtil.STATUS[status]);
             statusLabel.getStyleClass().add(DateTimeUtil.STATUS[status]);
@@ -89,15 +97,55 @@ public class EventPanel extends UiPart<Region> {
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleEventPanelSelectionChangedEvent(EventPanelSelectionChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         setLabelText(event.getNewSelection());
     }
 
+    @Subscribe
+    @HandleOn(EventThread.FX)
+    private void handleEventStatusChangedEvent(EventStatusChangedEvent event) {
+        if (shownEvent != null && event.changedEvents.contains(shownEvent)) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event));
+            setLabelText(shownEvent);
+        }
+    }
+
+    /**
+     * Shows the number of volunteers with records of {@code event}, which is kept up to date as records are added
+     * and deleted.
+     */
+    private void showNumOfVolunteers(Event event) {
+        Predicate<Record> predicate = new RecordContainsEventIdPredicate(event.getEventId());
+        if (predicate.equals(shownEventRecordsPredicate)) {
+            return;
+        }
+        releaseShownEventRecords();
+        shownEventRecordsPredicate = predicate;
+        shownEventRecords = logic.getRecordView(predicate);
+        numOfVolunteersLabel.textProperty().bind(
+                Bindings.concat("Total Number of Volunteers: ", Bindings.size(shownEventRecords)));
+    }
+
+    /**
+     * Stops showing the number of volunteers of the event shown, and releases the view of its records.
+     */
+    private void releaseShownEventRecords() {
+        numOfVolunteersLabel.textProperty().unbind();
+        if (shownEventRecordsPredicate != null) {
+            logic.releaseRecordView(shownEventRecordsPredicate);
+            shownEventRecordsPredicate = null;
+            shownEventRecords = null;
+        }
+    }
+
     /**
      * Clears details in the event panel.
      */
     public void clearDetails() {
+        shownEvent = null;
+        releaseShownEventRecords();
         eventNameLabel.setText("");
         numOfVolunteersLabel.setText("");
         eventLocationLabel.setText("");
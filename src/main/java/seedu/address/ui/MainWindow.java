@@ -8,6 +8,9 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,8 +19,11 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventThread;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.ContextChangeEvent;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
@@ -35,6 +41,7 @@ import seedu.address.model.UserPrefs;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final Duration EVENT_STATUS_REFRESH_INTERVAL = Duration.minutes(1);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -53,6 +60,7 @@ public class MainWindow extends UiPart<Stage> {
     private Config config;
     private UserPrefs prefs;
     private HelpWindow helpWindow;
+    private Timeline eventStatusRefresher;
 
     @FXML
     private StackPane browserPlaceholder;
@@ -137,16 +145,17 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        overviewPanel = new OverviewPanel(logic.getFilteredVolunteerList(), logic.getFilteredEventList(),
+        overviewPanel = new OverviewPanel(logic.getFilteredVolunteerList(), logic.getEventStatusScheduler(),
                                                                                 logic.getFilteredRecordList());
+        startEventStatusRefresher();
 
         volunteerListPanel = new VolunteerListPanel(logic.getFilteredVolunteerList());
         eventListPanel = new EventListPanel(logic.getFilteredEventList());
 
         volunteerPanel = new VolunteerPanel();
         browserPlaceholder.getChildren().add(volunteerPanel.getRoot());
-        eventPanel = new EventPanel(logic.getFilteredRecordList());
-        recordEventPanel = new RecordEventPanel(logic.getFilteredRecordList(), logic.getFilteredVolunteerList());
+        eventPanel = new EventPanel(logic);
+        recordEventPanel = new RecordEventPanel(logic.getFilteredRecordRoster());
 
         contextIndicator = new ContextIndicator(Context.VOLUNTEER_CONTEXT_ID);
         contextIndicatorPlaceholder.getChildren().add(contextIndicator.getRoot());
@@ -156,6 +165,9 @@ public class MainWindow extends UiPart<Stage> {
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(prefs.getAddressBookFilePath(),
                 logic.getFilteredVolunteerList().size());
+        if (!logic.isAddressBookLoaded()) {
+            statusBarFooter.showLoading();
+        }
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(logic);
@@ -163,9 +175,23 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     void hide() {
+        if (eventStatusRefresher != null) {
+            eventStatusRefresher.stop();
+        }
         primaryStage.hide();
     }
 
+    /**
+     * Periodically refreshes the status of events, so that events which have started or ended since the last refresh
+     * are shown with their new status.
+     */
+    private void startEventStatusRefresher() {
+        eventStatusRefresher = new Timeline(new KeyFrame(EVENT_STATUS_REFRESH_INTERVAL, event ->
+                logic.getEventStatusScheduler().refresh()));
+        eventStatusRefresher.setCycleCount(Animation.INDEFINITE);
+        eventStatusRefresher.play();
+    }
+
     private void setTitle(String appTitle) {
         primaryStage.setTitle(appTitle);
     }
@@ -274,24 +300,28 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleContextChangeEvent(ContextChangeEvent event) {
         logger.info(event.getNewContext());
         handleContextChange(event);
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleOverviewEvent(OverviewPanelChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         handleOverview();
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleReplaceWithContextPanelEvent(ReplaceWithContextPanelEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         handleReplaceWithContextPanel();
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         handleHelp();
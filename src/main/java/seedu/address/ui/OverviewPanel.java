@@ -16,12 +16,15 @@ import javafx.scene.chart.XYChart;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import javafx.util.StringConverter;
+import seedu.address.commons.core.EventThread;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.EventStatusChangedEvent;
 import seedu.address.commons.events.ui.OverviewPanelChangedEvent;
 import seedu.address.commons.events.ui.OverviewPanelEventUpdateEvent;
 import seedu.address.commons.events.ui.OverviewPanelVolunteerUpdateEvent;
+import seedu.address.model.EventStatusScheduler;
 import seedu.address.model.Overview;
-import seedu.address.model.event.Event;
 import seedu.address.model.record.Record;
 import seedu.address.model.volunteer.Volunteer;
 
@@ -48,18 +51,16 @@ public class OverviewPanel extends UiPart<Region> {
     private CategoryAxis xAxis;
 
     private ObservableList<Volunteer> volunteerList;
-    private ObservableList<Event> eventList;
     private ObservableList<Record> recordList;
     private Overview overview;
 
-    public OverviewPanel(ObservableList<Volunteer> volunteerList, ObservableList<Event> eventList,
+    public OverviewPanel(ObservableList<Volunteer> volunteerList, EventStatusScheduler eventStatusScheduler,
                          ObservableList<Record> recordList) {
         super(FXML);
 
         this.volunteerList = volunteerList;
-        this.eventList = eventList;
         this.recordList = recordList;
-        this.overview = new Overview(volunteerList, eventList, recordList);
+        this.overview = new Overview(volunteerList, eventStatusScheduler);
 
         registerAsAnEventHandler(this);
     }
@@ -148,21 +149,31 @@ public class OverviewPanel extends UiPart<Region> {
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleOverviewPanelSelectionChangedEvent(OverviewPanelChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         updateEventStatistics();
         updateVolunteerStatistics();
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleEventUpdateUpdateEvent(OverviewPanelEventUpdateEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         updateEventStatistics();
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
+    private void handleEventStatusChangedEvent(EventStatusChangedEvent event) {
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        updateEventStatistics();
+    }
+
+    @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleVolunteerUpdateUpdateEvent(OverviewPanelVolunteerUpdateEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         updateVolunteerStatistics();
     }
 }
@@ -7,14 +7,16 @@ import com.google.common.eventbus.Subscribe;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.EventThread;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.RecordChangeEvent;
-import seedu.address.model.record.Record;
-import seedu.address.model.volunteer.Volunteer;
+import seedu.address.model.record.RosterRow;
 
 /**
  * Panel containing the list of volunteers.
@@ -28,60 +30,38 @@ public class RecordEventPanel extends UiPart<Region> {
     @FXML
     private Label numOfVolunteersLabel;
     @FXML
-    private TableView<Record> volunteerRecordTableView;
+    private TableView<RosterRow> volunteerRecordTableView;
     @FXML
-    private TableColumn<String, Integer> indexColumn;
+    private TableColumn<RosterRow, Void> indexColumn;
     @FXML
-    private TableColumn<Record, String> nameColumn;
+    private TableColumn<RosterRow, String> nameColumn;
     @FXML
-    private TableColumn<Record, String> numberColumn;
+    private TableColumn<RosterRow, String> numberColumn;
     @FXML
-    private TableColumn<Record, String> hourColumn;
+    private TableColumn<RosterRow, String> hourColumn;
     @FXML
-    private TableColumn<Record, String> remarkColumn;
+    private TableColumn<RosterRow, String> remarkColumn;
 
+    private ObservableList<RosterRow> rosterRows;
 
-    private ObservableList<Volunteer> volunteerList;
-    private ObservableList<Record> recordList;
-
-
-    public RecordEventPanel(ObservableList<Record> recordList, ObservableList<Volunteer> volunteerList) {
+    public RecordEventPanel(ObservableList<RosterRow> rosterRows) {
         super(FXML);
-        this.recordList = recordList;
-        this.volunteerList = volunteerList;
+        this.rosterRows = rosterRows;
 
-        mapVolunteerToRecord();
         setConnections();
         registerAsAnEventHandler(this);
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleRecordChangeEvent(RecordChangeEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         eventNameLabel.setText(event.getCurrentEvent().getName().fullName);
-        numOfVolunteersLabel.setText(String.valueOf(recordList.size()));
-
-        mapVolunteerToRecord();
-    }
-
-    /**
-     * Map volunteers to record.
-     */
-    private void mapVolunteerToRecord() {
-        for (int i = 0; i < recordList.size(); i++) {
-            for (int j = 0; j < volunteerList.size(); j++) {
-                if (recordList.get(i).getVolunteerId().id == volunteerList.get(j).getVolunteerId().id) {
-                    recordList.get(i).setLocalIndex(i + 1);
-                    recordList.get(i).setVolunteerName(volunteerList.get(j).getName().fullName);
-                    recordList.get(i).setPhoneNo(volunteerList.get(j).getPhone().value);
-                    break;
-                }
-            }
-        }
+        numOfVolunteersLabel.setText(String.valueOf(rosterRows.size()));
     }
 
     private void setConnections() {
-        indexColumn.setCellValueFactory(new PropertyValueFactory<>("localIndex"));
+        indexColumn.setCellFactory(column -> new IndexTableCell());
         nameColumn.setCellValueFactory(new PropertyValueFactory<>("volunteerName"));
         numberColumn.setCellValueFactory(new PropertyValueFactory<>("phoneNo"));
         hourColumn.setCellValueFactory(new PropertyValueFactory<>("hour"));
@@ -89,6 +69,22 @@ public class RecordEventPanel extends UiPart<Region> {
 
         volunteerRecordTableView.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
 
-        volunteerRecordTableView.setItems(recordList);
+        volunteerRecordTableView.setItems(rosterRows);
+    }
+
+    /**
+     * Custom {@code TableCell} that displays the one-based index of its row.
+     */
+    private static class IndexTableCell extends TableCell<RosterRow, Void> {
+        @Override
+        protected void updateItem(Void item, boolean empty) {
+            super.updateItem(item, empty);
+
+            if (empty || getTableRow() == null || getTableRow().getItem() == null) {
+                setText(null);
+            } else {
+                setText(String.valueOf(getIndex() + 1));
+            }
+        }
     }
 }
@@ -13,8 +13,13 @@ import com.google.common.eventbus.Subscribe;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.EventThread;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.AddressBookLoadProgressEvent;
+import seedu.address.commons.events.storage.DataSavedEvent;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -23,9 +28,14 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_LOADING = "Loading address book...";
+    public static final String SYNC_STATUS_LOADING_PROGRESS = "Loading address book: %d%%";
 
     public static final String TOTAL_VOLUNTEERS_STATUS = "Total Volunteer(s): %d";
 
+    public static final String SAVE_STATUS_SAVED = "Saved in %d ms";
+    public static final String SAVE_STATUS_FAILED = "Saving failed";
+
     /**
      * Used to generate time stamps.
      *
@@ -46,6 +56,8 @@ public class StatusBarFooter extends UiPart<Region> {
     private StatusBar saveLocationStatus;
     @FXML
     private StatusBar totalVolunteersStatus;
+    @FXML
+    private StatusBar saveStatus;
 
 
     public StatusBarFooter(Path saveLocation, int totalVolunteers) {
@@ -79,14 +91,53 @@ public class StatusBarFooter extends UiPart<Region> {
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
         setTotalVolunteers(abce.data.getVolunteerList().size());
     }
 
+    /**
+     * Shows that the address book is still being loaded.
+     */
+    public void showLoading() {
+        setSyncStatus(SYNC_STATUS_LOADING);
+    }
+
+    @Subscribe
+    @HandleOn(EventThread.FX)
+    public void handleAddressBookLoadProgressEvent(AddressBookLoadProgressEvent ablpe) {
+        if (ablpe.isFinished()) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(ablpe, "Address book loaded"));
+            setSyncStatus(SYNC_STATUS_INITIAL);
+        } else {
+            setSyncStatus(String.format(SYNC_STATUS_LOADING_PROGRESS,
+                    (int) (100L * ablpe.loadedCount / ablpe.totalCount)));
+        }
+        setTotalVolunteers(ablpe.data.getVolunteerList().size());
+    }
+
+    @Subscribe
+    @HandleOn(EventThread.FX)
+    public void handleDataSavedEvent(DataSavedEvent dse) {
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(dse, "Setting save status"));
+        setSaveStatus(String.format(SAVE_STATUS_SAVED, dse.latencyMillis));
+    }
+
+    @Subscribe
+    @HandleOn(EventThread.FX)
+    public void handleDataSavingExceptionEvent(DataSavingExceptionEvent dsee) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(dsee, "Setting save status"));
+        setSaveStatus(SAVE_STATUS_FAILED);
+    }
+
+    private void setSaveStatus(String status) {
+        Platform.runLater(() -> saveStatus.setText(status));
+    }
+
     private void setTotalVolunteers(int totalVolunteers) {
         Platform.runLater(() -> totalVolunteersStatus.setText(String.format(TOTAL_VOLUNTEERS_STATUS, totalVolunteers)));
     }
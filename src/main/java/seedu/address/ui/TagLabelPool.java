@@ -0,0 +1,62 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+
+/**
+ * The tag labels shown in a {@code Pane}. The labels are kept when the pane is given other tags to show, and are
+ * reused for those tags instead of creating new labels.
+ *
+ * To show a set of tags, call {@link #reset()}, then {@link #add(String)} once for each tag, then {@link #show()}.
+ */
+class TagLabelPool {
+    private static final String DEFAULT_STYLE_CLASS = "label";
+
+    private final Pane container;
+    private final List<Label> labels = new ArrayList<>();
+    private int usedCount;
+
+    TagLabelPool(Pane container) {
+        this.container = container;
+    }
+
+    /**
+     * Makes all the labels available for the next set of tags.
+     */
+    void reset() {
+        usedCount = 0;
+    }
+
+    /**
+     * Returns a label showing {@code text}, with only its default style class, which will be shown after the
+     * labels added before it.
+     */
+    Label add(String text) {
+        Label label;
+        if (usedCount < labels.size()) {
+            label = labels.get(usedCount);
+            if (label.getStyleClass().size() != 1) {
+                label.getStyleClass().setAll(DEFAULT_STYLE_CLASS);
+            }
+        } else {
+            label = new Label();
+            labels.add(label);
+        }
+        label.setText(text);
+        usedCount++;
+        return label;
+    }
+
+    /**
+     * Shows the labels added since the last {@link #reset()} in the pane, and only those.
+     */
+    void show() {
+        List<Label> usedLabels = labels.subList(0, usedCount);
+        if (!container.getChildren().equals(usedLabels)) {
+            container.getChildren().setAll(usedLabels);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.Objects;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -22,8 +24,6 @@ public class VolunteerCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Volunteer volunteer;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -39,15 +39,40 @@ public class VolunteerCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public VolunteerCard(Volunteer volunteer, int displayedIndex) {
+    private final TagLabelPool tagLabels;
+    private Volunteer volunteer;
+
+    /**
+     * Creates a card that shows nothing until it is given a volunteer by {@link #setVolunteer(Volunteer, int)}.
+     */
+    public VolunteerCard() {
         super(FXML);
+        tagLabels = new TagLabelPool(tags);
+    }
+
+    public VolunteerCard(Volunteer volunteer, int displayedIndex) {
+        this();
+        setVolunteer(volunteer, displayedIndex);
+    }
+
+    public Volunteer getVolunteer() {
+        return volunteer;
+    }
+
+    /**
+     * Shows {@code volunteer} at {@code displayedIndex} on this card, in place of what it showed before.
+     */
+    public void setVolunteer(Volunteer volunteer, int displayedIndex) {
         this.volunteer = volunteer;
         id.setText(displayedIndex + ". ");
         name.setText(volunteer.getName().fullName);
         volunteerId.setText(volunteer.getVolunteerId().id);
         phone.setText(volunteer.getPhone().value);
         email.setText(volunteer.getEmail().value);
-        volunteer.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+
+        tagLabels.reset();
+        volunteer.getTags().forEach(tag -> tagLabels.add(tag.tagName));
+        tagLabels.show();
     }
 
     @Override
@@ -65,6 +90,6 @@ public class VolunteerCard extends UiPart<Region> {
         // state check
         VolunteerCard card = (VolunteerCard) other;
         return id.getText().equals(card.id.getText())
-                && volunteer.equals(card.volunteer);
+                && Objects.equals(volunteer, card.volunteer);
     }
 }
@@ -10,6 +10,8 @@ import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.EventThread;
+import seedu.address.commons.core.HandleOn;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.commons.events.ui.ReplaceWithContextPanelEvent;
@@ -67,6 +69,7 @@ public class VolunteerListPanel extends UiPart<Region> {
     }
 
     @Subscribe
+    @HandleOn(EventThread.FX)
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         scrollTo(event.targetIndex);
@@ -76,6 +79,8 @@ public class VolunteerListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code VolunteerCard}.
      */
     class VolunteerListViewCell extends ListCell<Volunteer> {
+        private VolunteerCard card; // created once, then given the item shown by this cell each time it is reused
+
         @Override
         protected void updateItem(Volunteer volunteer, boolean empty) {
             super.updateItem(volunteer, empty);
@@ -84,7 +89,11 @@ public class VolunteerListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new VolunteerCard(volunteer, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new VolunteerCard();
+                }
+                card.setVolunteer(volunteer, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
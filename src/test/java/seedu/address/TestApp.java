@@ -7,15 +7,19 @@ import java.util.function.Supplier;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.storage.Storage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.XmlSerializableAddressBook;
 import seedu.address.testutil.TestUtil;
@@ -68,10 +72,29 @@ public class TestApp extends MainApp {
         return userPrefs;
     }
 
+    @Override
+    protected Model initModelManager(Storage storage, UserPrefs userPrefs) {
+        // the tests check the model as soon as the app has started, so the data is loaded before that
+        return new ModelManager(readInitialData(storage), userPrefs);
+    }
+
+    @Override
+    protected Logic initLogic(Model model) {
+        // the tests check the result of a command as soon as it has been entered, so it is run at once
+        return new LogicManager(model);
+    }
+
+    @Override
+    protected void initEventsCenter() {
+        // the tests check the UI as soon as a command has been run, so the event handlers are run as events are posted
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
     /**
      * Returns a defensive copy of the address book data stored inside the storage file.
      */
     public AddressBook readStorageAddressBook() {
+        storage.flushAddressBook();
         try {
             return new AddressBook(storage.readAddressBook().get());
         } catch (DataConversionException dce) {
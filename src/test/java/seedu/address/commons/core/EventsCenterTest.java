@@ -0,0 +1,240 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final EventsCenter eventsCenter = EventsCenter.getInstance();
+    private final Queue<Runnable> fxTasks = new ArrayDeque<>();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_handlersOnPostingThread_handledInOrderPosted() {
+        List<String> handled = new ArrayList<>();
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleAnyEvent(BaseEvent event) {
+                handled.add("any " + event);
+            }
+
+            @Subscribe
+            public void handleRefreshEvent(RefreshEvent event) {
+                handled.add("refresh " + event);
+                if (event.number == 1) {
+                    // handled once this handler has returned
+                    eventsCenter.post(new RefreshEvent(2));
+                }
+            }
+        });
+
+        eventsCenter.post(new RefreshEvent(1));
+        assertEquals(Arrays.asList("refresh 1", "any 1", "refresh 2", "any 2"), handled);
+    }
+
+    @Test
+    public void post_handlerOfInterface_handled() {
+        List<String> handled = new ArrayList<>();
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleNumberedEvent(NumberedEvent event) {
+                handled.add("numbered " + event.getNumber());
+            }
+
+            @Subscribe
+            public void handleRefreshEvent(RefreshEvent event) {
+                handled.add("refresh " + event);
+            }
+        });
+
+        eventsCenter.post(new RefreshEvent(1));
+        assertEquals(Arrays.asList("refresh 1", "numbered 1"), handled);
+    }
+
+    @Test
+    public void post_fxHandler_handledByFxExecutorIfSet() {
+        FxHandler handler = new FxHandler();
+        eventsCenter.registerHandler(handler);
+
+        // no executor set, so handled on the posting thread
+        eventsCenter.post(new MessageEvent("first"));
+        assertEquals(Arrays.asList("first"), handler.handled);
+
+        eventsCenter.setExecutor(EventThread.FX, fxTasks::add);
+        eventsCenter.post(new MessageEvent("second"));
+        assertEquals(Arrays.asList("first"), handler.handled);
+        runFxTasks();
+        assertEquals(Arrays.asList("first", "second"), handler.handled);
+    }
+
+    @Test
+    public void post_coalescableEventsOnFxThread_onlyLatestHandled() {
+        FxHandler handler = new FxHandler();
+        eventsCenter.registerHandler(handler);
+        eventsCenter.setExecutor(EventThread.FX, fxTasks::add);
+
+        eventsCenter.post(new RefreshEvent(1));
+        eventsCenter.post(new MessageEvent("a"));
+        eventsCenter.post(new RefreshEvent(2));
+        eventsCenter.post(new MessageEvent("b"));
+        eventsCenter.post(new RefreshEvent(3));
+        runFxTasks();
+        assertEquals(Arrays.asList("3", "a", "b"), handler.handled);
+
+        // a refresh posted after the earlier one has been handled is handled too
+        eventsCenter.post(new RefreshEvent(4));
+        runFxTasks();
+        assertEquals(Arrays.asList("3", "a", "b", "4"), handler.handled);
+
+        EventHandlerStatistics refreshStatistics = getStatistics("FxHandler#handleRefreshEvent");
+        assertEquals(2, refreshStatistics.handledCount);
+        assertEquals(2, refreshStatistics.coalescedCount);
+        EventHandlerStatistics messageStatistics = getStatistics("FxHandler#handleMessageEvent");
+        assertEquals(2, messageStatistics.handledCount);
+        assertEquals(0, messageStatistics.coalescedCount);
+        assertTrue(messageStatistics.maxNanos <= messageStatistics.totalNanos);
+    }
+
+    @Test
+    public void post_severalRefreshEventsOnFxThread_handledOnceWithLatest() {
+        FxHandler handler = new FxHandler();
+        eventsCenter.registerHandler(handler);
+        eventsCenter.setExecutor(EventThread.FX, fxTasks::add);
+
+        eventsCenter.post(new RefreshEvent(1));
+        eventsCenter.post(new RefreshEvent(2));
+        eventsCenter.post(new RefreshEvent(3));
+        assertEquals(1, fxTasks.size());
+        runFxTasks();
+        assertEquals(Arrays.asList("3"), handler.handled);
+        assertEquals(1, getStatistics("FxHandler#handleRefreshEvent").handledCount);
+    }
+
+    @Test
+    public void post_handlerThrowsException_otherHandlersStillRun() {
+        List<String> handled = new ArrayList<>();
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleMessageEvent(MessageEvent event) {
+                throw new IllegalStateException();
+            }
+        });
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleMessageEvent(MessageEvent event) {
+                handled.add(event.toString());
+            }
+        });
+
+        eventsCenter.post(new MessageEvent("message"));
+        assertEquals(Arrays.asList("message"), handled);
+    }
+
+    @Test
+    public void setExecutor_postingThread_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        eventsCenter.setExecutor(EventThread.POSTING, fxTasks::add);
+    }
+
+    private void runFxTasks() {
+        Runnable task;
+        while ((task = fxTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private EventHandlerStatistics getStatistics(String handlerName) {
+        return eventsCenter.getHandlerStatistics().stream()
+                .filter(statistics -> statistics.handlerName.equals(handlerName))
+                .findFirst().get();
+    }
+
+    /**
+     * An event that has a number.
+     */
+    private interface NumberedEvent {
+        int getNumber();
+    }
+
+    /**
+     * An event that can be coalesced.
+     */
+    private static class RefreshEvent extends BaseEvent implements NumberedEvent {
+        private final int number;
+
+        RefreshEvent(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public int getNumber() {
+            return number;
+        }
+
+        @Override
+        public boolean isCoalescable() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(number);
+        }
+    }
+
+    /**
+     * An event that cannot be coalesced.
+     */
+    private static class MessageEvent extends BaseEvent {
+        private final String message;
+
+        MessageEvent(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public String toString() {
+            return message;
+        }
+    }
+
+    /**
+     * Records the events it handles on the JavaFX application thread.
+     */
+    private static class FxHandler {
+        private final List<String> handled = new ArrayList<>();
+
+        @Subscribe
+        @HandleOn(EventThread.FX)
+        public void handleRefreshEvent(RefreshEvent event) {
+            handled.add(event.toString());
+        }
+
+        @Subscribe
+        @HandleOn(EventThread.FX)
+        public void handleMessageEvent(MessageEvent event) {
+            handled.add(event.toString());
+        }
+    }
+}
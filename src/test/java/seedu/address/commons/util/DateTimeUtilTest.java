@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Time;
+
+public class DateTimeUtilTest {
+
+    @Test
+    public void toEpochMinute() {
+        assertEquals(0, DateTimeUtil.toEpochMinute(new Date("01-01-1970"), new Time("00:00")));
+        assertEquals(DateTimeUtil.MINUTES_PER_DAY + 90,
+                DateTimeUtil.toEpochMinute(new Date("02-01-1970"), new Time("1:30")));
+    }
+
+    @Test
+    public void getCurrentEpochMinute() {
+        Clock clock = Clock.fixed(Instant.parse("1970-01-02T01:30:59Z"), ZoneOffset.UTC);
+        assertEquals(DateTimeUtil.MINUTES_PER_DAY + 90, DateTimeUtil.getCurrentEpochMinute(clock));
+
+        // local time of the clock's zone is used
+        Clock offsetClock = Clock.fixed(Instant.parse("1970-01-02T01:30:00Z"), ZoneOffset.ofHours(8));
+        assertEquals(DateTimeUtil.MINUTES_PER_DAY + 9 * 60 + 30, DateTimeUtil.getCurrentEpochMinute(offsetClock));
+    }
+
+    @Test
+    public void getEventStatus() {
+        assertEquals(DateTimeUtil.UPCOMING_EVENT, DateTimeUtil.getEventStatus(100, 200, 99));
+        assertEquals(DateTimeUtil.ONGOING_EVENT, DateTimeUtil.getEventStatus(100, 200, 100)); // at start
+        assertEquals(DateTimeUtil.ONGOING_EVENT, DateTimeUtil.getEventStatus(100, 200, 200)); // at end
+        assertEquals(DateTimeUtil.COMPLETED_EVENT, DateTimeUtil.getEventStatus(100, 200, 201));
+    }
+
+    @Test
+    public void getFriendlyDateFromEventDate() {
+        assertEquals("Fri, 15 Jun 18", DateTimeUtil.getFriendlyDateFromEventDate(new Date("15-06-2018")));
+    }
+}
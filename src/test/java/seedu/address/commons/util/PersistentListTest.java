@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentList.empty().isEmpty());
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.copyOf(Arrays.asList("a", null));
+    }
+
+    @Test
+    public void copyOf_list_sameElementsInOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        assertEquals(elements, PersistentList.copyOf(elements));
+    }
+
+    @Test
+    public void plus_nullElement_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.empty().plus(null);
+    }
+
+    @Test
+    public void plus_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.<String>empty().plus(1, "a");
+    }
+
+    @Test
+    public void minus_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.copyOf(Collections.singletonList("a")).minus(1);
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.empty().get(0);
+    }
+
+    @Test
+    public void derivedLists_originalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+
+        assertEquals(Arrays.asList("a", "b", "c", "d"), original.plus("d"));
+        assertEquals(Arrays.asList("a", "x", "b", "c"), original.plus(1, "x"));
+        assertEquals(Arrays.asList("a", "x", "c"), original.with(1, "x"));
+        assertEquals(Arrays.asList("a", "c"), original.minus(1));
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+
+            if (i % 100 == 0) {
+                versions.add(actual);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expectedVersions, versions);
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b"));
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // same elements, different structure -> returns true
+        assertEquals(list, PersistentList.<String>empty().plus("a").plus("b"));
+        assertEquals(list.hashCode(), Arrays.asList("a", "b").hashCode());
+
+        // different elements -> returns false
+        assertNotEquals(list, list.plus("c"));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.xml.bind.Marshaller;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.storage.XmlSerializableAddressBook;
+
+public class XmlCacheTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void getContext_nullClass_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        XmlCache.getContext(null);
+    }
+
+    @Test
+    public void getContext_sameClass_sameContext() throws Exception {
+        assertSame(XmlCache.getContext(XmlSerializableAddressBook.class),
+                XmlCache.getContext(XmlSerializableAddressBook.class));
+    }
+
+    @Test
+    public void getMarshaller_sameThread_sameMarshaller() throws Exception {
+        Marshaller marshaller = XmlCache.getMarshaller(XmlSerializableAddressBook.class);
+        assertSame(marshaller, XmlCache.getMarshaller(XmlSerializableAddressBook.class));
+
+        Marshaller otherThreadMarshaller = CompletableFuture.supplyAsync(() -> {
+            try {
+                return XmlCache.getMarshaller(XmlSerializableAddressBook.class);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }).get();
+        assertNotSame(marshaller, otherThreadMarshaller);
+    }
+
+    @Test
+    public void getDocumentBuilder_sameThread_sameDocumentBuilder() throws Exception {
+        DocumentBuilder documentBuilder = XmlCache.getDocumentBuilder();
+        assertSame(documentBuilder, XmlCache.getDocumentBuilder());
+
+        DocumentBuilder otherThreadDocumentBuilder = CompletableFuture.supplyAsync(() -> {
+            try {
+                return XmlCache.getDocumentBuilder();
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }).get();
+        assertNotSame(documentBuilder, otherThreadDocumentBuilder);
+    }
+
+    @Test
+    public void getTransformer_changedOutputProperty_reset() throws Exception {
+        Transformer transformer = XmlCache.getTransformer();
+        String defaultIndent = transformer.getOutputProperty(OutputKeys.INDENT);
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes".equals(defaultIndent) ? "no" : "yes");
+
+        assertSame(transformer, XmlCache.getTransformer());
+        assertEquals(defaultIndent, transformer.getOutputProperty(OutputKeys.INDENT));
+    }
+}
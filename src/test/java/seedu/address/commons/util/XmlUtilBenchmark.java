@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+
+import seedu.address.storage.XmlSerializableAddressBook;
+import seedu.address.testutil.TypicalVolunteers;
+
+/**
+ * Measures the time {@link XmlUtil#saveDataToFile(Path, Object)} takes to save a small address book with cached
+ * JAXB objects, against creating a new {@code JAXBContext} and {@code Marshaller} for every save as it used to.
+ * This is not run as part of the tests; run its {@code main} method, optionally with the number of saves as an
+ * argument.
+ */
+public class XmlUtilBenchmark {
+
+    private static final int DEFAULT_SAVE_COUNT = 200;
+
+    public static void main(String[] args) throws Exception {
+        int saveCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SAVE_COUNT;
+        XmlSerializableAddressBook data =
+                new XmlSerializableAddressBook(TypicalVolunteers.getTypicalVolunteerAddressBook());
+        Path file = Files.createTempFile("XmlUtilBenchmark", ".xml");
+
+        // warm up both paths, so that class loading is not counted
+        saveUncached(file, data);
+        XmlUtil.saveDataToFile(file, data);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < saveCount; i++) {
+            saveUncached(file, data);
+        }
+        long uncachedNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < saveCount; i++) {
+            XmlUtil.saveDataToFile(file, data);
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        System.out.println(String.format("%d saves: new context per save %.2f ms/save, cached %.2f ms/save",
+                saveCount, uncachedNanos / 1e6 / saveCount, cachedNanos / 1e6 / saveCount));
+        Files.delete(file);
+    }
+
+    /**
+     * Saves {@code data} the way {@code XmlUtil} did before it cached its JAXB objects.
+     */
+    private static void saveUncached(Path file, XmlSerializableAddressBook data) throws Exception {
+        JAXBContext context = JAXBContext.newInstance(XmlSerializableAddressBook.class);
+        Marshaller marshaller = context.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.marshal(data, file.toFile());
+    }
+}
@@ -1,21 +1,41 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_VOLUNTEER_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerAddressBook;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TypicalEvents;
 
 
 public class LogicManagerTest {
@@ -46,12 +66,193 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_addressBookStillLoading_waitsForRequiredSections() throws Exception {
+        AddressBook addressBook = getTypicalVolunteerAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(addressBook::addEvent);
+        Queue<Runnable> uiTasks = new ArrayDeque<>();
+        Model loadingModel = new ModelManager(CompletableFuture.completedFuture(addressBook), new UserPrefs(),
+                uiTasks::add);
+        Logic loadingLogic = new LogicManager(loadingModel);
+
+        loadingLogic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(addressBook.getVolunteerList(), loadingModel.getFilteredVolunteerList());
+        assertTrue(loadingModel.getFilteredEventList().isEmpty());
+        assertFalse(loadingLogic.isAddressBookLoaded());
+
+        // a command that changes the data waits for the whole address book
+        loadingLogic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(addressBook.getEventList(), loadingModel.getFilteredEventList());
+        assertTrue(loadingLogic.isAddressBookLoaded());
+    }
+
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        String listCommand = ListCommand.COMMAND_WORD;
+        CompletableFuture<CommandResult> result = logic.executeAsync(listCommand);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.get().feedbackToUser);
+        assertHistoryCorrect(listCommand);
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() throws Exception {
+        String invalidCommand = "uicfhmowqewca";
+        CompletableFuture<CommandResult> result = logic.executeAsync(invalidCommand);
+        assertTrue(result.isCompletedExceptionally());
+        try {
+            result.get();
+            throw new AssertionError("The command should fail.");
+        } catch (ExecutionException e) {
+            assertEquals(ParseException.class, e.getCause().getClass());
+            assertEquals(MESSAGE_UNKNOWN_COMMAND, e.getCause().getMessage());
+        }
+        assertHistoryCorrect(invalidCommand);
+    }
+
+    @Test
+    public void executeAsync_commandThread_runsCommandsInOrderUsingModelOnUiThread() throws Exception {
+        ExecutorService commandExecutor = LogicManager.newCommandExecutor();
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        Model typicalModel = new ModelManager(getTypicalVolunteerAddressBook(), new UserPrefs());
+        Logic asyncLogic = new LogicManager(typicalModel, commandExecutor, uiTasks::add);
+
+        try {
+            String deleteCommand = DeleteCommand.COMMAND_WORD + " 1";
+            String invalidDeleteCommand = DeleteCommand.COMMAND_WORD + " 99";
+            CompletableFuture<CommandResult> deleteResult = asyncLogic.executeAsync(deleteCommand);
+            CompletableFuture<CommandResult> invalidDeleteResult = asyncLogic.executeAsync(invalidDeleteCommand);
+            CompletableFuture<CommandResult> historyResult = asyncLogic.executeAsync(HistoryCommand.COMMAND_WORD);
+
+            // this thread acts as the UI thread, and so is the only one to use the model
+            runUiTasksUntil(uiTasks, historyResult::isDone);
+
+            assertFalse(deleteResult.isCompletedExceptionally());
+            assertTrue(invalidDeleteResult.isCompletedExceptionally());
+            assertEquals(getTypicalVolunteerAddressBook().getVolunteerList().size() - 1,
+                    typicalModel.getFilteredVolunteerList().size());
+            assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS,
+                    String.join("\n", invalidDeleteCommand, deleteCommand)), historyResult.get().feedbackToUser);
+        } finally {
+            commandExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void executeAsync_cancelledBeforeRunning_commandNotExecuted() {
+        Queue<Runnable> commandTasks = new ArrayDeque<>();
+        Model typicalModel = new ModelManager(getTypicalVolunteerAddressBook(), new UserPrefs());
+        Logic asyncLogic = new LogicManager(typicalModel, commandTasks::add, Runnable::run);
+
+        CompletableFuture<CommandResult> result = asyncLogic.executeAsync(DeleteCommand.COMMAND_WORD + " 1");
+        assertTrue(result.cancel(true));
+        commandTasks.remove().run();
+
+        assertTrue(result.isCancelled());
+        assertEquals(getTypicalVolunteerAddressBook(), typicalModel.getAddressBook());
+    }
+
+    @Test
+    public void cancelPendingCommands_whilePreparing_completesOnceStepHasStopped() throws Exception {
+        CountDownLatch prepareStarted = new CountDownLatch(1);
+        AtomicBoolean hasPrepareStopped = new AtomicBoolean();
+        AtomicBoolean isExecuted = new AtomicBoolean();
+        Command command = new Command() {
+            @Override
+            public void prepare() throws CommandException {
+                prepareStarted.countDown();
+                try {
+                    new CountDownLatch(1).await(); // until interrupted
+                } catch (InterruptedException e) {
+                    hasPrepareStopped.set(true);
+                    throw new CommandException("Interrupted");
+                }
+            }
+
+            @Override
+            public CommandResult execute(Model model, CommandHistory history) {
+                isExecuted.set(true);
+                return new CommandResult("");
+            }
+        };
+        ExecutorService commandExecutor = LogicManager.newCommandExecutor();
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        Logic asyncLogic = new LogicManager(model, new SingleCommandParser(command), commandExecutor, uiTasks::add);
+
+        try {
+            CompletableFuture<CommandResult> result = asyncLogic.executeAsync("command");
+            runUiTasksUntil(uiTasks, () -> prepareStarted.getCount() == 0);
+
+            assertTrue(asyncLogic.cancelPendingCommands());
+            assertFalse(result.isDone()); // only done once the step has stopped
+
+            runUiTasksUntil(uiTasks, result::isDone);
+            assertTrue(result.isCancelled());
+            assertTrue(hasPrepareStopped.get());
+            assertFalse(isExecuted.get());
+        } finally {
+            commandExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void cancelPendingCommands_afterExecuting_commandRunsToEnd() throws Exception {
+        CountDownLatch completeStarted = new CountDownLatch(1);
+        CountDownLatch completeAllowed = new CountDownLatch(1);
+        Command command = new Command() {
+            @Override
+            public CommandResult execute(Model model, CommandHistory history) {
+                return new CommandResult("executed");
+            }
+
+            @Override
+            public CommandResult complete(CommandResult result) {
+                completeStarted.countDown();
+                try {
+                    completeAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError("A command that has been executed should not be interrupted.", e);
+                }
+                return new CommandResult(result.feedbackToUser + " and completed");
+            }
+        };
+        ExecutorService commandExecutor = LogicManager.newCommandExecutor();
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        Logic asyncLogic = new LogicManager(model, new SingleCommandParser(command), commandExecutor, uiTasks::add);
+
+        try {
+            CompletableFuture<CommandResult> result = asyncLogic.executeAsync("command");
+            runUiTasksUntil(uiTasks, () -> completeStarted.getCount() == 0);
+
+            assertFalse(asyncLogic.cancelPendingCommands());
+            completeAllowed.countDown();
+
+            runUiTasksUntil(uiTasks, result::isDone);
+            assertEquals("executed and completed", result.get().feedbackToUser);
+        } finally {
+            commandExecutor.shutdownNow();
+        }
+    }
+
     @Test
     public void getFilteredVolunteerList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         logic.getFilteredVolunteerList().remove(0);
     }
 
+    /**
+     * Runs the tasks given to {@code uiTasks} on this thread, as the UI thread would, until {@code condition} holds.
+     */
+    private void runUiTasksUntil(BlockingQueue<Runnable> uiTasks, BooleanSupplier condition) throws Exception {
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timed out waiting for the command", System.nanoTime() < deadlineNanos);
+            Runnable uiTask = uiTasks.poll(10, TimeUnit.MILLISECONDS);
+            if (uiTask != null) {
+                uiTask.run();
+            }
+        }
+    }
+
     /**
      * Executes the command, confirms that no exceptions are thrown and that the result message is correct.
      * Also confirms that {@code expectedModel} is as specified.
@@ -121,4 +322,20 @@ public class LogicManagerTest {
             throw new AssertionError("Parsing and execution of HistoryCommand.COMMAND_WORD should succeed.", e);
         }
     }
+
+    /**
+     * A parser that returns the same command for any input.
+     */
+    private static class SingleCommandParser extends AddressBookParser {
+        private final Command command;
+
+        SingleCommandParser(Command command) {
+            this.command = command;
+        }
+
+        @Override
+        public Command parseCommand(String userInput, String contextId) {
+            return command;
+        }
+    }
 }
@@ -7,6 +7,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -17,11 +19,16 @@ import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSection;
+import seedu.address.model.EventStatusScheduler;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
 import seedu.address.model.record.Record;
+import seedu.address.model.record.RosterRow;
 import seedu.address.model.volunteer.Volunteer;
+import seedu.address.model.volunteer.VolunteerId;
 import seedu.address.testutil.VolunteerBuilder;
 
 public class AddCommandTest {
@@ -100,6 +107,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void awaitLoaded(Set<AddressBookSection> sections) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isLoaded() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //=========== Context Methods =============================================================
         @Override
         public void setCurrentContext(String contextId) {
@@ -162,6 +179,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Volunteer> getIndexedVolunteerNamePredicate(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //=========== Event Methods =============================================================
         @Override
         public boolean hasEvent(Event event) {
@@ -188,11 +210,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public EventStatusScheduler getEventStatusScheduler() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredEventList(Predicate<Event> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Event> getIndexedEventNamePredicate(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //=========== Record Methods =============================================================
         @Override
         public boolean hasRecord(Record record) {
@@ -205,6 +237,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteRecordsWhere(Predicate<Record> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addRecord(Record record) {
             throw new AssertionError("This method should not be called.");
@@ -215,6 +252,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Record> getRecordsForEvent(EventId eventId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Record> getRecordsForVolunteer(VolunteerId volunteerId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Record> getFilteredRecordList() {
             throw new AssertionError("This method should not be called.");
@@ -225,6 +272,37 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<RosterRow> getFilteredRecordRoster() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Record> getRecordView(Predicate<Record> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void releaseRecordView(Predicate<Record> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getLiveRecordViewCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        //=========== Transaction Methods =============================================================
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
 
         //=========== Undo/Redo Methods =============================================================
         @Override
@@ -189,17 +189,18 @@ public class CommandTestUtil {
     }
 
     /**
-     * Executes the given {@code command}, confirms that <br>
+     * Runs all the steps of the given {@code command}, confirms that <br>
      * - the result message matches {@code expectedMessage} <br>
      * - the {@code actualCommandHistory} remains unchanged <br>
-     * - a file with the {@code volunteer}'s name exists.
+     * - a file with the {@code volunteer}'s name exists once the command has completed.
      */
     public static void assertExportCommandSuccess(ExportCertCommand command, Model model,
                                                   CommandHistory actualCommandHistory, String expectedMessage,
                                                   Volunteer volunteer) {
         CommandHistory expectedCommandHistory = new CommandHistory(actualCommandHistory);
         try {
-            CommandResult result = command.execute(model, actualCommandHistory);
+            command.prepare();
+            CommandResult result = command.complete(command.execute(model, actualCommandHistory));
             assertEquals(expectedMessage, result.feedbackToUser);
             assertEquals(expectedCommandHistory, actualCommandHistory);
 
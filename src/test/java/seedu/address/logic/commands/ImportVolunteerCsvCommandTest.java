@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalVolunteers.CARL;
+import static seedu.address.testutil.TypicalVolunteers.DANIEL;
+import static seedu.address.testutil.TypicalVolunteers.ELLE;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportVolunteerCsvCommand}.
+ */
+public class ImportVolunteerCsvCommandTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ImportVolunteerCsvCommandTest");
+
+    private Model model = new ModelManager();
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_validFile_allVolunteersImported() throws Exception {
+        ImportVolunteerCsvCommand command = new ImportVolunteerCsvCommand(getCsvFile("validVolunteers.csv"));
+        command.prepare();
+        CommandResult result = command.execute(model, commandHistory);
+
+        assertEquals(ImportVolunteerCsvCommand.MESSAGE_IMPORT_COMPLETED, result.feedbackToUser);
+        assertEquals(Arrays.asList(CARL, DANIEL, ELLE), model.getFilteredVolunteerList());
+    }
+
+    @Test
+    public void execute_fileWithInvalidRow_importsRowsBeforeItAndReportsFailure() throws Exception {
+        ImportVolunteerCsvCommand command = new ImportVolunteerCsvCommand(getCsvFile("invalidRow.csv"));
+        command.prepare();
+        try {
+            command.execute(model, commandHistory);
+            throw new AssertionError("The command should report the invalid row.");
+        } catch (CommandException e) {
+            assertEquals(ImportVolunteerCsvCommand.MESSAGE_IMPORT_VOLUNTEER_LACK_INFO, e.getMessage());
+        }
+
+        // the rows before the invalid row are imported, the rows after it are not
+        assertEquals(Arrays.asList(CARL), model.getFilteredVolunteerList());
+    }
+
+    @Test
+    public void execute_notPrepared_readsFileWhenExecuted() throws Exception {
+        ImportVolunteerCsvCommand command = new ImportVolunteerCsvCommand(getCsvFile("validVolunteers.csv"));
+        command.execute(model, commandHistory);
+
+        assertEquals(Arrays.asList(CARL, DANIEL, ELLE), model.getFilteredVolunteerList());
+    }
+
+    private FileReader getCsvFile(String fileName) throws FileNotFoundException {
+        return new FileReader(TEST_DATA_FOLDER.resolve(fileName).toFile());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_YOUTH;
@@ -10,6 +11,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_REMARK_R2;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DRIVER;
 import static seedu.address.testutil.TypicalEvents.BLOOD;
 import static seedu.address.testutil.TypicalRecords.R1;
+import static seedu.address.testutil.TypicalRecords.R2;
+import static seedu.address.testutil.TypicalRecords.R3;
 import static seedu.address.testutil.TypicalVolunteers.BENSON;
 import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerAddressBook;
 
@@ -25,10 +28,12 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventId;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.record.Record;
 import seedu.address.model.record.exceptions.DuplicateRecordException;
 import seedu.address.model.volunteer.Volunteer;
+import seedu.address.model.volunteer.VolunteerId;
 import seedu.address.model.volunteer.exceptions.DuplicateVolunteerException;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.RecordBuilder;
@@ -72,6 +77,42 @@ public class AddressBookTest {
         addressBook.resetData(newData);
     }
 
+    @Test
+    public void getReadOnlySnapshot_laterChanges_snapshotUnchanged() {
+        addressBook.addVolunteer(BENSON);
+        addressBook.addEvent(BLOOD);
+        addressBook.addRecord(R1);
+        ReadOnlyAddressBook snapshot = addressBook.getReadOnlySnapshot();
+
+        addressBook.removeVolunteer(BENSON);
+        addressBook.removeEvent(BLOOD);
+        addressBook.removeRecord(R1);
+
+        assertEquals(Arrays.asList(BENSON), snapshot.getVolunteerList());
+        assertEquals(Arrays.asList(BLOOD), snapshot.getEventList());
+        assertEquals(Arrays.asList(R1), snapshot.getRecordList());
+        assertEquals(Arrays.asList(R1), snapshot.getRecordsForEvent(R1.getEventId()));
+        assertEquals(Arrays.asList(R1), snapshot.getRecordsForVolunteer(R1.getVolunteerId()));
+        assertEquals(Collections.emptyList(), snapshot.getRecordsForEvent(new EventId(2)));
+    }
+
+    @Test
+    public void getReadOnlySnapshot_recordLookups_returnRecordsOfEventAndVolunteer() {
+        addressBook.addRecord(R1);
+        addressBook.addRecord(R2);
+        addressBook.addRecord(R3);
+        ReadOnlyAddressBook snapshot = addressBook.getReadOnlySnapshot();
+
+        assertEquals(Arrays.asList(R2, R3), snapshot.getRecordsForEvent(R2.getEventId()));
+        assertEquals(Arrays.asList(R3), snapshot.getRecordsForVolunteer(R3.getVolunteerId()));
+        assertEquals(Collections.emptyList(), snapshot.getRecordsForVolunteer(BENSON.getVolunteerId()));
+
+        // the views of the snapshot are only created once
+        assertSame(snapshot.getVolunteerList(), snapshot.getVolunteerList());
+        assertSame(snapshot.getEventList(), snapshot.getEventList());
+        assertSame(snapshot.getRecordList(), snapshot.getRecordList());
+    }
+
     @Test
     public void hasVolunteer_nullVolunteer_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -224,5 +265,15 @@ public class AddressBookTest {
         public ObservableList<Record> getRecordList() {
             return records;
         }
+
+        @Override
+        public List<Record> getRecordsForEvent(EventId eventId) {
+            return records.filtered(record -> record.getEventId().equals(eventId));
+        }
+
+        @Override
+        public List<Record> getRecordsForVolunteer(VolunteerId volunteerId) {
+            return records.filtered(record -> record.getVolunteerId().equals(volunteerId));
+        }
     }
 }
@@ -0,0 +1,98 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalRecords.R1;
+import static seedu.address.testutil.TypicalRecords.R2;
+import static seedu.address.testutil.TypicalRecords.R3;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.EventId;
+import seedu.address.model.record.Record;
+import seedu.address.model.record.RecordContainsEventIdPredicate;
+import seedu.address.testutil.RecordBuilder;
+
+public class DerivedViewRegistryTest {
+    private static final Comparator<Record> BY_VOLUNTEER_ID =
+            Comparator.comparing(record -> record.getVolunteerId().id);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<Record> records = FXCollections.observableArrayList(R1, R2, R3);
+    private final DerivedViewRegistry<Record> registry = new DerivedViewRegistry<>(records);
+
+    @Test
+    public void getFilteredView_nullPredicate_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        registry.getFilteredView(null);
+    }
+
+    @Test
+    public void getFilteredView_equalPredicate_returnsCachedView() {
+        ObservableList<Record> view = registry.getFilteredView(new RecordContainsEventIdPredicate(R2.getEventId()));
+        assertEquals(Arrays.asList(R2, R3), view);
+
+        assertSame(view, registry.getFilteredView(new RecordContainsEventIdPredicate(R2.getEventId())));
+        assertEquals(1, registry.getCachedViewCount());
+
+        // the view follows the list
+        Record newRecord = new RecordBuilder(R2).withVolunteerId("S1111111A").build();
+        records.add(newRecord);
+        records.remove(R2);
+        assertEquals(Arrays.asList(R3, newRecord), view);
+    }
+
+    @Test
+    public void getSortedView_returnsSortedCachedView() {
+        ObservableList<Record> view = registry.getSortedView(BY_VOLUNTEER_ID);
+        assertEquals(Arrays.asList(R3, R1, R2), view);
+        assertSame(view, registry.getSortedView(BY_VOLUNTEER_ID));
+        assertEquals(1, registry.getCachedViewCount());
+    }
+
+    @Test
+    public void release_viewDroppedFromCache() {
+        RecordContainsEventIdPredicate predicate = new RecordContainsEventIdPredicate(R1.getEventId());
+        ObservableList<Record> view = registry.getFilteredView(predicate);
+        registry.getSortedView(BY_VOLUNTEER_ID);
+
+        registry.release(predicate);
+        registry.release(BY_VOLUNTEER_ID);
+        assertEquals(0, registry.getCachedViewCount());
+        assertNotSame(view, registry.getFilteredView(predicate));
+
+        // the released view still works for whoever holds it
+        records.remove(R1);
+        assertEquals(Collections.emptyList(), view);
+    }
+
+    @Test
+    public void getFilteredView_manyPredicates_cacheBounded() {
+        for (int i = 0; i < DerivedViewRegistry.MAX_CACHED_VIEWS * 2; i++) {
+            registry.getFilteredView(new RecordContainsEventIdPredicate(new EventId(i)));
+        }
+        assertEquals(DerivedViewRegistry.MAX_CACHED_VIEWS, registry.getCachedViewCount());
+    }
+
+    @Test
+    public void getLiveViewCount_countsViewsNotCollected() {
+        ObservableList<Record> view = registry.getFilteredView(new RecordContainsEventIdPredicate(R1.getEventId()));
+        registry.getFilteredView(new RecordContainsEventIdPredicate(R2.getEventId()));
+        assertEquals(2, registry.getLiveViewCount());
+
+        registry.release(new RecordContainsEventIdPredicate(R1.getEventId()));
+        assertEquals(2, registry.getLiveViewCount()); // still held here
+        assertEquals(Collections.singletonList(R1), view);
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.util.DateTimeUtil.COMPLETED_EVENT;
+import static seedu.address.commons.util.DateTimeUtil.ONGOING_EVENT;
+import static seedu.address.commons.util.DateTimeUtil.UPCOMING_EVENT;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.events.model.EventStatusChangedEvent;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.SettableClock;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class EventStatusSchedulerTest {
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    // runs from 02-10-2018 11:30 to 05-10-2018 17:30
+    private final Event event = new EventBuilder().build();
+    // runs from 03-10-2018 09:00 to 03-10-2018 10:00
+    private final Event shortEvent = new EventBuilder().withName("Short").withStartDate("03-10-2018")
+            .withEndDate("03-10-2018").withStartTime("09:00").withEndTime("10:00").build();
+
+    private final SettableClock clock = new SettableClock("2018-10-01T00:00:00Z");
+    private final ObservableList<Event> events = FXCollections.observableArrayList();
+
+    @Test
+    public void constructor_existingEvents_tracksStatus() {
+        events.add(event);
+        clock.set("2018-10-03T09:30:00Z");
+        events.add(shortEvent);
+
+        EventStatusScheduler scheduler = new EventStatusScheduler(events, clock);
+        assertEquals(ONGOING_EVENT, scheduler.getStatus(event));
+        assertEquals(ONGOING_EVENT, scheduler.getStatus(shortEvent));
+        assertEquals(2, scheduler.getNumOfEvents(ONGOING_EVENT));
+        assertEquals(0, scheduler.getNumOfEvents(UPCOMING_EVENT));
+    }
+
+    @Test
+    public void refresh_noBoundaryCrossed_returnsFalse() {
+        events.add(event);
+        EventStatusScheduler scheduler = new EventStatusScheduler(events, clock);
+
+        clock.set("2018-10-02T11:29:59Z");
+        assertFalse(scheduler.refresh());
+        assertEquals(UPCOMING_EVENT, scheduler.getStatus(event));
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void refresh_boundariesCrossed_updatesStatusAndPostsEvent() {
+        events.setAll(event, shortEvent);
+        EventStatusScheduler scheduler = new EventStatusScheduler(events, clock);
+        assertEquals(2, scheduler.getNumOfEvents(UPCOMING_EVENT));
+
+        // event starts
+        clock.set("2018-10-02T11:30:00Z");
+        assertTrue(scheduler.refresh());
+        assertEquals(ONGOING_EVENT, scheduler.getStatus(event));
+        assertEquals(Collections.singleton(event), scheduler.getEvents(ONGOING_EVENT));
+        EventStatusChangedEvent changedEvent =
+                (EventStatusChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Arrays.asList(event), changedEvent.changedEvents);
+
+        // short event starts and ends between refreshes; still ongoing in the last minute of an event
+        clock.set("2018-10-05T17:30:59Z");
+        assertTrue(scheduler.refresh());
+        assertEquals(COMPLETED_EVENT, scheduler.getStatus(shortEvent));
+        assertEquals(ONGOING_EVENT, scheduler.getStatus(event));
+
+        // event ends
+        clock.set("2018-10-05T17:31:00Z");
+        assertTrue(scheduler.refresh());
+        assertEquals(2, scheduler.getNumOfEvents(COMPLETED_EVENT));
+        assertEquals(Long.MAX_VALUE, scheduler.getNextTransitionMinute());
+    }
+
+    @Test
+    public void listChanged_eventsAddedAndRemoved_countsUpdated() {
+        EventStatusScheduler scheduler = new EventStatusScheduler(events, clock);
+
+        events.add(event);
+        assertEquals(1, scheduler.getNumOfEvents(UPCOMING_EVENT));
+
+        events.remove(event);
+        assertEquals(0, scheduler.getNumOfEvents(UPCOMING_EVENT));
+
+        // the transition of the removed event is skipped
+        clock.set("2018-10-03T00:00:00Z");
+        assertFalse(scheduler.refresh());
+        assertEquals(0, scheduler.getNumOfEvents(ONGOING_EVENT));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalVolunteers.ALICE;
+import static seedu.address.testutil.TypicalVolunteers.BENSON;
+import static seedu.address.testutil.TypicalVolunteers.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class KeywordIndexTest {
+    private final ObservableList<Volunteer> volunteers = FXCollections.observableArrayList(ALICE, BENSON);
+    private final KeywordIndex<Volunteer> index =
+            new KeywordIndex<>(volunteers, volunteer -> volunteer.getName().fullName);
+
+    @Test
+    public void getElementsContaining_matchingWord_returnsElements() {
+        assertEquals(Collections.singleton(ALICE), index.getElementsContaining("alice")); // different case
+        assertEquals(Collections.singleton(BENSON), index.getElementsContaining("MEIER"));
+        assertEquals(Collections.emptySet(), index.getElementsContaining("Ali")); // partial word
+    }
+
+    @Test
+    public void listChanged_elementsAddedAndRemoved_indexUpdated() {
+        volunteers.add(DANIEL);
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), index.getElementsContaining("Meier"));
+
+        volunteers.remove(BENSON);
+        assertEquals(Collections.singleton(DANIEL), index.getElementsContaining("Meier"));
+
+        Volunteer editedDaniel = new VolunteerBuilder(DANIEL).withName("Daniel Tan").build();
+        volunteers.set(volunteers.indexOf(DANIEL), editedDaniel);
+        assertEquals(Collections.emptySet(), index.getElementsContaining("Meier"));
+        assertEquals(Collections.singleton(editedDaniel), index.getElementsContaining("tan"));
+    }
+
+    @Test
+    public void containsAnyKeyword() {
+        Predicate<Volunteer> predicate = index.containsAnyKeyword(Arrays.asList("aLIce", "Kurz"));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+
+        // elements added after the predicate was created are matched
+        Volunteer alice = new VolunteerBuilder().withName("Alice Tan").build();
+        volunteers.add(alice);
+        assertTrue(predicate.test(alice));
+
+        // elements not in the list are not matched
+        assertFalse(predicate.test(new VolunteerBuilder().withName("Carl Kurz").build()));
+
+        // elements edited after the predicate was created are matched by their new text
+        Volunteer editedAlice = new VolunteerBuilder(alice).withName("Bob Tan").build();
+        volunteers.set(volunteers.indexOf(alice), editedAlice);
+        assertFalse(predicate.test(editedAlice));
+        Volunteer editedBenson = new VolunteerBuilder(BENSON).withName("Benson Kurz").build();
+        volunteers.set(volunteers.indexOf(BENSON), editedBenson);
+        assertTrue(predicate.test(editedBenson));
+    }
+
+    @Test
+    public void containsAnyKeyword_volunteersWithSameId_onlyMatchingVolunteerMatched() {
+        // same id as ALICE, but a different phone and email, so both can be in the list
+        Volunteer namesake = new VolunteerBuilder(ALICE).withName("Carl Kurz").withPhone("91234567")
+                .withEmail("carl@example.com").build();
+        volunteers.add(namesake);
+
+        Predicate<Volunteer> predicate = index.containsAnyKeyword(Arrays.asList("Kurz"));
+        assertTrue(predicate.test(namesake));
+        assertFalse(predicate.test(ALICE));
+    }
+}
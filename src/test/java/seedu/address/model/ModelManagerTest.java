@@ -18,13 +18,20 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.volunteer.NameContainsKeywordsPredicate;
+import seedu.address.model.volunteer.Volunteer;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     //// Test switch
@@ -118,6 +125,64 @@ public class ModelManagerTest {
         modelManager.getFilteredRecordList().remove(0);
     }
 
+    @Test
+    public void getIndexedVolunteerNamePredicate_volunteerRenamedWhileFiltered_filteredListUpdated() {
+        modelManager.addVolunteer(CARL);
+        modelManager.addVolunteer(DANIEL);
+        modelManager.updateFilteredVolunteerList(modelManager.getIndexedVolunteerNamePredicate(
+                Arrays.asList("kurz")));
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredVolunteerList());
+
+        Volunteer editedDaniel = new VolunteerBuilder(DANIEL).withName("Daniel Kurz").build();
+        modelManager.updateVolunteer(DANIEL, editedDaniel);
+        assertEquals(Arrays.asList(CARL, editedDaniel), modelManager.getFilteredVolunteerList());
+    }
+
+    @Test
+    public void commitTransaction_noTransaction_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        modelManager.commitTransaction();
+    }
+
+    @Test
+    public void commitTransaction_multipleChanges_raisesSingleEventAndCommit() {
+        modelManager.beginTransaction();
+        modelManager.addVolunteer(CARL);
+        modelManager.addEvent(BLOOD);
+        modelManager.commitAddressBook();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.commitTransaction();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+        assertTrue(modelManager.hasVolunteer(CARL));
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredVolunteerList());
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasVolunteer(CARL));
+        assertFalse(modelManager.hasEvent(BLOOD));
+    }
+
+    @Test
+    public void commitTransaction_nestedTransaction_defersUntilOutermost() {
+        modelManager.beginTransaction();
+        modelManager.beginTransaction();
+        modelManager.addVolunteer(CARL);
+        modelManager.commitTransaction();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.commitTransaction();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void commitTransaction_noChanges_raisesNoEvent() {
+        modelManager.beginTransaction();
+        modelManager.commitTransaction();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder()
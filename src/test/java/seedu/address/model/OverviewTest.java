@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.testutil.SettableClock;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class OverviewTest {
+    private final SettableClock clock = new SettableClock("2018-10-01T00:00:00Z");
+    private final ObservableList<Volunteer> volunteers = FXCollections.observableArrayList();
+    private final ObservableList<Event> events = FXCollections.observableArrayList();
+
+    // turns 15 on 02-10-2018
+    private final Volunteer child = new VolunteerBuilder().withVolunteerId("T0312345A").withGender("m")
+            .withBirthday("02-10-2003").build();
+    private final Volunteer adult = new VolunteerBuilder().withVolunteerId("S9312345B").withGender("f")
+            .withBirthday("01-02-1993").build();
+
+    @Test
+    public void constructor_existingVolunteers_counted() {
+        volunteers.setAll(child, adult);
+        Overview overview = createOverview();
+
+        assertEquals(1, overview.getNumOfMale());
+        assertEquals(1, overview.getNumOfFemale());
+        assertEquals(1, overview.getNumOfChildren());
+        assertEquals(1, overview.getNumOfAdult());
+    }
+
+    @Test
+    public void volunteersChanged_countsUpdated() {
+        Overview overview = createOverview();
+
+        volunteers.add(child);
+        volunteers.add(adult);
+        assertEquals(1, overview.getNumOfMale());
+        assertEquals(1, overview.getNumOfChildren());
+
+        volunteers.remove(child);
+        assertEquals(0, overview.getNumOfMale());
+        assertEquals(0, overview.getNumOfChildren());
+        assertEquals(1, overview.getNumOfFemale());
+        assertEquals(1, overview.getNumOfAdult());
+    }
+
+    @Test
+    public void calculateVolunteerDemographics_dateChanged_regroupsByAge() {
+        volunteers.add(child);
+        Overview overview = createOverview();
+
+        // same date
+        clock.set("2018-10-01T23:59:59Z");
+        overview.calculateVolunteerDemographics();
+        assertEquals(1, overview.getNumOfChildren());
+
+        // child has turned 15
+        clock.set("2018-10-02T00:00:00Z");
+        overview.calculateVolunteerDemographics();
+        assertEquals(0, overview.getNumOfChildren());
+        assertEquals(1, overview.getNumOfYouth());
+
+        // removed volunteer is uncounted from the group as of the new date
+        volunteers.remove(child);
+        assertEquals(0, overview.getNumOfYouth());
+    }
+
+    private Overview createOverview() {
+        return new Overview(volunteers, new EventStatusScheduler(events, clock), clock);
+    }
+}
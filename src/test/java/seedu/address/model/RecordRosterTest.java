@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalVolunteers.ALICE;
+import static seedu.address.testutil.TypicalVolunteers.BENSON;
+import static seedu.address.testutil.TypicalVolunteers.CARL;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.record.Record;
+import seedu.address.model.record.RecordContainsEventIdPredicate;
+import seedu.address.model.record.RosterRow;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.testutil.RecordBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class RecordRosterTest {
+    private static final Record ALICE_RECORD = new RecordBuilder().withEventId(1)
+            .withVolunteerId(ALICE.getVolunteerId().id).build();
+    private static final Record BENSON_RECORD = new RecordBuilder().withEventId(1)
+            .withVolunteerId(BENSON.getVolunteerId().id).build();
+    private static final Record CARL_RECORD = new RecordBuilder().withEventId(2)
+            .withVolunteerId(CARL.getVolunteerId().id).build();
+
+    private final ObservableList<Volunteer> volunteers = FXCollections.observableArrayList(ALICE, BENSON);
+    private final ObservableList<Record> records =
+            FXCollections.observableArrayList(ALICE_RECORD, BENSON_RECORD, CARL_RECORD);
+    private final RecordRoster roster = new RecordRoster(records, volunteers);
+
+    @Test
+    public void constructor_joinsRecordsWithTheirVolunteers() {
+        assertEquals(Arrays.asList(new RosterRow(ALICE_RECORD, ALICE), new RosterRow(BENSON_RECORD, BENSON),
+                new RosterRow(CARL_RECORD, null)), roster.asUnmodifiableObservableList());
+        assertEquals(ALICE.getName().fullName, roster.asUnmodifiableObservableList().get(0).getVolunteerName());
+        assertEquals("", roster.asUnmodifiableObservableList().get(2).getPhoneNo());
+    }
+
+    @Test
+    public void recordsChanged_rowsUpdated() {
+        RosterRow bensonRow = roster.asUnmodifiableObservableList().get(1);
+
+        records.remove(ALICE_RECORD);
+        records.add(0, CARL_RECORD);
+        assertEquals(Arrays.asList(new RosterRow(CARL_RECORD, null), new RosterRow(BENSON_RECORD, BENSON),
+                new RosterRow(CARL_RECORD, null)), roster.asUnmodifiableObservableList());
+        assertSame(bensonRow, roster.asUnmodifiableObservableList().get(1)); // other rows are kept
+
+        records.sort((first, second) -> second.getVolunteerId().id.compareTo(first.getVolunteerId().id));
+        assertEquals(Arrays.asList(new RosterRow(CARL_RECORD, null), new RosterRow(CARL_RECORD, null),
+                new RosterRow(BENSON_RECORD, BENSON)), roster.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void volunteersChanged_rowsOfTheirRecordsUpdated() {
+        RosterRow bensonRow = roster.asUnmodifiableObservableList().get(1);
+
+        volunteers.add(CARL);
+        assertEquals(new RosterRow(CARL_RECORD, CARL), roster.asUnmodifiableObservableList().get(2));
+
+        Volunteer editedAlice = new VolunteerBuilder(ALICE).withName("Alice Tan").build();
+        volunteers.set(0, editedAlice);
+        assertEquals("Alice Tan", roster.asUnmodifiableObservableList().get(0).getVolunteerName());
+        assertSame(bensonRow, roster.asUnmodifiableObservableList().get(1)); // other rows are kept
+
+        volunteers.remove(editedAlice);
+        assertEquals(new RosterRow(ALICE_RECORD, null), roster.asUnmodifiableObservableList().get(0));
+
+        // records and volunteers are not modified
+        assertEquals(Arrays.asList(ALICE_RECORD, BENSON_RECORD, CARL_RECORD), records);
+    }
+
+    @Test
+    public void filteredRecords_followsFilter() {
+        FilteredList<Record> filteredRecords = new FilteredList<>(records);
+        RecordRoster filteredRoster = new RecordRoster(filteredRecords, volunteers);
+
+        filteredRecords.setPredicate(new RecordContainsEventIdPredicate(CARL_RECORD.getEventId()));
+        assertEquals(Arrays.asList(new RosterRow(CARL_RECORD, null)), filteredRoster.asUnmodifiableObservableList());
+
+        filteredRecords.setPredicate(record -> true);
+        volunteers.add(CARL);
+        assertEquals(Arrays.asList(new RosterRow(ALICE_RECORD, ALICE), new RosterRow(BENSON_RECORD, BENSON),
+                new RosterRow(CARL_RECORD, CARL)), filteredRoster.asUnmodifiableObservableList());
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerAddressBook;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import seedu.address.commons.events.model.AddressBookLoadProgressEvent;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.testutil.TypicalEvents;
+import seedu.address.testutil.TypicalRecords;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class StagedAddressBookLoaderTest {
+
+    private final Queue<Runnable> uiTasks = new ArrayDeque<>();
+    private final List<AddressBookLoadProgressEvent> progressEvents = new ArrayList<>();
+    private final VersionedAddressBook target = new VersionedAddressBook(new AddressBook());
+
+    private AddressBook getTypicalAddressBook() {
+        AddressBook addressBook = getTypicalVolunteerAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(addressBook::addEvent);
+        TypicalRecords.getTypicalRecords().forEach(addressBook::addRecord);
+        return addressBook;
+    }
+
+    private StagedAddressBookLoader createLoader(CompletableFuture<ReadOnlyAddressBook> data) {
+        return new StagedAddressBookLoader(data, target, uiTasks::add, progressEvents::add);
+    }
+
+    private void runUiTask() {
+        uiTasks.remove().run();
+    }
+
+    @Test
+    public void loader_dataRead_addsSectionsInOrder() {
+        AddressBook addressBook = getTypicalAddressBook();
+        StagedAddressBookLoader loader = createLoader(CompletableFuture.completedFuture(addressBook));
+
+        runUiTask();
+        assertEquals(addressBook.getVolunteerList(), target.getVolunteerList());
+        assertTrue(target.getEventList().isEmpty());
+        assertFalse(loader.isFinished());
+
+        runUiTask();
+        assertEquals(addressBook.getEventList(), target.getEventList());
+        assertTrue(target.getRecordList().isEmpty());
+
+        runUiTask();
+        assertEquals(addressBook, new AddressBook(target));
+        assertTrue(loader.isFinished());
+        assertTrue(uiTasks.isEmpty());
+        assertTrue(progressEvents.get(progressEvents.size() - 1).isFinished());
+
+        // the loaded data is the earliest state
+        assertFalse(target.canUndo());
+        target.removeVolunteer(addressBook.getVolunteerList().get(0));
+        target.commit();
+        target.undo();
+        assertEquals(addressBook, new AddressBook(target));
+    }
+
+    @Test
+    public void loader_largeSection_addedInBatches() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < StagedAddressBookLoader.BATCH_SIZE + 1; i++) {
+            Volunteer volunteer = new VolunteerBuilder().withVolunteerId(String.format("S%07dA", i)).build();
+            addressBook.addVolunteer(volunteer);
+        }
+        StagedAddressBookLoader loader = createLoader(CompletableFuture.completedFuture(addressBook));
+
+        runUiTask();
+        assertEquals(StagedAddressBookLoader.BATCH_SIZE, target.getVolunteerList().size());
+        assertEquals(StagedAddressBookLoader.BATCH_SIZE, progressEvents.get(0).loadedCount);
+        assertEquals(StagedAddressBookLoader.BATCH_SIZE + 1, progressEvents.get(0).totalCount);
+
+        runUiTask();
+        assertEquals(addressBook, new AddressBook(target));
+        assertTrue(loader.isFinished());
+    }
+
+    @Test
+    public void awaitLoaded_sectionsStillLoading_addedAtOnce() {
+        AddressBook addressBook = getTypicalAddressBook();
+        StagedAddressBookLoader loader = createLoader(CompletableFuture.completedFuture(addressBook));
+
+        loader.awaitLoaded(EnumSet.of(AddressBookSection.EVENTS));
+        assertEquals(addressBook.getVolunteerList(), target.getVolunteerList());
+        assertEquals(addressBook.getEventList(), target.getEventList());
+        assertTrue(target.getRecordList().isEmpty());
+
+        // the pending task carries on with the records
+        runUiTask();
+        assertEquals(addressBook, new AddressBook(target));
+        assertTrue(loader.isFinished());
+    }
+
+    @Test
+    public void awaitLoaded_dataNotYetRead_waitsForData() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        CompletableFuture<ReadOnlyAddressBook> data = new CompletableFuture<>();
+        StagedAddressBookLoader loader = createLoader(data);
+
+        Thread reader = new Thread(() -> data.complete(addressBook));
+        reader.start();
+        loader.awaitLoaded(EnumSet.allOf(AddressBookSection.class));
+        reader.join();
+
+        assertEquals(addressBook, new AddressBook(target));
+        assertTrue(loader.isFinished());
+        runUiTask();
+        assertEquals(addressBook, new AddressBook(target));
+    }
+
+    @Test
+    public void awaitLoaded_noSections_returnsImmediately() {
+        StagedAddressBookLoader loader = createLoader(new CompletableFuture<>());
+        loader.awaitLoaded(EnumSet.noneOf(AddressBookSection.class));
+        assertFalse(loader.isFinished());
+    }
+
+    @Test
+    public void loader_readFailed_emptyAddressBook() {
+        CompletableFuture<ReadOnlyAddressBook> data = new CompletableFuture<>();
+        data.completeExceptionally(new IllegalStateException());
+        StagedAddressBookLoader loader = createLoader(data);
+
+        runUiTask();
+        assertEquals(new AddressBook(), new AddressBook(target));
+        assertTrue(loader.isFinished());
+    }
+}
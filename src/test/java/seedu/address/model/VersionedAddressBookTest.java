@@ -14,6 +14,7 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.VersionedAddressBook.HistoryMode;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class VersionedAddressBookTest {
@@ -207,6 +208,97 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undo_afterIncrementalChanges_restoresPreviousState() {
+        ReadOnlyAddressBook addressBookWithAmyAndBob = new AddressBookBuilder().withVolunteer(AMY).withVolunteer(BOB)
+                .build();
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy);
+        versionedAddressBook.addVolunteer(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.removeVolunteer(AMY);
+        versionedAddressBook.addVolunteer(CARL);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy, addressBookWithAmyAndBob),
+                new AddressBookBuilder().withVolunteer(BOB).withVolunteer(CARL).build(),
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undoRedo_operationLogMode_replaysEdits() {
+        ReadOnlyAddressBook addressBookWithAmyAndBob = new AddressBookBuilder().withVolunteer(AMY).withVolunteer(BOB)
+                .build();
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy,
+                HistoryMode.OPERATION_LOG, Integer.MAX_VALUE, Long.MAX_VALUE);
+        versionedAddressBook.addVolunteer(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.removeVolunteer(AMY);
+        versionedAddressBook.updateVolunteer(BOB, CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(emptyAddressBook);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy, addressBookWithAmyAndBob, addressBookWithCarl),
+                emptyAddressBook,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_operationLogModeWithUncommittedEdits_revertsUncommittedEditsFirst() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook,
+                HistoryMode.OPERATION_LOG, Integer.MAX_VALUE, Long.MAX_VALUE);
+        versionedAddressBook.addVolunteer(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addVolunteer(BOB);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void commit_entryCapExceeded_oldestStatesEvicted() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, historyMode,
+                    2, Long.MAX_VALUE);
+            versionedAddressBook.resetData(addressBookWithAmy);
+            versionedAddressBook.commit();
+            versionedAddressBook.resetData(addressBookWithBob);
+            versionedAddressBook.commit();
+            versionedAddressBook.resetData(addressBookWithCarl);
+            versionedAddressBook.commit();
+
+            assertAddressBookListStatus(versionedAddressBook,
+                    Arrays.asList(addressBookWithAmy, addressBookWithBob),
+                    addressBookWithCarl,
+                    Collections.emptyList());
+        }
+    }
+
+    @Test
+    public void commit_byteCapExceeded_oldestStatesEvicted() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            // each commit below adds and removes one volunteer
+            VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy, historyMode,
+                    Integer.MAX_VALUE, 3 * VersionedAddressBook.ESTIMATED_BYTES_PER_CHANGED_ELEMENT);
+            versionedAddressBook.updateVolunteer(AMY, BOB);
+            versionedAddressBook.commit();
+            assertTrue(versionedAddressBook.canUndo());
+            versionedAddressBook.updateVolunteer(BOB, CARL);
+            versionedAddressBook.commit();
+
+            assertAddressBookListStatus(versionedAddressBook,
+                    Collections.singletonList(addressBookWithBob),
+                    addressBookWithCarl,
+                    Collections.emptyList());
+            assertTrue(versionedAddressBook.getEstimatedHistoryBytes()
+                    <= 3 * VersionedAddressBook.ESTIMATED_BYTES_PER_CHANGED_ELEMENT);
+        }
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -1,5 +1,6 @@
 package seedu.address.model.event;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -57,4 +58,22 @@ public class DateTest {
         assertTrue(Date.isValidDate("29-02-2020")); // leap year 2020
         assertTrue(Date.isValidDate("29-02-2024")); // leap year 2024
     }
+
+    @Test
+    public void isLessThanOrEqualTo() {
+        Date date = new Date("15-06-2018");
+
+        assertTrue(date.isLessThanOrEqualTo(date)); // same object
+        assertTrue(date.isLessThanOrEqualTo(new Date("15-06-2018"))); // same date
+        assertTrue(date.isLessThanOrEqualTo(new Date("16-06-2018"))); // later day
+        assertTrue(date.isLessThanOrEqualTo(new Date("01-01-2019"))); // later year, earlier day and month
+        assertFalse(date.isLessThanOrEqualTo(new Date("14-06-2018"))); // earlier day
+        assertFalse(date.isLessThanOrEqualTo(new Date("31-12-2017"))); // earlier year, later day and month
+    }
+
+    @Test
+    public void toEpochDay() {
+        assertEquals(0, new Date("01-01-1970").toEpochDay());
+        assertEquals(17697, new Date("15-06-2018").toEpochDay());
+    }
 }
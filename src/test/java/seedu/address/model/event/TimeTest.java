@@ -1,5 +1,6 @@
 package seedu.address.model.event;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -47,4 +48,22 @@ public class TimeTest {
         assertTrue(Time.isValidTime("0:00")); // 12:00 AM
         assertTrue(Time.isValidTime("23:59")); // 11:59 PM
     }
+
+    @Test
+    public void isLessThanOrEqualTo() {
+        Time time = new Time("10:30");
+
+        assertTrue(time.isLessThanOrEqualTo(time)); // same object
+        assertTrue(time.isLessThanOrEqualTo(new Time("10:30"))); // same time
+        assertTrue(time.isLessThanOrEqualTo(new Time("11:00"))); // later hour, earlier minute
+        assertFalse(time.isLessThanOrEqualTo(new Time("10:29"))); // earlier minute
+        assertFalse(time.isLessThanOrEqualTo(new Time("9:45"))); // earlier single-digit hour
+    }
+
+    @Test
+    public void getMinuteOfDay() {
+        assertEquals(0, new Time("00:00").getMinuteOfDay());
+        assertEquals(9 * 60 + 5, new Time("9:05").getMinuteOfDay());
+        assertEquals(23 * 60 + 59, new Time("23:59").getMinuteOfDay());
+    }
 }
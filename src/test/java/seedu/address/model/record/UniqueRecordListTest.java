@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_HOUR_H2;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_REMARK_R2;
 import static seedu.address.testutil.TypicalRecords.R1;
 import static seedu.address.testutil.TypicalRecords.R2;
+import static seedu.address.testutil.TypicalRecords.R3;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -16,8 +17,11 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.event.EventId;
 import seedu.address.model.record.exceptions.DuplicateRecordException;
 import seedu.address.model.record.exceptions.RecordNotFoundException;
+import seedu.address.model.volunteer.VolunteerId;
 import seedu.address.testutil.RecordBuilder;
 
 public class UniqueRecordListTest {
@@ -177,6 +181,111 @@ public class UniqueRecordListTest {
         uniqueRecordList.setRecords(listWithDuplicateRecords);
     }
 
+    @Test
+    public void remove_recordWithSameIdentityButDifferentFields_throwsRecordNotFoundException() {
+        uniqueRecordList.add(R1);
+        Record editedRecord = new RecordBuilder(R1).withHour(VALID_HOUR_H2).build();
+        thrown.expect(RecordNotFoundException.class);
+        uniqueRecordList.remove(editedRecord);
+    }
+
+    @Test
+    public void setRecord_editedRecordHasDifferentIdentity_previousIdentityReleased() {
+        uniqueRecordList.add(R1);
+        uniqueRecordList.setRecord(R1, R2);
+        assertFalse(uniqueRecordList.contains(R1));
+        uniqueRecordList.add(R1);
+        assertTrue(uniqueRecordList.contains(R1));
+    }
+
+    @Test
+    public void getRecordsForEvent_nullEventId_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueRecordList.getRecordsForEvent(null);
+    }
+
+    @Test
+    public void getRecordsForEvent_eventWithRecords_returnsRecordsInOrder() {
+        uniqueRecordList.setRecords(Arrays.asList(R1, R2, R3));
+        assertEquals(Arrays.asList(R2, R3), uniqueRecordList.getRecordsForEvent(R2.getEventId()));
+        assertEquals(Collections.emptyList(), uniqueRecordList.getRecordsForEvent(new EventId(99)));
+    }
+
+    @Test
+    public void getRecordsForEvent_afterRemove_excludesRemovedRecord() {
+        uniqueRecordList.setRecords(Arrays.asList(R1, R2, R3));
+        List<Record> eventRecords = uniqueRecordList.getRecordsForEvent(R2.getEventId());
+        uniqueRecordList.remove(R2);
+        assertEquals(Collections.singletonList(R3), uniqueRecordList.getRecordsForEvent(R2.getEventId()));
+        // previously returned lists are unaffected
+        assertEquals(Arrays.asList(R2, R3), eventRecords);
+    }
+
+    @Test
+    public void getRecordsForVolunteer_afterSetRecord_returnsEditedRecord() {
+        uniqueRecordList.setRecords(Arrays.asList(R1, R2));
+        Record editedRecord = new RecordBuilder(R1).withEventId(2).build();
+        uniqueRecordList.setRecord(R1, editedRecord);
+        assertEquals(Collections.singletonList(editedRecord),
+                uniqueRecordList.getRecordsForVolunteer(R1.getVolunteerId()));
+        assertEquals(Arrays.asList(R2, editedRecord), uniqueRecordList.getRecordsForEvent(new EventId(2)));
+        assertEquals(Collections.emptyList(), uniqueRecordList.getRecordsForVolunteer(new VolunteerId("S0000000Z")));
+    }
+
+    @Test
+    public void getRecordsForVolunteer_modifyList_throwsUnsupportedOperationException() {
+        uniqueRecordList.add(R1);
+        thrown.expect(UnsupportedOperationException.class);
+        uniqueRecordList.getRecordsForVolunteer(R1.getVolunteerId()).remove(0);
+    }
+
+    @Test
+    public void removeIf_nullPredicate_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueRecordList.removeIf(null);
+    }
+
+    @Test
+    public void removeIf_noMatchingRecords_returnsFalse() {
+        uniqueRecordList.add(R1);
+        assertFalse(uniqueRecordList.removeIf(record -> false));
+        assertEquals(Collections.singletonList(R1), uniqueRecordList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeIf_matchingRecords_removedInSingleChange() {
+        uniqueRecordList.setRecords(Arrays.asList(R1, R2, R3));
+        int[] changeCount = {0};
+        uniqueRecordList.asUnmodifiableObservableList().addListener((ListChangeListener<Record>) change ->
+                changeCount[0]++);
+
+        assertTrue(uniqueRecordList.removeIf(new RecordContainsEventIdPredicate(R2.getEventId())));
+
+        UniqueRecordList expectedUniqueRecordList = new UniqueRecordList();
+        expectedUniqueRecordList.add(R1);
+        assertEquals(expectedUniqueRecordList, uniqueRecordList);
+        assertEquals(1, changeCount[0]);
+        assertEquals(Collections.emptyList(), uniqueRecordList.getRecordsForEvent(R2.getEventId()));
+        assertFalse(uniqueRecordList.contains(R3));
+    }
+
+    @Test
+    public void endBatch_addedRecords_publishedInSingleChange() {
+        int[] changeCount = {0};
+        uniqueRecordList.asUnmodifiableObservableList().addListener((ListChangeListener<Record>) change ->
+                changeCount[0]++);
+
+        uniqueRecordList.beginBatch();
+        uniqueRecordList.add(R1);
+        uniqueRecordList.add(R2);
+        assertTrue(uniqueRecordList.contains(R2));
+        assertEquals(0, changeCount[0]);
+
+        uniqueRecordList.endBatch();
+        assertEquals(Arrays.asList(R1, R2), uniqueRecordList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -1,8 +1,11 @@
 package seedu.address.model.volunteer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -58,4 +61,15 @@ public class BirthdayTest {
         assertTrue(Birthday.isValidBirthday("29-02-2004")); // leap year 2020
         assertTrue(Birthday.isValidBirthday("29-02-2008")); // leap year 2024
     }
+
+    @Test
+    public void getAgeOn() {
+        Birthday birthday = new Birthday("15-06-2000");
+
+        assertEquals(0, birthday.getAgeOn(LocalDate.of(2000, 6, 15))); // day of birth
+        assertEquals(17, birthday.getAgeOn(LocalDate.of(2018, 6, 14))); // day before birthday
+        assertEquals(18, birthday.getAgeOn(LocalDate.of(2018, 6, 15))); // on birthday
+        assertEquals(17, birthday.getAgeOn(LocalDate.of(2018, 5, 20))); // earlier month, later day
+        assertEquals(18, birthday.getAgeOn(LocalDate.of(2018, 7, 1))); // later month, earlier day
+    }
 }
@@ -2,12 +2,14 @@ package seedu.address.model.volunteer;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_DRIVER;
 import static seedu.address.testutil.TypicalVolunteers.ALICE;
 import static seedu.address.testutil.TypicalVolunteers.BOB;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -15,6 +17,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.volunteer.exceptions.DuplicateVolunteerException;
 import seedu.address.model.volunteer.exceptions.VolunteerNotFoundException;
 import seedu.address.testutil.VolunteerBuilder;
 
@@ -55,6 +58,13 @@ public class UniqueVolunteerListTest {
         uniqueVolunteerList.add(null);
     }
 
+    @Test
+    public void add_duplicateVolunteer_throwsDuplicateVolunteerException() {
+        uniqueVolunteerList.add(ALICE);
+        thrown.expect(DuplicateVolunteerException.class);
+        uniqueVolunteerList.add(ALICE);
+    }
+
     @Test
     public void setVolunteer_nullTargetVolunteer_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -102,6 +112,22 @@ public class UniqueVolunteerListTest {
         assertEquals(expectedUniqueVolunteerList, uniqueVolunteerList);
     }
 
+    @Test
+    public void setVolunteer_editedVolunteerHasNonUniqueIdentity_throwsDuplicateVolunteerException() {
+        uniqueVolunteerList.add(ALICE);
+        uniqueVolunteerList.add(BOB);
+        thrown.expect(DuplicateVolunteerException.class);
+        uniqueVolunteerList.setVolunteer(ALICE, BOB);
+    }
+
+    @Test
+    public void setVolunteer_editedVolunteerHasDifferentIdentity_previousIdentityReleased() {
+        uniqueVolunteerList.add(ALICE);
+        uniqueVolunteerList.setVolunteer(ALICE, BOB);
+        assertFalse(uniqueVolunteerList.contains(ALICE));
+        assertTrue(uniqueVolunteerList.contains(BOB));
+    }
+
     @Test
     public void remove_nullVolunteer_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -153,6 +179,39 @@ public class UniqueVolunteerListTest {
         assertEquals(expectedUniqueVolunteerList, uniqueVolunteerList);
     }
 
+    @Test
+    public void setVolunteers_listWithDuplicateVolunteers_throwsDuplicateVolunteerException() {
+        List<Volunteer> listWithDuplicateVolunteers = Arrays.asList(ALICE, ALICE);
+        thrown.expect(DuplicateVolunteerException.class);
+        uniqueVolunteerList.setVolunteers(listWithDuplicateVolunteers);
+    }
+
+    @Test
+    public void setVolunteers_list_replacesIdentityIndex() {
+        uniqueVolunteerList.add(ALICE);
+        uniqueVolunteerList.setVolunteers(Collections.singletonList(BOB));
+        assertFalse(uniqueVolunteerList.contains(ALICE));
+        uniqueVolunteerList.add(ALICE);
+        uniqueVolunteerList.remove(BOB);
+        UniqueVolunteerList expectedUniqueVolunteerList = new UniqueVolunteerList();
+        expectedUniqueVolunteerList.add(ALICE);
+        assertEquals(expectedUniqueVolunteerList, uniqueVolunteerList);
+    }
+
+    @Test
+    public void getVersion_changesOnlyWhenContentsChange() {
+        long emptyVersion = uniqueVolunteerList.getVersion();
+        assertEquals(emptyVersion, uniqueVolunteerList.getVersion());
+        assertNotEquals(emptyVersion, new UniqueVolunteerList().getVersion());
+
+        uniqueVolunteerList.add(ALICE);
+        long addedVersion = uniqueVolunteerList.getVersion();
+        assertNotEquals(emptyVersion, addedVersion);
+
+        uniqueVolunteerList.remove(ALICE);
+        assertNotEquals(addedVersion, uniqueVolunteerList.getVersion());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
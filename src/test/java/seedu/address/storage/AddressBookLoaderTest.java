@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalEvents.BLOOD;
+import static seedu.address.testutil.TypicalRecords.R1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.volunteer.Name;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.testutil.RecordBuilder;
+import seedu.address.testutil.TypicalEvents;
+import seedu.address.testutil.TypicalRecords;
+import seedu.address.testutil.TypicalVolunteers;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class AddressBookLoaderTest {
+    // enough entities to be converted in parallel
+    private static final int MANY = 1000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static List<Volunteer> getManyVolunteers() {
+        List<Volunteer> volunteers = new ArrayList<>();
+        for (int i = 0; i < MANY; i++) {
+            volunteers.add(new VolunteerBuilder().withVolunteerId(String.format("S%07dA", i))
+                    .withPhone(String.format("9%07d", i)).withEmail("volunteer" + i + "@example.com").build());
+        }
+        return volunteers;
+    }
+
+    private static List<XmlAdaptedVolunteer> toAdaptedVolunteers(List<Volunteer> volunteers) {
+        return volunteers.stream().map(XmlAdaptedVolunteer::new).collect(Collectors.toList());
+    }
+
+    private static XmlAdaptedVolunteer getInvalidVolunteer() {
+        return new XmlAdaptedVolunteer("R@chel", "S1234567A", "m", "01-01-1990", "91234567", "rachel@example.com",
+                "Clementi", Collections.emptyList());
+    }
+
+    @Test
+    public void load_typicalEntities_success() throws Exception {
+        AddressBook expected = TypicalVolunteers.getTypicalVolunteerAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(expected::addEvent);
+        TypicalRecords.getTypicalRecords().forEach(expected::addRecord);
+
+        XmlSerializableAddressBook serializable = new XmlSerializableAddressBook(expected);
+        assertEquals(expected, serializable.toModelType());
+    }
+
+    @Test
+    public void load_manyEntities_sameOrderAsFile() throws Exception {
+        List<Volunteer> volunteers = getManyVolunteers();
+        AddressBook expected = new AddressBook();
+        volunteers.forEach(expected::addVolunteer);
+        expected.addEvent(BLOOD);
+        volunteers.forEach(volunteer -> expected.addRecord(new RecordBuilder().withEventId(BLOOD.getEventId().id)
+                .withVolunteerId(volunteer.getVolunteerId().id).build()));
+        List<XmlAdaptedRecord> records = expected.getRecordList().stream().map(XmlAdaptedRecord::new)
+                .collect(Collectors.toList());
+
+        assertEquals(expected, AddressBookLoader.load(toAdaptedVolunteers(volunteers),
+                Collections.singletonList(new XmlAdaptedEvent(BLOOD)), records));
+    }
+
+    @Test
+    public void load_duplicateBeforeInvalidVolunteer_throwsDuplicateMessage() throws Exception {
+        List<Volunteer> volunteers = getManyVolunteers();
+        volunteers.set(MANY / 2, new VolunteerBuilder(volunteers.get(1)).withName("Other Name").build());
+        List<XmlAdaptedVolunteer> adaptedVolunteers = toAdaptedVolunteers(volunteers);
+        adaptedVolunteers.set(MANY - 1, getInvalidVolunteer());
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_VOLUNTEER);
+        AddressBookLoader.load(adaptedVolunteers, Collections.emptyList(), Collections.emptyList());
+    }
+
+    @Test
+    public void load_invalidBeforeDuplicateVolunteer_throwsInvalidMessage() throws Exception {
+        List<Volunteer> volunteers = getManyVolunteers();
+        volunteers.set(MANY - 1, volunteers.get(1));
+        List<XmlAdaptedVolunteer> adaptedVolunteers = toAdaptedVolunteers(volunteers);
+        adaptedVolunteers.set(MANY / 2, getInvalidVolunteer());
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Name.MESSAGE_NAME_CONSTRAINTS);
+        AddressBookLoader.load(adaptedVolunteers, Collections.emptyList(), Collections.emptyList());
+    }
+
+    @Test
+    public void load_invalidVolunteerAndDuplicateEvent_throwsInvalidMessage() throws Exception {
+        List<XmlAdaptedVolunteer> adaptedVolunteers = toAdaptedVolunteers(getManyVolunteers());
+        adaptedVolunteers.set(MANY - 1, getInvalidVolunteer());
+        List<XmlAdaptedEvent> events = new ArrayList<>();
+        events.add(new XmlAdaptedEvent(BLOOD));
+        events.add(new XmlAdaptedEvent(BLOOD));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Name.MESSAGE_NAME_CONSTRAINTS);
+        AddressBookLoader.load(adaptedVolunteers, events, Collections.emptyList());
+    }
+
+    @Test
+    public void load_duplicateEvents_throwsDuplicateMessage() throws Exception {
+        List<XmlAdaptedEvent> events = new ArrayList<>();
+        events.add(new XmlAdaptedEvent(BLOOD));
+        events.add(new XmlAdaptedEvent(BLOOD));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+        AddressBookLoader.load(Collections.emptyList(), events, Collections.emptyList());
+    }
+
+    @Test
+    public void load_duplicateRecords_throwsDuplicateMessage() throws Exception {
+        List<XmlAdaptedRecord> records = new ArrayList<>();
+        records.add(new XmlAdaptedRecord(R1));
+        records.add(new XmlAdaptedRecord(new RecordBuilder(R1).withHour("99").build()));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_RECORD);
+        AddressBookLoader.load(Collections.emptyList(), Collections.emptyList(), records);
+    }
+}
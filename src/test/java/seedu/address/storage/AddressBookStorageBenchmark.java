@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.RecordBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+/**
+ * Measures how long each address book storage takes to save and read a large address book, and how large its
+ * data file is. This is not run as part of the tests; run its {@code main} method, optionally with the number of
+ * volunteers and the number of rounds as arguments.
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int DEFAULT_VOLUNTEER_COUNT = 20000;
+    private static final int DEFAULT_ROUND_COUNT = 5;
+    private static final int EVENT_COUNT = 200;
+    private static final int RECORDS_PER_VOLUNTEER = 3;
+
+    public static void main(String[] args) throws Exception {
+        int volunteerCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VOLUNTEER_COUNT;
+        int roundCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUND_COUNT;
+        AddressBook addressBook = getLargeAddressBook(volunteerCount);
+
+        Path folder = Files.createTempDirectory("AddressBookStorageBenchmark");
+        Map<String, AddressBookStorage> storages = new LinkedHashMap<>();
+        storages.put("xml (jaxb)", new XmlAddressBookStorage(folder.resolve("ab.jaxb.xml")));
+        storages.put("xml (streaming)", new StreamingXmlAddressBookStorage(folder.resolve("ab.xml")));
+        storages.put("binary", new BinaryAddressBookStorage(folder.resolve("ab.bin")));
+        storages.put("json", new JsonAddressBookStorage(folder.resolve("ab.json")));
+        storages.put("json (gzip)", new JsonAddressBookStorage(folder.resolve("ab.json.gz"), true));
+
+        System.out.println(volunteerCount + " volunteers, " + EVENT_COUNT + " events, "
+                + addressBook.getRecordList().size() + " records, best of " + roundCount + " rounds");
+        for (Map.Entry<String, AddressBookStorage> entry : storages.entrySet()) {
+            AddressBookStorage storage = entry.getValue();
+            long bestSaveNanos = Long.MAX_VALUE;
+            long bestReadNanos = Long.MAX_VALUE;
+            for (int round = 0; round < roundCount; round++) {
+                long start = System.nanoTime();
+                storage.saveAddressBook(addressBook);
+                bestSaveNanos = Math.min(bestSaveNanos, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                if (!addressBook.equals(new AddressBook(storage.readAddressBook().get()))) {
+                    throw new IllegalStateException(entry.getKey() + " did not read back what it saved");
+                }
+                bestReadNanos = Math.min(bestReadNanos, System.nanoTime() - start);
+            }
+            System.out.println(String.format("%-16s save %6d ms  read %6d ms  %8d KB", entry.getKey(),
+                    bestSaveNanos / 1000000, bestReadNanos / 1000000, getFileSize(storage) / 1024));
+        }
+    }
+
+    /**
+     * Returns an address book with {@code volunteerCount} volunteers, each with a few records.
+     */
+    private static AddressBook getLargeAddressBook(int volunteerCount) {
+        AddressBook addressBook = new AddressBook();
+        Event[] events = new Event[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events[i] = new EventBuilder().withName("Event " + i).withTags("charity").build();
+            addressBook.addEvent(events[i]);
+        }
+        for (int i = 0; i < volunteerCount; i++) {
+            String volunteerId = String.format("S%07dA", i);
+            Volunteer volunteer = new VolunteerBuilder().withName("Volunteer " + i).withVolunteerId(volunteerId)
+                    .withPhone(String.format("9%07d", i)).withEmail("volunteer" + i + "@example.com")
+                    .withTags("student").build();
+            addressBook.addVolunteer(volunteer);
+            for (int j = 0; j < RECORDS_PER_VOLUNTEER; j++) {
+                addressBook.addRecord(new RecordBuilder().withVolunteerId(volunteerId)
+                        .withEventId(events[(i + j) % EVENT_COUNT].getEventId().id).withHour("" + (j + 1))
+                        .build());
+            }
+        }
+        return addressBook;
+    }
+
+    private static long getFileSize(AddressBookStorage storage) throws IOException {
+        return Files.size(storage.getAddressBookFilePath());
+    }
+}
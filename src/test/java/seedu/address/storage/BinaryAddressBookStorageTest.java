@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalVolunteers.ALICE;
+import static seedu.address.testutil.TypicalVolunteers.HOON;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.RecordBuilder;
+import seedu.address.testutil.TypicalEvents;
+import seedu.address.testutil.TypicalRecords;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    private AddressBook getTypicalAddressBook() {
+        AddressBook addressBook = getTypicalVolunteerAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(addressBook::addEvent);
+        TypicalRecords.getTypicalRecords().forEach(addressBook::addRecord);
+        return addressBook;
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "socialcare.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "socialcare.xml")));
+        assertEquals(Paths.get("data", "socialcare.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "socialcare")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(getTempFilePath("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(TEST_DATA_FOLDER.resolve("NotXmlFormatAddressBook.xml")).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = getTempFilePath("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        // an hour that is not written back the same way from its number
+        original.addRecord(new RecordBuilder().withEventId(1).withVolunteerId(HOON.getVolunteerId().id)
+                .withHour("007").build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals("007", readBack.getRecordList().get(readBack.getRecordList().size() - 1).getHour().value);
+
+        // overwrite with a smaller address book
+        original.removeVolunteer(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_saveFails_previousFileKept() throws Exception {
+        Path filePath = getTempFilePath("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        storage.readAddressBook();
+
+        // the file is replaced only once the new contents have been written in full
+        assertEquals(Arrays.asList(filePath), Files.list(testFolder.getRoot().toPath()).collect(Collectors.toList()));
+
+        // a save that cannot write its temporary file leaves the previous file as it was
+        Files.createDirectory(getTempFilePath("TempAddressBook.bin.tmp"));
+        AddressBook changed = getTypicalAddressBook();
+        changed.removeVolunteer(ALICE);
+        try {
+            storage.saveAddressBook(changed);
+            throw new AssertionError("The save should fail.");
+        } catch (IOException ioe) {
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void convertIfMissing_xmlToBinary_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        StreamingXmlAddressBookStorage xmlStorage = new StreamingXmlAddressBookStorage(getTempFilePath("ab.xml"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(getTempFilePath("ab.bin"));
+        xmlStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.convertIfMissing(xmlStorage, binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        // not converted again once the binary file exists
+        xmlStorage.saveAddressBook(new AddressBook());
+        assertFalse(AddressBookConverter.convertIfMissing(xmlStorage, binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        // and back
+        assertTrue(AddressBookConverter.convert(binaryStorage, xmlStorage));
+        assertEquals(original, new AddressBook(xmlStorage.readAddressBook().get()));
+    }
+}
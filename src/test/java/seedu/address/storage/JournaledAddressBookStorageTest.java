@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalEvents.BLOOD;
+import static seedu.address.testutil.TypicalRecords.R1;
+import static seedu.address.testutil.TypicalVolunteers.ALICE;
+import static seedu.address.testutil.TypicalVolunteers.BENSON;
+import static seedu.address.testutil.TypicalVolunteers.HOON;
+import static seedu.address.testutil.TypicalVolunteers.IDA;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class JournaledAddressBookStorageTest {
+    private static final int MAX_OPERATIONS = 100;
+    private static final long MAX_BYTES = 1024 * 1024;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getFilePath() {
+        return testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+    }
+
+    private JournaledAddressBookStorage createStorage(int maxOperations) {
+        return new JournaledAddressBookStorage(new StreamingXmlAddressBookStorage(getFilePath()), maxOperations,
+                MAX_BYTES);
+    }
+
+    private AddressBook readWithoutJournal() throws Exception {
+        return new AddressBook(new StreamingXmlAddressBookStorage(getFilePath()).readAddressBook().get());
+    }
+
+    private AddressBook readWithJournal() throws Exception {
+        return new AddressBook(createStorage(MAX_OPERATIONS).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(MAX_OPERATIONS).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(MAX_OPERATIONS);
+        AddressBook original = getTypicalVolunteerAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook firstSaved = new AddressBook(original);
+
+        original.addVolunteer(HOON);
+        original.removeVolunteer(ALICE);
+        original.updateVolunteer(BENSON, new VolunteerBuilder(BENSON).withPhone("91234567").build());
+        original.addEvent(BLOOD);
+        storage.saveAddressBook(original);
+        original.addRecord(R1);
+        storage.saveAddressBook(original);
+
+        // data file is not rewritten
+        assertEquals(firstSaved, readWithoutJournal());
+        assertEquals(original, readWithJournal());
+    }
+
+    @Test
+    public void saveAddressBook_afterReadAddressBook_continuesJournal() throws Exception {
+        AddressBook original = getTypicalVolunteerAddressBook();
+        createStorage(MAX_OPERATIONS).saveAddressBook(original);
+        original.addVolunteer(HOON);
+        JournaledAddressBookStorage storage = createStorage(MAX_OPERATIONS);
+        storage.readAddressBook();
+        storage.saveAddressBook(original);
+
+        assertEquals(getTypicalVolunteerAddressBook(), readWithoutJournal());
+        assertEquals(original, readWithJournal());
+    }
+
+    @Test
+    public void saveAddressBook_tooManyOperations_dataFileRewritten() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(1);
+        AddressBook original = getTypicalVolunteerAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addVolunteer(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(getTypicalVolunteerAddressBook(), readWithoutJournal());
+
+        original.addVolunteer(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, readWithoutJournal());
+        assertEquals(original, readWithJournal());
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_entryIgnored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(MAX_OPERATIONS);
+        AddressBook original = getTypicalVolunteerAddressBook();
+        storage.saveAddressBook(original);
+        original.addVolunteer(HOON);
+        storage.saveAddressBook(original);
+        AddressBook beforeTornEntry = new AddressBook(original);
+
+        original.addVolunteer(IDA);
+        storage.saveAddressBook(original);
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(getFilePath());
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        assertEquals(beforeTornEntry, readWithJournal());
+
+        // the torn entry is overwritten by the next save
+        JournaledAddressBookStorage reopened = createStorage(MAX_OPERATIONS);
+        reopened.readAddressBook();
+        original.removeVolunteer(HOON);
+        reopened.saveAddressBook(original);
+        assertEquals(original, readWithJournal());
+    }
+
+    @Test
+    public void readAddressBook_corruptedLastEntry_entryIgnored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(MAX_OPERATIONS);
+        AddressBook original = getTypicalVolunteerAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook beforeCorruptedEntry = new AddressBook(original);
+
+        original.addVolunteer(IDA);
+        storage.saveAddressBook(original);
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(getFilePath());
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.read(lastByte, channel.size() - 1);
+            lastByte.put(0, (byte) ~lastByte.get(0));
+            lastByte.rewind();
+            channel.write(lastByte, channel.size() - 1);
+        }
+        assertEquals(beforeCorruptedEntry, readWithJournal());
+    }
+
+    @Test
+    public void readAddressBook_dataFileReplaced_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(MAX_OPERATIONS);
+        AddressBook original = getTypicalVolunteerAddressBook();
+        storage.saveAddressBook(original);
+        original.addVolunteer(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addVolunteer(IDA);
+        new StreamingXmlAddressBookStorage(getFilePath()).saveAddressBook(replacement);
+        assertEquals(replacement, readWithJournal());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_journalNotUsed() throws Exception {
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("OtherAddressBook.xml");
+        AddressBook original = getTypicalVolunteerAddressBook();
+        createStorage(MAX_OPERATIONS).saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(
+                new StreamingXmlAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+}
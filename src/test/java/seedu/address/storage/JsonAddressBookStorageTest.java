@@ -0,0 +1,220 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalVolunteers.HOON;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.EventId;
+import seedu.address.model.volunteer.Phone;
+import seedu.address.testutil.TypicalEvents;
+import seedu.address.testutil.TypicalRecords;
+
+public class JsonAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
+
+    private static final String VALID_VOLUNTEER = "{\"name\":\"Alice Pauline\",\"volunteerId\":\"S9383064D\","
+            + "\"gender\":\"f\",\"birthday\":\"01-02-1993\",\"phone\":\"94351253\","
+            + "\"email\":\"alice@example.com\",\"address\":\"123, Jurong West Ave 6\",\"tagged\":[\"friends\"]}";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    private AddressBook getTypicalAddressBook() {
+        AddressBook addressBook = getTypicalVolunteerAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(addressBook::addEvent);
+        TypicalRecords.getTypicalRecords().forEach(addressBook::addRecord);
+        return addressBook;
+    }
+
+    private void readJson(String json) throws Exception {
+        Path filePath = getTempFilePath("TempAddressBook.json");
+        Files.write(filePath, json.getBytes(StandardCharsets.UTF_8));
+        new JsonAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void getJsonFilePath() {
+        assertEquals(Paths.get("data", "socialcare.json"),
+                JsonAddressBookStorage.getJsonFilePath(Paths.get("data", "socialcare.xml"), false));
+        assertEquals(Paths.get("data", "socialcare.json.gz"),
+                JsonAddressBookStorage.getJsonFilePath(Paths.get("data", "socialcare.xml"), true));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonAddressBookStorage(getTempFilePath("NonExistent.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notJsonFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve("NotXmlFormatAddressBook.xml")).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_notCompressed_throwsIoException() throws Exception {
+        Path filePath = getTempFilePath("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        thrown.expect(IOException.class);
+        new JsonAddressBookStorage(filePath, true).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_invalidVolunteerField_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        readJson("{\"volunteers\":[" + VALID_VOLUNTEER.replace("94351253", "+9435") + "]}");
+    }
+
+    @Test
+    public void readAddressBook_missingVolunteerField_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(XmlAdaptedVolunteer.MISSING_FIELD_MESSAGE_FORMAT,
+                Phone.class.getSimpleName()));
+        readJson("{\"volunteers\":[" + VALID_VOLUNTEER.replace("\"phone\":\"94351253\",", "") + "]}");
+    }
+
+    @Test
+    public void readAddressBook_duplicateVolunteers_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_VOLUNTEER);
+        readJson("{\"volunteers\":[" + VALID_VOLUNTEER + "," + VALID_VOLUNTEER + "]}");
+    }
+
+    @Test
+    public void readAddressBook_unknownFieldsAndMissingSections_ignored() throws Exception {
+        Path filePath = getTempFilePath("TempAddressBook.json");
+        Files.write(filePath, ("{\"version\":{\"major\":2},\"volunteers\":["
+                + VALID_VOLUNTEER.replace("}", ",\"nickname\":[\"Al\"]}") + "]}").getBytes(StandardCharsets.UTF_8));
+        AddressBook readBack = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(1, readBack.getVolunteerList().size());
+        assertTrue(readBack.getEventList().isEmpty());
+    }
+
+    @Test
+    public void readAddressBook_unknownNestedField_skipped() throws Exception {
+        // the nested fields have the names of volunteer fields, and must not be read as fields of the volunteer
+        Path filePath = getTempFilePath("TempAddressBook.json");
+        Files.write(filePath, ("{\"volunteers\":[" + VALID_VOLUNTEER.replace("}",
+                ",\"emergencyContact\":{\"phone\":\"+9435\",\"tagged\":[{\"name\":\"Bob\"}]}}")
+                + "]}").getBytes(StandardCharsets.UTF_8));
+        AddressBook readBack = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals("Alice Pauline", readBack.getVolunteerList().get(0).getName().fullName);
+        assertEquals("94351253", readBack.getVolunteerList().get(0).getPhone().value);
+    }
+
+    @Test
+    public void readAddressBook_objectAsVolunteerField_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(JsonAddressBookStorage.MESSAGE_INVALID_FORMAT);
+        readJson("{\"volunteers\":[" + VALID_VOLUNTEER.replace("\"94351253\"", "{\"name\":\"Bob\"}") + "]}");
+    }
+
+    @Test
+    public void readAddressBook_zeroEventId_throwsDataConversionException() throws Exception {
+        // an event id of 0 is present, but invalid
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(EventId.MESSAGE_NAME_CONSTRAINTS);
+        readJson("{\"records\":[{\"eventId\":0,\"volunteerId\":\"S9383064D\",\"hour\":\"1\","
+                + "\"remark\":\"Emcee\"}]}");
+    }
+
+    @Test
+    public void readAddressBook_nullEventId_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(XmlAdaptedRecord.MISSING_FIELD_MESSAGE_FORMAT,
+                EventId.class.getSimpleName()));
+        readJson("{\"records\":[{\"eventId\":null,\"volunteerId\":\"S9383064D\",\"hour\":\"1\","
+                + "\"remark\":\"Emcee\"}]}");
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = getTempFilePath("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // modify data, overwrite existing file, and read back
+        original.addVolunteer(HOON);
+        storage.saveAddressBook(original, filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(getTempFilePath("TempAddressBook.json.gz"), true);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_saveFails_previousFileKept() throws Exception {
+        Path filePath = getTempFilePath("TempAddressBook.json.gz");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, true);
+        storage.saveAddressBook(original);
+
+        // the file is replaced only once the new contents have been written in full
+        assertEquals(Arrays.asList(filePath), Files.list(testFolder.getRoot().toPath()).collect(Collectors.toList()));
+
+        // a save that cannot write its temporary file leaves the previous file as it was
+        Files.createDirectory(getTempFilePath("TempAddressBook.json.gz.tmp"));
+        AddressBook changed = getTypicalAddressBook();
+        changed.addVolunteer(HOON);
+        try {
+            storage.saveAddressBook(changed);
+            throw new AssertionError("The save should fail.");
+        } catch (IOException ioe) {
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void readAddressBook_sameDataAsXmlStorage_equal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        StreamingXmlAddressBookStorage xmlStorage = new StreamingXmlAddressBookStorage(
+                getTempFilePath("ab.xml"));
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(
+                JsonAddressBookStorage.getJsonFilePath(xmlStorage.getAddressBookFilePath(), true), true);
+        xmlStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.convertIfMissing(xmlStorage, jsonStorage));
+        assertEquals(new AddressBook(xmlStorage.readAddressBook().get()),
+                new AddressBook(jsonStorage.readAddressBook().get()));
+
+        // and back again
+        Files.delete(xmlStorage.getAddressBookFilePath());
+        assertTrue(AddressBookConverter.convertIfMissing(jsonStorage, xmlStorage));
+        assertEquals(original, new AddressBook(xmlStorage.readAddressBook().get()));
+    }
+}
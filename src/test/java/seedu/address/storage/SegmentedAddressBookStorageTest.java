@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalRecords.R1;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.RecordBuilder;
+import seedu.address.testutil.TypicalEvents;
+import seedu.address.testutil.TypicalRecords;
+
+public class SegmentedAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getManifestPath() {
+        return testFolder.getRoot().toPath().resolve("TempAddressBook.sections");
+    }
+
+    private AddressBook getTypicalAddressBook() {
+        AddressBook addressBook = getTypicalVolunteerAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(addressBook::addEvent);
+        TypicalRecords.getTypicalRecords().forEach(addressBook::addRecord);
+        return addressBook;
+    }
+
+    private Set<String> getSectionFileNames() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(".xml"))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(Paths.get("data", "socialcare.sections"),
+                SegmentedAddressBookStorage.getManifestFilePath(Paths.get("data", "socialcare.xml")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(getManifestPath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_missingSectionFile_throwsDataConversionException() throws Exception {
+        new SegmentedAddressBookStorage(getManifestPath()).saveAddressBook(getTypicalAddressBook());
+        Files.delete(testFolder.getRoot().toPath().resolve("TempAddressBook.events.0.xml"));
+
+        thrown.expect(DataConversionException.class);
+        new SegmentedAddressBookStorage(getManifestPath()).readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getManifestPath());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new SegmentedAddressBookStorage(getManifestPath())
+                .readAddressBook().get()));
+
+        // save to another file path
+        Path otherManifestPath = testFolder.getRoot().toPath().resolve("OtherAddressBook.sections");
+        storage.saveAddressBook(original, otherManifestPath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherManifestPath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_oneSectionChanged_onlyThatSectionRewritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getManifestPath());
+        storage.saveAddressBook(original.getReadOnlySnapshot());
+        Set<String> firstFileNames = getSectionFileNames();
+
+        original.updateRecord(R1, new RecordBuilder(R1).withHour("42").build());
+        storage.saveAddressBook(original.getReadOnlySnapshot());
+        Set<String> secondFileNames = getSectionFileNames();
+
+        assertTrue(secondFileNames.contains("TempAddressBook.volunteers.0.xml"));
+        assertTrue(secondFileNames.contains("TempAddressBook.events.0.xml"));
+        assertTrue(secondFileNames.contains("TempAddressBook.records.1.xml"));
+        assertFalse(secondFileNames.contains("TempAddressBook.records.0.xml"));
+        assertNotEquals(firstFileNames, secondFileNames);
+        assertEquals(original, new AddressBook(new SegmentedAddressBookStorage(getManifestPath())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_sameContentsAfterRead_nothingRewritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new SegmentedAddressBookStorage(getManifestPath()).saveAddressBook(original);
+        Set<String> savedFileNames = getSectionFileNames();
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getManifestPath());
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(readBack);
+        assertEquals(savedFileNames, getSectionFileNames());
+
+        readBack.removeRecord(R1);
+        storage.saveAddressBook(readBack);
+        assertTrue(getSectionFileNames().contains("TempAddressBook.records.1.xml"));
+        assertTrue(getSectionFileNames().contains("TempAddressBook.volunteers.0.xml"));
+    }
+
+    @Test
+    public void convertIfMissing_xmlToSegmented_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        StreamingXmlAddressBookStorage xmlStorage = new StreamingXmlAddressBookStorage(
+                testFolder.getRoot().toPath().resolve("ab.xml"));
+        SegmentedAddressBookStorage segmentedStorage = new SegmentedAddressBookStorage(
+                SegmentedAddressBookStorage.getManifestFilePath(xmlStorage.getAddressBookFilePath()));
+        xmlStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.convertIfMissing(xmlStorage, segmentedStorage));
+        assertEquals(original, new AddressBook(segmentedStorage.readAddressBook().get()));
+        assertFalse(AddressBookConverter.convertIfMissing(xmlStorage, segmentedStorage));
+    }
+}
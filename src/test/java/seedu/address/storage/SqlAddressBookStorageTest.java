@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEvents.BLOOD;
+import static seedu.address.testutil.TypicalRecords.R1;
+import static seedu.address.testutil.TypicalVolunteers.ALICE;
+import static seedu.address.testutil.TypicalVolunteers.BENSON;
+import static seedu.address.testutil.TypicalVolunteers.HOON;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.testutil.RecordBuilder;
+import seedu.address.testutil.TypicalEvents;
+import seedu.address.testutil.TypicalRecords;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class SqlAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getDatabasePath() {
+        return testFolder.getRoot().toPath().resolve("TempAddressBook.mv.db");
+    }
+
+    private AddressBook getTypicalAddressBook() {
+        AddressBook addressBook = getTypicalVolunteerAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(addressBook::addEvent);
+        TypicalRecords.getTypicalRecords().forEach(addressBook::addRecord);
+        return addressBook;
+    }
+
+    private AddressBook readBack() throws Exception {
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(getDatabasePath())) {
+            return new AddressBook(storage.readAddressBook().get());
+        }
+    }
+
+    @Test
+    public void getDatabaseFilePath() {
+        assertEquals(Paths.get("data", "socialcare.mv.db"),
+                SqlAddressBookStorage.getDatabaseFilePath(Paths.get("data", "socialcare.xml")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SqlAddressBookStorage(getDatabasePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notDatabaseFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new SqlAddressBookStorage(TEST_DATA_FOLDER.resolve("NotXmlFormatAddressBook.xml")).readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(getDatabasePath());
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack());
+
+        // save to another database
+        Path otherPath = testFolder.getRoot().toPath().resolve("OtherAddressBook.mv.db");
+        storage.saveAddressBook(original, otherPath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_changedRows_orderKept() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(getDatabasePath());
+        storage.saveAddressBook(original.getReadOnlySnapshot());
+
+        original.updateVolunteer(BENSON, new VolunteerBuilder(BENSON).withPhone("91234567").withTags().build());
+        original.removeVolunteer(ALICE);
+        original.addVolunteer(HOON);
+        original.updateRecord(R1, new RecordBuilder(R1).withHour("42").build());
+        original.removeEvent(BLOOD);
+        storage.saveAddressBook(original.getReadOnlySnapshot());
+        assertEquals(original, readBack());
+
+        // an undo puts a removed volunteer back in its place
+        AddressBook restored = new AddressBook(original);
+        List<Volunteer> volunteers = new ArrayList<>(restored.getVolunteerList());
+        volunteers.add(0, ALICE);
+        restored.setVolunteers(volunteers);
+        storage.saveAddressBook(restored);
+        assertEquals(restored, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_afterReadAddressBook_continuesFromReadRows() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new SqlAddressBookStorage(getDatabasePath()).saveAddressBook(original);
+
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(getDatabasePath());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removeRecord(R1);
+        addressBook.addRecord(R1);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_databaseChangedByOtherStorage_rewritten() throws Exception {
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(getDatabasePath());
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        new SqlAddressBookStorage(getDatabasePath()).saveAddressBook(new AddressBook());
+        original.addVolunteer(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_afterClose_reopensDatabase() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(getDatabasePath());
+        storage.saveAddressBook(original);
+        storage.close();
+        storage.close(); // closing again has no effect
+
+        original.addVolunteer(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.close();
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void convertIfMissing_xmlToSql_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        StreamingXmlAddressBookStorage xmlStorage = new StreamingXmlAddressBookStorage(
+                testFolder.getRoot().toPath().resolve("ab.xml"));
+        SqlAddressBookStorage sqlStorage = new SqlAddressBookStorage(
+                SqlAddressBookStorage.getDatabaseFilePath(xmlStorage.getAddressBookFilePath()));
+        xmlStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.convertIfMissing(xmlStorage, sqlStorage));
+        assertEquals(original, new AddressBook(sqlStorage.readAddressBook().get()));
+        assertFalse(AddressBookConverter.convertIfMissing(xmlStorage, sqlStorage));
+    }
+}
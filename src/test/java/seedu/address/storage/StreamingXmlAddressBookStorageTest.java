@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalVolunteers.ALICE;
+import static seedu.address.testutil.TypicalVolunteers.HOON;
+import static seedu.address.testutil.TypicalVolunteers.IDA;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.TypicalEvents;
+import seedu.address.testutil.TypicalRecords;
+import seedu.address.testutil.TypicalVolunteers;
+
+public class StreamingXmlAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "XmlSerializableAddressBookTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new StreamingXmlAddressBookStorage(null).readAddressBook(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(readAddressBook(TEST_DATA_FOLDER.resolve("NonExistentFile.xml")).isPresent());
+    }
+
+    @Test
+    public void read_notXmlFormat_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readAddressBook(TEST_DATA_FOLDER.resolve("NotXmlFormatAddressBook.xml"));
+    }
+
+    @Test
+    public void readAddressBook_invalidAddressBook_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readAddressBook(TEST_DATA_FOLDER.resolve("invalidVolunteerAddressBook.xml"));
+    }
+
+    @Test
+    public void readAddressBook_invalidAndValidAddressBook_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readAddressBook(TEST_DATA_FOLDER.resolve("invalidAndValidVolunteerAddressBook.xml"));
+    }
+
+    @Test
+    public void readAddressBook_typicalFiles_success() throws Exception {
+        assertEquals(TypicalVolunteers.getTypicalVolunteerAddressBook(),
+                readSerializableTestFile("typicalVolunteersAddressBook.xml"));
+        assertEquals(TypicalEvents.getTypicalAddressBook(), readSerializableTestFile("typicalEventsAddressBook.xml"));
+        assertEquals(TypicalRecords.getTypicalAddressBook(),
+                readSerializableTestFile("typicalRecordsAddressBook.xml"));
+    }
+
+    @Test
+    public void readAddressBook_duplicateEvents_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+        readSerializableTestFile("duplicateEventAddressBook.xml");
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readSerializableTestFile("invalidRecordAddressBook.xml");
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        AddressBook original = getTypicalVolunteerAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(original::addEvent);
+        TypicalRecords.getTypicalRecords().forEach(original::addRecord);
+        StreamingXmlAddressBookStorage storage = new StreamingXmlAddressBookStorage(filePath);
+
+        //Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        //Modify data, overwrite exiting file, and read back
+        original.addVolunteer(HOON);
+        original.removeVolunteer(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        //Save and read without specifying file path
+        original.addVolunteer(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_readByXmlAddressBookStorage_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        AddressBook original = getTypicalVolunteerAddressBook();
+        TypicalEvents.getTypicalEvents().forEach(original::addEvent);
+        TypicalRecords.getTypicalRecords().forEach(original::addRecord);
+
+        new StreamingXmlAddressBookStorage(filePath).saveAddressBook(original);
+        AddressBook readBack = XmlUtil.getDataFromFile(filePath, XmlSerializableAddressBook.class).toModelType();
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        Path filePath = testFolder.getRoot().toPath().resolve("SomeFile.xml");
+        new StreamingXmlAddressBookStorage(filePath).saveAddressBook(null);
+    }
+
+    private java.util.Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws Exception {
+        return new StreamingXmlAddressBookStorage(filePath).readAddressBook();
+    }
+
+    private AddressBook readSerializableTestFile(String fileName) throws Exception {
+        return new AddressBook(readAddressBook(SERIALIZABLE_TEST_DATA_FOLDER.resolve(fileName)).get());
+    }
+}
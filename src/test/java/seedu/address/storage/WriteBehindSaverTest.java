@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalVolunteers.getTypicalVolunteerAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.events.storage.DataSavedEvent;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class WriteBehindSaverTest {
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final AddressBookStorageStub storage = new AddressBookStorageStub();
+
+    @Test
+    public void flush_burstOfSubmissions_latestSavedOnce() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        AddressBook latest = getTypicalVolunteerAddressBook();
+        saver.submit(new AddressBook());
+        saver.submit(new AddressBook());
+        saver.submit(latest);
+
+        saver.flush();
+        assertEquals(Collections.singletonList(latest), storage.saved);
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavedEvent);
+
+        // nothing left to save
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void submit_debounceWindowPasses_saved() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 10, LONG_DELAY_MILLIS);
+        AddressBook addressBook = getTypicalVolunteerAddressBook();
+        saver.submit(addressBook);
+
+        assertTrue(storage.firstSave.await(10, TimeUnit.SECONDS));
+        assertSame(addressBook, storage.saved.get(0));
+    }
+
+    @Test
+    public void submit_maxDelayPasses_savedWithoutWaitingForDebounceWindow() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, 10);
+        saver.submit(new AddressBook());
+
+        assertTrue(storage.firstSave.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void flush_saveFails_dataSavingExceptionEventRaised() {
+        storage.isFailing = true;
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        saver.submit(new AddressBook());
+
+        saver.flush();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that keeps the address books saved to it in memory.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch firstSave = new CountDownLatch(1);
+        private volatile boolean isFailing;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("dummy");
+        }
+
+        @Override
+        public java.util.Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public java.util.Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            saved.add(addressBook);
+            firstSave.countDown();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.testutil;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A clock whose time can be changed by tests. Clocks derived with {@code withZone} share the time of the clock they
+ * are derived from, so changing the time of one changes the time of all of them.
+ */
+public class SettableClock extends Clock {
+    private final AtomicReference<Instant> instant; // shared with the clocks derived from this one
+    private final ZoneId zone;
+
+    /**
+     * Creates a clock in UTC at {@code instant}, given in ISO-8601 form such as {@code 2018-10-01T00:00:00Z}.
+     */
+    public SettableClock(String instant) {
+        this(new AtomicReference<>(), ZoneOffset.UTC);
+        set(instant);
+    }
+
+    private SettableClock(AtomicReference<Instant> instant, ZoneId zone) {
+        this.instant = instant;
+        this.zone = zone;
+    }
+
+    /**
+     * Moves the clock to {@code instant}, given in ISO-8601 form.
+     */
+    public void set(String instant) {
+        this.instant.set(Instant.parse(instant));
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public SettableClock withZone(ZoneId zone) {
+        return new SettableClock(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant.get();
+    }
+}
@@ -28,6 +28,23 @@ public class VolunteerCardTest extends GuiUnitTest {
         assertCardDisplay(volunteerCard, volunteerWithTags, 2);
     }
 
+    @Test
+    public void setVolunteer_cardReused_displaysNewVolunteer() {
+        Volunteer volunteerWithTags = new VolunteerBuilder().withTags("student", "friend").build();
+        VolunteerCard volunteerCard = new VolunteerCard(volunteerWithTags, 1);
+        uiPartRule.setUiPart(volunteerCard);
+
+        // fewer tags
+        Volunteer volunteerWithOneTag = new VolunteerBuilder().withName("Other Name").withTags("driver").build();
+        guiRobot.interact(() -> volunteerCard.setVolunteer(volunteerWithOneTag, 2));
+        assertCardDisplay(volunteerCard, volunteerWithOneTag, 2);
+
+        // more tags than before, reusing the labels of the earlier tags
+        guiRobot.interact(() -> volunteerCard.setVolunteer(volunteerWithTags, 3));
+        assertCardDisplay(volunteerCard, volunteerWithTags, 3);
+        assertEquals(volunteerWithTags, volunteerCard.getVolunteer());
+    }
+
     @Test
     public void equals() {
         Volunteer volunteer = new VolunteerBuilder().build();
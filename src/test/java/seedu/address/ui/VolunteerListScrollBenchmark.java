@@ -0,0 +1,142 @@
+package seedu.address.ui;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.testfx.api.FxToolkit;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import seedu.address.model.volunteer.Volunteer;
+import seedu.address.testutil.VolunteerBuilder;
+
+/**
+ * Measures the frame times and the allocation rate of the JavaFX application thread while a list of volunteers is
+ * scrolled through quickly, with cells that reuse their {@code VolunteerCard}, against cells that create a new
+ * card, loading its FXML, every time they are given a volunteer as they used to. This is not run as part of the
+ * tests; run its {@code main} method, optionally with the number of volunteers and the number of frames as
+ * arguments.
+ */
+public class VolunteerListScrollBenchmark {
+
+    private static final int DEFAULT_VOLUNTEER_COUNT = 100000;
+    private static final int DEFAULT_FRAME_COUNT = 600;
+    private static final int ROWS_PER_FRAME = 20;
+
+    public static void main(String[] args) throws Exception {
+        int volunteerCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VOLUNTEER_COUNT;
+        int frameCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FRAME_COUNT;
+        ObservableList<Volunteer> volunteers = getVolunteers(volunteerCount);
+
+        // pulses are not held back to the refresh rate, so that a frame takes as long as its work
+        System.setProperty("javafx.animation.fullspeed", "true");
+        FxToolkit.registerPrimaryStage();
+
+        ListView<Volunteer> newCardListView = new ListView<>(volunteers);
+        newCardListView.setCellFactory(listView -> new NewCardPerItemCell());
+        System.out.println(volunteerCount + " volunteers, " + frameCount + " frames, " + ROWS_PER_FRAME
+                + " rows scrolled per frame");
+        System.out.println("new card per item  " + measure(newCardListView, frameCount));
+
+        @SuppressWarnings("unchecked")
+        ListView<Volunteer> reusedCardListView =
+                (ListView<Volunteer>) new VolunteerListPanel(volunteers).getRoot().lookup("#volunteerListView");
+        System.out.println("reused cards       " + measure(reusedCardListView, frameCount));
+
+        FxToolkit.cleanupStages();
+        Platform.exit();
+    }
+
+    /**
+     * Shows {@code listView} and scrolls it by {@code ROWS_PER_FRAME} rows every frame for {@code frameCount}
+     * frames, returning the frame times and the allocation rate of the application thread.
+     */
+    private static String measure(ListView<Volunteer> listView, int frameCount) throws Exception {
+        FxToolkit.setupStage(stage -> {
+            stage.setScene(new Scene(listView, 400, 800));
+            stage.show();
+        });
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Platform.runLater(() -> new AnimationTimer() {
+            private final long[] frameNanos = new long[frameCount];
+            private final long threadId = Thread.currentThread().getId();
+            private long startAllocatedBytes;
+            private long startNanos;
+            private long lastNanos;
+            private int frame = -1;
+
+            @Override
+            public void handle(long now) {
+                long nanos = System.nanoTime();
+                if (frame < 0) {
+                    startAllocatedBytes = getAllocatedBytes(threadId);
+                    startNanos = nanos;
+                } else {
+                    frameNanos[frame] = nanos - lastNanos;
+                }
+                lastNanos = nanos;
+                frame++;
+
+                if (frame == frameCount) {
+                    stop();
+                    double seconds = (nanos - startNanos) / 1e9;
+                    double allocatedMegabytes = (getAllocatedBytes(threadId) - startAllocatedBytes) / 1e6;
+                    result.complete(summarize(frameNanos, allocatedMegabytes / seconds));
+                    return;
+                }
+                listView.scrollTo((frame * ROWS_PER_FRAME) % listView.getItems().size());
+            }
+        }.start());
+        return result.get();
+    }
+
+    private static String summarize(long[] frameNanos, double allocatedMegabytesPerSecond) {
+        long[] sorted = frameNanos.clone();
+        Arrays.sort(sorted);
+        double meanMillis = Arrays.stream(sorted).average().orElse(0) / 1e6;
+        double p99Millis = sorted[(int) (sorted.length * 0.99)] / 1e6;
+        double maxMillis = sorted[sorted.length - 1] / 1e6;
+        return String.format("frame mean %6.2f ms  p99 %6.2f ms  max %6.2f ms  allocated %8.1f MB/s",
+                meanMillis, p99Millis, maxMillis, allocatedMegabytesPerSecond);
+    }
+
+    private static long getAllocatedBytes(long threadId) {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(threadId);
+    }
+
+    private static ObservableList<Volunteer> getVolunteers(int volunteerCount) {
+        ObservableList<Volunteer> volunteers = FXCollections.observableArrayList();
+        for (int i = 0; i < volunteerCount; i++) {
+            volunteers.add(new VolunteerBuilder().withName("Volunteer " + i)
+                    .withVolunteerId(String.format("S%07dA", i)).withTags(i % 2 == 0 ? "student" : "driver")
+                    .build());
+        }
+        return volunteers;
+    }
+
+    /**
+     * A {@code ListCell} that creates a new {@code VolunteerCard} every time it is given a volunteer, as the cells
+     * of {@code VolunteerListPanel} used to.
+     */
+    private static class NewCardPerItemCell extends ListCell<Volunteer> {
+        @Override
+        protected void updateItem(Volunteer volunteer, boolean empty) {
+            super.updateItem(volunteer, empty);
+
+            if (empty || volunteer == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setGraphic(new VolunteerCard(volunteer, getIndex() + 1).getRoot());
+            }
+        }
+    }
+}